@@ -3,9 +3,11 @@ package com.blognest.blogservice;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+@SpringBootApplication(scanBasePackages = {"com.blognest.blogservice", "com.blognest.common"})
 @EnableDiscoveryClient
+@EnableScheduling
 public class BlogServiceApplication {
 
     public static void main(String[] args) {
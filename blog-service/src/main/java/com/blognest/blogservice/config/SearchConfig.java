@@ -0,0 +1,17 @@
+package com.blognest.blogservice.config;
+
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SearchConfig {
+
+    @Bean
+    public JsonpMapper jsonpMapper(ObjectMapper objectMapper) {
+        // Serialise documents like the REST API does, including java.time values as ISO strings
+        return new JacksonJsonpMapper(objectMapper.copy());
+    }
+}
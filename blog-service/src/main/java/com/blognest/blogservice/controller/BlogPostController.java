@@ -0,0 +1,190 @@
+package com.blognest.blogservice.controller;
+
+import com.blognest.blogservice.dto.BlogPostDetail;
+import com.blognest.blogservice.dto.BlogPostRequest;
+import com.blognest.blogservice.dto.BlogPostSummary;
+import com.blognest.blogservice.dto.RenderedBody;
+import com.blognest.blogservice.dto.TrendingPost;
+import com.blognest.blogservice.service.PostBodyCache;
+import com.blognest.blogservice.service.BlogPostService;
+import com.blognest.blogservice.service.TrendingService;
+import com.blognest.common.dto.ApiResponse;
+import com.blognest.common.dto.CursorPage;
+import com.blognest.common.security.UserIdentity;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/blogs")
+@RequiredArgsConstructor
+@Tag(name = "Blog Posts", description = "Blog post feed and management APIs")
+public class BlogPostController {
+
+    private static final MediaType HTML_UTF8 = MediaType.parseMediaType("text/html;charset=UTF-8");
+
+    private final BlogPostService blogPostService;
+    private final PostBodyCache postBodyCache;
+    private final TrendingService trendingService;
+
+    @GetMapping
+    @Operation(summary = "Get published posts", description = "Keyset-paginated feed of published posts, newest first")
+    public ResponseEntity<ApiResponse<CursorPage<BlogPostSummary>>> getFeed(@RequestParam(required = false) String cursor,
+                                                                           @RequestParam(defaultValue = "20") int limit) {
+        log.info("Fetching blog feed after cursor: {}", cursor);
+        ApiResponse<CursorPage<BlogPostSummary>> response = blogPostService.getFeed(cursor, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/trending")
+    @Operation(summary = "Get trending posts", description = "Published posts ranked by recent views, likes and comments")
+    public ResponseEntity<ApiResponse<List<TrendingPost>>> getTrending(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(trendingService.getTrending(limit)));
+    }
+
+    @PostMapping
+    @Operation(summary = "Create post", description = "Create a blog post authored by the current user")
+    public ResponseEntity<ApiResponse<BlogPostDetail>> createPost(@Valid @RequestBody BlogPostRequest request,
+                                                                  @AuthenticationPrincipal UserIdentity author) {
+        log.info("Creating blog post for user: {}", author.getUsername());
+        ApiResponse<BlogPostDetail> response = blogPostService.createPost(request, author);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get post", description = "Get a published post, or an unpublished one by its author")
+    public ResponseEntity<ApiResponse<BlogPostDetail>> getPost(@PathVariable Long id, Authentication authentication) {
+        log.info("Fetching blog post with ID: {}", id);
+        ApiResponse<BlogPostDetail> response = blogPostService.getPost(id, identityOf(authentication), isAdmin(authentication));
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}/body")
+    @Operation(summary = "Get rendered post body", description = "Sanitised HTML body of a published post, with a strong ETag for conditional requests")
+    public ResponseEntity<byte[]> getPostBody(@PathVariable Long id,
+                                              @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                              @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        RenderedBody body = blogPostService.getPostBody(id);
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String etag = body.etag(gzip);
+        if (matches(ifNoneMatch, etag)) {
+            postBodyCache.recordNotModified();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .build();
+        }
+
+        postBodyCache.recordServed(body, gzip);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(CacheControl.noCache())
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+            .contentType(HTML_UTF8);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip());
+        }
+        return response.body(body.html());
+    }
+
+    @GetMapping("/{id}/related")
+    @Operation(summary = "Get related posts", description = "Published posts sharing the most tags and categories with the post")
+    public ResponseEntity<ApiResponse<List<BlogPostSummary>>> getRelatedPosts(@PathVariable Long id) {
+        return ResponseEntity.ok(blogPostService.getRelatedPosts(id));
+    }
+
+    @PutMapping("/{id}")
+    @Operation(summary = "Update post", description = "Update a post; only its author or an admin may do so")
+    public ResponseEntity<ApiResponse<BlogPostDetail>> updatePost(@PathVariable Long id,
+                                                                  @Valid @RequestBody BlogPostRequest request,
+                                                                  Authentication authentication) {
+        log.info("Updating blog post with ID: {}", id);
+        ApiResponse<BlogPostDetail> response = blogPostService.updatePost(id, request, identityOf(authentication), isAdmin(authentication));
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete post", description = "Delete a post; only its author or an admin may do so")
+    public ResponseEntity<ApiResponse<Void>> deletePost(@PathVariable Long id, Authentication authentication) {
+        log.info("Deleting blog post with ID: {}", id);
+        ApiResponse<Void> response = blogPostService.deletePost(id, identityOf(authentication), isAdmin(authentication));
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/{id}/view")
+    @Operation(summary = "Record a view", description = "Count a view of the post; totals are written in batches")
+    public ResponseEntity<ApiResponse<Void>> recordView(@PathVariable Long id) {
+        ApiResponse<Void> response = blogPostService.recordView(id);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        // If-None-Match uses weak comparison, so W/"x" matches the strong tag "x"
+        return Arrays.stream(ifNoneMatch.split(","))
+            .map(String::trim)
+            .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+            .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+    }
+
+    /**
+     * Whether Accept-Encoding allows gzip: an explicit gzip entry decides, otherwise {@code *} does,
+     * and a zero or unreadable q-value rules the coding out.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double any = null;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double q = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        q = Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException ex) {
+                        q = 0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = q;
+            } else if (coding.equals("*")) {
+                any = q;
+            }
+        }
+        Double decisive = gzip != null ? gzip : any;
+        return decisive != null && decisive > 0;
+    }
+
+    private static UserIdentity identityOf(Authentication authentication) {
+        return authentication != null && authentication.getPrincipal() instanceof UserIdentity identity ? identity : null;
+    }
+
+    private static boolean isAdmin(Authentication authentication) {
+        return authentication != null && authentication.getAuthorities().stream()
+            .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+    }
+}
@@ -0,0 +1,34 @@
+package com.blognest.blogservice.controller;
+
+import com.blognest.blogservice.dto.ImportResult;
+import com.blognest.blogservice.service.BlogPostImportService;
+import com.blognest.common.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/blogs")
+@RequiredArgsConstructor
+@Tag(name = "Blog Import", description = "Bulk post import APIs")
+public class BlogPostImportController {
+
+    private final BlogPostImportService importService;
+
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "application/jsonl"})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Import posts", description = "Import posts from NDJSON, one post per line; invalid lines are reported and skipped")
+    public ResponseEntity<ApiResponse<ImportResult>> importPosts(InputStream body) throws IOException {
+        log.info("Starting bulk post import");
+        ImportResult result = importService.importPosts(body);
+        return ResponseEntity.ok(ApiResponse.success("Imported " + result.imported() + " posts", result));
+    }
+}
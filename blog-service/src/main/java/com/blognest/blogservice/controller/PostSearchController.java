@@ -0,0 +1,42 @@
+package com.blognest.blogservice.controller;
+
+import com.blognest.blogservice.dto.PostSearchResult;
+import com.blognest.blogservice.dto.Suggestions;
+import com.blognest.blogservice.search.PostSearchService;
+import com.blognest.blogservice.search.PostSuggestionService;
+import com.blognest.common.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/blogs/search")
+@RequiredArgsConstructor
+@Tag(name = "Blog Search", description = "Full-text search over published posts")
+public class PostSearchController {
+
+    private final PostSearchService postSearchService;
+    private final PostSuggestionService postSuggestionService;
+
+    @GetMapping
+    @Operation(summary = "Search posts", description = "Relevance-ranked search over title, excerpt and content with highlights, tag and category facets and cursor paging")
+    public ResponseEntity<ApiResponse<PostSearchResult>> search(@RequestParam(required = false) String q,
+                                                                @RequestParam(required = false) String tag,
+                                                                @RequestParam(required = false) String category,
+                                                                @RequestParam(required = false) String cursor,
+                                                                @RequestParam(defaultValue = "20") int limit) {
+        log.debug("Searching posts for: {}", q);
+        return ResponseEntity.ok(ApiResponse.success(postSearchService.search(q, tag, category, cursor, limit)));
+    }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "Suggest as you type", description = "Post titles, tags and categories with a word starting with the prefix, served from memory")
+    public ResponseEntity<ApiResponse<Suggestions>> suggest(@RequestParam String prefix,
+                                                            @RequestParam(defaultValue = "8") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(postSuggestionService.suggest(prefix, limit)));
+    }
+}
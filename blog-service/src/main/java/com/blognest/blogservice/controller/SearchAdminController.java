@@ -0,0 +1,39 @@
+package com.blognest.blogservice.controller;
+
+import com.blognest.blogservice.search.ReindexStatus;
+import com.blognest.blogservice.search.SearchReindexService;
+import com.blognest.common.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/search")
+@RequiredArgsConstructor
+@Tag(name = "Search Administration", description = "Search index maintenance APIs")
+public class SearchAdminController {
+
+    private final SearchReindexService reindexService;
+
+    @PostMapping("/reindex")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Reindex posts", description = "Rebuild the search index into a new version and swap the alias, resuming an unfinished run")
+    public ResponseEntity<ApiResponse<ReindexStatus>> reindex() {
+        log.info("Starting search reindex");
+        ReindexStatus status = reindexService.start();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success("Reindex started", status));
+    }
+
+    @GetMapping("/reindex")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get reindex progress", description = "Progress and throughput of the current or last reindex")
+    public ResponseEntity<ApiResponse<ReindexStatus>> getReindexStatus() {
+        return ResponseEntity.ok(ApiResponse.success(reindexService.status()));
+    }
+}
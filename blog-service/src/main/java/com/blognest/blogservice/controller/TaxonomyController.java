@@ -0,0 +1,35 @@
+package com.blognest.blogservice.controller;
+
+import com.blognest.blogservice.dto.TermCount;
+import com.blognest.blogservice.service.TaxonomyCountService;
+import com.blognest.common.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@Tag(name = "Taxonomy", description = "Tag and category APIs")
+public class TaxonomyController {
+
+    private final TaxonomyCountService taxonomyCountService;
+
+    @GetMapping("/tags/cloud")
+    @Operation(summary = "Get tag cloud", description = "Most used tags with their published post counts")
+    public ResponseEntity<ApiResponse<List<TermCount>>> getTagCloud() {
+        return ResponseEntity.ok(ApiResponse.success(taxonomyCountService.getTagCloud()));
+    }
+
+    @GetMapping("/categories/cloud")
+    @Operation(summary = "Get category cloud", description = "Most used categories with their published post counts")
+    public ResponseEntity<ApiResponse<List<TermCount>>> getCategoryCloud() {
+        return ResponseEntity.ok(ApiResponse.success(taxonomyCountService.getCategoryCloud()));
+    }
+}
@@ -0,0 +1,38 @@
+package com.blognest.blogservice.dto;
+
+import com.blognest.blogservice.entity.BlogPost;
+import com.blognest.blogservice.entity.Category;
+import com.blognest.blogservice.entity.Tag;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record BlogPostDetail(
+    Long id,
+    String title,
+    String content,
+    String excerpt,
+    String featuredImage,
+    Long authorId,
+    String authorUsername,
+    BlogPost.Status status,
+    Long viewCount,
+    Long likeCount,
+    Long commentCount,
+    List<String> categories,
+    List<String> tags,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    LocalDateTime publishedAt,
+    LocalDateTime scheduledAt
+) {
+
+    public static BlogPostDetail from(BlogPost post) {
+        return new BlogPostDetail(post.getId(), post.getTitle(), post.getContent(), post.getExcerpt(),
+            post.getFeaturedImage(), post.getAuthorId(), post.getAuthorUsername(), post.getStatus(),
+            post.getViewCount(), post.getLikeCount(), post.getCommentCount(),
+            post.getCategories().stream().map(Category::getName).sorted().toList(),
+            post.getTags().stream().map(Tag::getName).sorted().toList(),
+            post.getCreatedAt(), post.getUpdatedAt(), post.getPublishedAt(), post.getScheduledAt());
+    }
+}
@@ -0,0 +1,50 @@
+package com.blognest.blogservice.dto;
+
+import com.blognest.blogservice.entity.BlogPost;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * One line of an NDJSON post import. Unlike {@link BlogPostRequest} it names the author and may
+ * carry the original publish time.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlogPostImportRow {
+
+    @NotBlank(message = "Title is required")
+    @Size(min = 5, max = 200, message = "Title must be between 5 and 200 characters")
+    private String title;
+
+    @NotBlank(message = "Content is required")
+    private String content;
+
+    @Size(max = 500, message = "Excerpt must be at most 500 characters")
+    private String excerpt;
+
+    private String featuredImage;
+
+    @NotNull(message = "Author id is required")
+    private Long authorId;
+
+    @NotBlank(message = "Author username is required")
+    private String authorUsername;
+
+    private BlogPost.Status status;
+
+    private LocalDateTime publishedAt;
+
+    private Set<Long> categoryIds;
+
+    private Set<Long> tagIds;
+}
@@ -0,0 +1,42 @@
+package com.blognest.blogservice.dto;
+
+import com.blognest.blogservice.entity.BlogPost;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlogPostRequest {
+
+    @NotBlank(message = "Title is required")
+    @Size(min = 5, max = 200, message = "Title must be between 5 and 200 characters")
+    private String title;
+
+    @NotBlank(message = "Content is required")
+    private String content;
+
+    @Size(max = 500, message = "Excerpt must be at most 500 characters")
+    private String excerpt;
+
+    private String featuredImage;
+
+    private BlogPost.Status status;
+
+    /** Publishes the post at this time; only honoured for drafts. */
+    @Future(message = "Scheduled publish time must be in the future")
+    private LocalDateTime scheduledAt;
+
+    private Set<Long> categoryIds;
+
+    private Set<Long> tagIds;
+}
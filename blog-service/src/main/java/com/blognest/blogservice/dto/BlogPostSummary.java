@@ -0,0 +1,37 @@
+package com.blognest.blogservice.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Feed entry for a published post. Selected column by column so listing never reads the
+ * {@code content} TEXT column; category and tag names are attached afterwards with one query per
+ * association for the whole page.
+ */
+public record BlogPostSummary(
+    Long id,
+    String title,
+    String excerpt,
+    String featuredImage,
+    Long authorId,
+    String authorUsername,
+    Long viewCount,
+    Long likeCount,
+    Long commentCount,
+    LocalDateTime publishedAt,
+    List<String> categories,
+    List<String> tags
+) {
+
+    public BlogPostSummary(Long id, String title, String excerpt, String featuredImage, Long authorId,
+                           String authorUsername, Long viewCount, Long likeCount, Long commentCount,
+                           LocalDateTime publishedAt) {
+        this(id, title, excerpt, featuredImage, authorId, authorUsername, viewCount, likeCount, commentCount,
+            publishedAt, List.of(), List.of());
+    }
+
+    public BlogPostSummary withTaxonomy(List<String> categories, List<String> tags) {
+        return new BlogPostSummary(id, title, excerpt, featuredImage, authorId, authorUsername, viewCount, likeCount,
+            commentCount, publishedAt, categories, tags);
+    }
+}
@@ -0,0 +1,13 @@
+package com.blognest.blogservice.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. {@code errors} lists rejected lines up to a limit; {@code failed}
+ * counts all of them.
+ */
+public record ImportResult(long imported, long failed, List<RowError> errors) {
+
+    public record RowError(long line, String message) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.blognest.blogservice.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Publish time of a scheduled draft.
+ */
+public record PostSchedule(Long id, LocalDateTime scheduledAt) {
+}
@@ -0,0 +1,21 @@
+package com.blognest.blogservice.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A matching post with highlighted fragments per field. Fragments are HTML-escaped apart from the
+ * {@code <mark>} tags around matched terms.
+ */
+public record PostSearchHit(
+    Long id,
+    String title,
+    String excerpt,
+    String authorUsername,
+    List<String> categories,
+    List<String> tags,
+    LocalDateTime publishedAt,
+    Map<String, List<String>> highlights
+) {
+}
@@ -0,0 +1,22 @@
+package com.blognest.blogservice.dto;
+
+import java.util.List;
+
+/**
+ * One page of search hits. Facets are only computed for the first page and are empty on later
+ * ones; {@code total} is exact up to {@link #TOTAL_LIMIT} and a lower bound above it.
+ */
+public record PostSearchResult(
+    List<PostSearchHit> hits,
+    long total,
+    List<FacetCount> tags,
+    List<FacetCount> categories,
+    String nextCursor,
+    boolean hasMore
+) {
+
+    public static final int TOTAL_LIMIT = 10_000;
+
+    public record FacetCount(String value, long count) {
+    }
+}
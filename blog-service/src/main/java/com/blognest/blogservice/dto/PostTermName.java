@@ -0,0 +1,7 @@
+package com.blognest.blogservice.dto;
+
+/**
+ * Name of a category or tag attached to a post, as loaded for a page of listings.
+ */
+public record PostTermName(Long postId, String name) {
+}
@@ -0,0 +1,22 @@
+package com.blognest.blogservice.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Sanitised HTML body of a post at one {@code updatedAt}, with its gzip encoding and a strong ETag
+ * over the bytes. {@code etag} validates the identity encoding.
+ */
+public record RenderedBody(Long postId, LocalDateTime updatedAt, String etag, byte[] html, byte[] gzip) {
+
+    /**
+     * The strong ETag of one encoding; the gzip bytes are a different representation, so they get
+     * a tag of their own.
+     */
+    public String etag(boolean gzip) {
+        return gzip ? etag.substring(0, etag.length() - 1) + "-gzip\"" : etag;
+    }
+
+    public int weight() {
+        return html.length + gzip.length;
+    }
+}
@@ -0,0 +1,8 @@
+package com.blognest.blogservice.dto;
+
+/**
+ * A typeahead match: the id and text of a post title, tag or category, and the weight it was
+ * ranked by.
+ */
+public record Suggestion(long id, String text, long weight) {
+}
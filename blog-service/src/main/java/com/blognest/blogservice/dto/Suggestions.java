@@ -0,0 +1,6 @@
+package com.blognest.blogservice.dto;
+
+import java.util.List;
+
+public record Suggestions(List<Suggestion> posts, List<Suggestion> tags, List<Suggestion> categories) {
+}
@@ -0,0 +1,7 @@
+package com.blognest.blogservice.dto;
+
+/**
+ * Tag or category with the number of published posts carrying it.
+ */
+public record TermCount(Long id, String name, String slug, long postCount) {
+}
@@ -0,0 +1,7 @@
+package com.blognest.blogservice.dto;
+
+/**
+ * A trending post with its time-decayed engagement score as of the last ranking refresh.
+ */
+public record TrendingPost(BlogPostSummary post, double score) {
+}
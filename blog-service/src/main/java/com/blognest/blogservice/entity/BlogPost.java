@@ -5,8 +5,12 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
@@ -16,16 +20,23 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "blog_posts")
+@Table(name = "blog_posts", indexes = {
+    @Index(name = "idx_blog_posts_status_published_at_id", columnList = "status, published_at, id"),
+    @Index(name = "idx_blog_posts_status_scheduled_at", columnList = "status, scheduled_at")
+})
 @Document(indexName = "blog_posts")
-@Data
+@Getter
+@Setter
+@ToString
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class BlogPost {
 
+    // Pooled sequence ids let Hibernate batch inserts, which identity columns rule out
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "blog_posts_seq")
+    @SequenceGenerator(name = "blog_posts_seq", sequenceName = "blog_posts_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Title is required")
@@ -35,6 +46,7 @@ public class BlogPost {
     private String title;
 
     @NotBlank(message = "Content is required")
+    @ToString.Exclude
     @Column(columnDefinition = "TEXT", nullable = false)
     @Field(type = FieldType.Text, analyzer = "standard")
     private String content;
@@ -56,13 +68,20 @@ public class BlogPost {
     @Column(nullable = false)
     private Status status;
 
-    @Column(name = "view_count")
+    /**
+     * Counters are only changed by relative updates such as {@link com.blognest.blogservice.service.ViewCounter}'s,
+     * so saving an edited post never writes back a total that was stale when it was loaded.
+     */
+    @Column(name = "view_count", updatable = false)
+    @Builder.Default
     private Long viewCount = 0L;
 
-    @Column(name = "like_count")
+    @Column(name = "like_count", updatable = false)
+    @Builder.Default
     private Long likeCount = 0L;
 
-    @Column(name = "comment_count")
+    @Column(name = "comment_count", updatable = false)
+    @Builder.Default
     private Long commentCount = 0L;
 
     @Column(name = "created_at")
@@ -74,6 +93,22 @@ public class BlogPost {
     @Column(name = "published_at")
     private LocalDateTime publishedAt;
 
+    /**
+     * External version of the post's search document: epoch millis of its last write, and always
+     * above the previous version, so it only grows whatever the zone or clock does.
+     */
+    @Column(name = "index_version", nullable = false)
+    private long indexVersion;
+
+    /** When a draft is due to be published automatically; cleared once it is. */
+    @Column(name = "scheduled_at")
+    private LocalDateTime scheduledAt;
+
+    // Lazy loads for a list of posts are batched into one IN query per association
+    @Builder.Default
+    @ToString.Exclude
+    @BatchSize(size = 50)
+    @Field(type = FieldType.Keyword)
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "blog_post_categories",
@@ -82,6 +117,10 @@ public class BlogPost {
     )
     private Set<Category> categories = new HashSet<>();
 
+    @Builder.Default
+    @ToString.Exclude
+    @BatchSize(size = 50)
+    @Field(type = FieldType.Keyword)
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "blog_post_tags",
@@ -90,11 +129,20 @@ public class BlogPost {
     )
     private Set<Tag> tags = new HashSet<>();
 
+    /**
+     * The index version of the post's next write, which outranks every earlier one.
+     */
+    public long nextIndexVersion() {
+        return Math.max(System.currentTimeMillis(), indexVersion + 1);
+    }
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
-        if (status == Status.PUBLISHED) {
+        indexVersion = nextIndexVersion();
+        // Imported posts keep their original publish time
+        if (status == Status.PUBLISHED && publishedAt == null) {
             publishedAt = LocalDateTime.now();
         }
     }
@@ -102,11 +150,29 @@ public class BlogPost {
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        indexVersion = nextIndexVersion();
         if (status == Status.PUBLISHED && publishedAt == null) {
             publishedAt = LocalDateTime.now();
         }
     }
 
+    // Identity is the database id; the class hash stays stable when a new entity gets its id on persist
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) {
+            return false;
+        }
+        return id != null && id.equals(((BlogPost) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Hibernate.getClass(this).hashCode();
+    }
+
     public enum Status {
         DRAFT, PUBLISHED, ARCHIVED
     }
@@ -0,0 +1,55 @@
+package com.blognest.blogservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * One entry of a post's precomputed related-posts list, {@code rank} 0 being the most similar.
+ * The primary key makes a post's list one index range read in rank order; the index on
+ * {@code related_post_id} finds the lists a changed post appears in.
+ */
+@Entity
+@Table(name = "related_posts", indexes = {
+    @Index(name = "idx_related_posts_related_post_id", columnList = "related_post_id")
+})
+@IdClass(RelatedPost.Key.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RelatedPost {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Id
+    @Column(name = "rank")
+    private Integer rank;
+
+    @Column(name = "related_post_id", nullable = false)
+    private Long relatedPostId;
+
+    /** Jaccard overlap of the two posts' tags and categories. */
+    @Column(nullable = false)
+    private double score;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private Long postId;
+
+        private Integer rank;
+    }
+}
@@ -0,0 +1,72 @@
+package com.blognest.blogservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Pending change to the search index, written in the same transaction as the post change and
+ * removed once the indexing worker has applied it.
+ */
+@Entity
+@Table(name = "search_outbox", indexes = {
+    @Index(name = "idx_search_outbox_next_attempt_at_id", columnList = "next_attempt_at, id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "search_outbox_seq")
+    @SequenceGenerator(name = "search_outbox_seq", sequenceName = "search_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Operation operation;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * Index version of a deletion, taken from the post when it was deleted, since the worker can no
+     * longer read it from the post.
+     */
+    @Column(name = "index_version")
+    private Long indexVersion;
+
+    public static SearchOutboxEvent of(Long postId, Operation operation) {
+        LocalDateTime now = LocalDateTime.now();
+        return SearchOutboxEvent.builder()
+            .postId(postId)
+            .operation(operation)
+            .createdAt(now)
+            .nextAttemptAt(now)
+            .build();
+    }
+
+    public static SearchOutboxEvent deletion(BlogPost post) {
+        SearchOutboxEvent event = of(post.getId(), Operation.DELETE);
+        event.setIndexVersion(post.nextIndexVersion());
+        return event;
+    }
+
+    public enum Operation {
+        UPSERT, DELETE
+    }
+}
@@ -0,0 +1,56 @@
+package com.blognest.blogservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Checkpoint of one id range of a running reindex. Posts with {@code lowerId < id <= lastId} are
+ * already in {@code targetIndex}; a resumed job continues after {@code lastId}. Rows are removed
+ * once the job has swapped the alias.
+ */
+@Entity
+@Table(name = "search_reindex_slices", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_search_reindex_slices_target_slice", columnNames = {"target_index", "slice"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchReindexSlice {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "target_index", nullable = false)
+    private String targetIndex;
+
+    @Column(nullable = false)
+    private int slice;
+
+    @Column(name = "lower_id", nullable = false)
+    private long lowerId;
+
+    @Column(name = "upper_id", nullable = false)
+    private long upperId;
+
+    @Column(name = "last_id", nullable = false)
+    private long lastId;
+
+    @Column(nullable = false)
+    private long documents;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
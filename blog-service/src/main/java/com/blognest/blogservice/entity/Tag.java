@@ -5,16 +5,23 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "tags")
-@Data
+@Table(name = "tags", indexes = {
+    @Index(name = "idx_tags_published_post_count", columnList = "published_post_count")
+})
+@Getter
+@Setter
+@ToString
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -35,12 +42,19 @@ public class Tag {
     @Column(name = "slug", unique = true)
     private String slug;
 
+    /** Published posts carrying this tag, maintained incrementally and reconciled periodically. */
+    @Builder.Default
+    @Column(name = "published_post_count", nullable = false)
+    private long publishedPostCount = 0;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Builder.Default
+    @ToString.Exclude
     @ManyToMany(mappedBy = "tags")
     private Set<BlogPost> blogPosts = new HashSet<>();
 
@@ -54,4 +68,20 @@ public class Tag {
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
     }
-} 
\ No newline at end of file
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) {
+            return false;
+        }
+        return id != null && id.equals(((Tag) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Hibernate.getClass(this).hashCode();
+    }
+}
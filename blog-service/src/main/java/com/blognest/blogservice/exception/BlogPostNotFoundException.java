@@ -0,0 +1,11 @@
+package com.blognest.blogservice.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class BlogPostNotFoundException extends RuntimeException {
+    public BlogPostNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,73 @@
+package com.blognest.blogservice.repository;
+
+import com.blognest.blogservice.dto.BlogPostSummary;
+import com.blognest.blogservice.dto.PostSchedule;
+import com.blognest.blogservice.dto.PostTermName;
+import com.blognest.blogservice.entity.BlogPost;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BlogPostRepository extends JpaRepository<BlogPost, Long> {
+
+    String SUMMARY_SELECT =
+        "SELECT new com.blognest.blogservice.dto.BlogPostSummary(p.id, p.title, p.excerpt, p.featuredImage, " +
+        "p.authorId, p.authorUsername, p.viewCount, p.likeCount, p.commentCount, p.publishedAt) FROM BlogPost p";
+
+    @Query(SUMMARY_SELECT + " WHERE p.status = :status ORDER BY p.publishedAt DESC, p.id DESC")
+    List<BlogPostSummary> findFeed(@Param("status") BlogPost.Status status, Pageable pageable);
+
+    // The redundant publishedAt <= bound keeps the seek an index range on (status, published_at, id)
+    @Query(SUMMARY_SELECT + " WHERE p.status = :status AND p.publishedAt <= :publishedAt " +
+           "AND (p.publishedAt < :publishedAt OR p.id < :id) " +
+           "ORDER BY p.publishedAt DESC, p.id DESC")
+    List<BlogPostSummary> findFeedAfter(@Param("status") BlogPost.Status status,
+                                        @Param("publishedAt") LocalDateTime publishedAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE p.status = :status AND p.id IN :ids")
+    List<BlogPostSummary> findSummariesByIdIn(@Param("status") BlogPost.Status status, @Param("ids") Collection<Long> ids);
+
+    @Query(SUMMARY_SELECT + " JOIN RelatedPost r ON r.relatedPostId = p.id " +
+           "WHERE r.postId = :postId AND p.status = :status ORDER BY r.rank")
+    List<BlogPostSummary> findRelatedSummaries(@Param("postId") Long postId, @Param("status") BlogPost.Status status);
+
+    @Query("SELECT new com.blognest.blogservice.dto.PostTermName(p.id, c.name) FROM BlogPost p JOIN p.categories c " +
+           "WHERE p.id IN :postIds ORDER BY c.name")
+    List<PostTermName> findCategoryNamesByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    @Query("SELECT new com.blognest.blogservice.dto.PostTermName(p.id, t.name) FROM BlogPost p JOIN p.tags t " +
+           "WHERE p.id IN :postIds ORDER BY t.name")
+    List<PostTermName> findTagNamesByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    @Query("SELECT new com.blognest.blogservice.dto.PostSchedule(p.id, p.scheduledAt) FROM BlogPost p " +
+           "WHERE p.status = :status AND p.scheduledAt <= :until")
+    List<PostSchedule> findSchedulesDueBefore(@Param("status") BlogPost.Status status,
+                                              @Param("until") LocalDateTime until);
+
+    /**
+     * Claims scheduled posts that are due. SKIP LOCKED (lock timeout -2) lets every replica
+     * publish a disjoint batch instead of queueing behind the same rows.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT p FROM BlogPost p WHERE p.status = :status AND p.scheduledAt <= :now ORDER BY p.scheduledAt, p.id")
+    List<BlogPost> lockDueScheduled(@Param("status") BlogPost.Status status,
+                                    @Param("now") LocalDateTime now,
+                                    Pageable pageable);
+
+    @Query("SELECT DISTINCT p FROM BlogPost p LEFT JOIN FETCH p.categories LEFT JOIN FETCH p.tags WHERE p.id IN :ids")
+    List<BlogPost> findAllWithTaxonomyByIdIn(@Param("ids") Collection<Long> ids);
+}
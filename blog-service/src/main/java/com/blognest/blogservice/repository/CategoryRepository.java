@@ -0,0 +1,34 @@
+package com.blognest.blogservice.repository;
+
+import com.blognest.blogservice.dto.TermCount;
+import com.blognest.blogservice.entity.Category;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CategoryRepository extends JpaRepository<Category, Long> {
+
+    String PUBLISHED_COUNT_SQL =
+        "SELECT COUNT(*) FROM blog_post_categories j JOIN blog_posts p ON p.id = j.post_id " +
+        "WHERE j.category_id = t.id AND p.status = 'PUBLISHED'";
+
+    @Query("SELECT new com.blognest.blogservice.dto.TermCount(t.id, t.name, t.slug, t.publishedPostCount) " +
+           "FROM Category t WHERE t.publishedPostCount > 0 ORDER BY t.publishedPostCount DESC, t.name")
+    List<TermCount> findCloud(Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Category t SET t.publishedPostCount = t.publishedPostCount + :delta WHERE t.id IN :ids")
+    int adjustPublishedPostCount(@Param("ids") Collection<Long> ids, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE categories t SET published_post_count = (" + PUBLISHED_COUNT_SQL + ") " +
+                   "WHERE published_post_count <> (" + PUBLISHED_COUNT_SQL + ")", nativeQuery = true)
+    int reconcilePublishedPostCounts();
+}
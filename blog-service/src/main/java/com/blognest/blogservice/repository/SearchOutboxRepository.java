@@ -0,0 +1,41 @@
+package com.blognest.blogservice.repository;
+
+import com.blognest.blogservice.entity.SearchOutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SearchOutboxRepository extends JpaRepository<SearchOutboxEvent, Long> {
+
+    /**
+     * Claims the oldest due events. A lock timeout of -2 is Hibernate's SKIP LOCKED, so concurrent
+     * workers take disjoint batches instead of waiting on each other.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM SearchOutboxEvent e WHERE e.nextAttemptAt <= :now ORDER BY e.id")
+    List<SearchOutboxEvent> lockDueEvents(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Hides claimed events from other workers until {@code until}, so their row locks can be
+     * released while they are being applied.
+     */
+    @Modifying
+    @Query("UPDATE SearchOutboxEvent e SET e.nextAttemptAt = :until WHERE e.id IN :ids")
+    int lease(@Param("ids") Collection<Long> ids, @Param("until") LocalDateTime until);
+
+    @Query("SELECT MIN(e.createdAt) FROM SearchOutboxEvent e")
+    LocalDateTime findOldestCreatedAt();
+}
@@ -0,0 +1,21 @@
+package com.blognest.blogservice.repository;
+
+import com.blognest.blogservice.entity.SearchReindexSlice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SearchReindexSliceRepository extends JpaRepository<SearchReindexSlice, Long> {
+
+    List<SearchReindexSlice> findAllByOrderBySlice();
+
+    /**
+     * The index an unfinished reindex is building, if any; its slices all share one target, and
+     * should stale rows ever remain the newest version comes first.
+     */
+    @Query("SELECT DISTINCT s.targetIndex FROM SearchReindexSlice s ORDER BY s.targetIndex DESC")
+    List<String> findTargetIndices();
+}
@@ -0,0 +1,35 @@
+package com.blognest.blogservice.search;
+
+import com.blognest.blogservice.entity.BlogPost;
+import com.blognest.blogservice.entity.Category;
+import com.blognest.blogservice.entity.Tag;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Search index representation of a published post.
+ */
+public record BlogPostDocument(
+    Long id,
+    String title,
+    String content,
+    String excerpt,
+    Long authorId,
+    String authorUsername,
+    List<String> categories,
+    List<String> tags,
+    Long viewCount,
+    Long likeCount,
+    Long commentCount,
+    LocalDateTime publishedAt
+) {
+
+    public static BlogPostDocument from(BlogPost post) {
+        return new BlogPostDocument(post.getId(), post.getTitle(), post.getContent(), post.getExcerpt(),
+            post.getAuthorId(), post.getAuthorUsername(),
+            post.getCategories().stream().map(Category::getName).sorted().toList(),
+            post.getTags().stream().map(Tag::getName).sorted().toList(),
+            post.getViewCount(), post.getLikeCount(), post.getCommentCount(), post.getPublishedAt());
+    }
+}
@@ -0,0 +1,118 @@
+package com.blognest.blogservice.search;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Sends index operations as bulk requests capped by action count and body size, retrying a failed
+ * request with exponential backoff. Shared by the outbox worker and the reindex job.
+ */
+@Slf4j
+@Component
+public class BulkIndexer {
+
+    private final SearchIndexClient searchIndexClient;
+    private final SearchIndexingProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private final Timer bulkTimer;
+    private final DistributionSummary bulkBytes;
+    private final Counter indexedCounter;
+    private final Counter failedCounter;
+    private final Counter retryCounter;
+
+    public BulkIndexer(SearchIndexClient searchIndexClient,
+                       SearchIndexingProperties properties,
+                       ObjectMapper objectMapper,
+                       MeterRegistry meterRegistry) {
+        this.searchIndexClient = searchIndexClient;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.bulkTimer = meterRegistry.timer("search.bulk.duration");
+        this.bulkBytes = DistributionSummary.builder("search.bulk.size").baseUnit("bytes").register(meterRegistry);
+        this.indexedCounter = meterRegistry.counter("search.indexing.operations", "result", "success");
+        this.failedCounter = meterRegistry.counter("search.indexing.operations", "result", "failure");
+        this.retryCounter = meterRegistry.counter("search.bulk.retries");
+    }
+
+    public IndexOperation upsert(BlogPostDocument document, long version) {
+        return new IndexOperation(document.id().toString(), document, version, sizeOf(document));
+    }
+
+    /**
+     * Applies the operations to {@code index} and returns the ids that could not be applied.
+     */
+    public Set<String> send(String index, List<IndexOperation> operations) {
+        Set<String> failedIds = new HashSet<>();
+        List<IndexOperation> chunk = new ArrayList<>();
+        long chunkBytes = 0;
+        for (IndexOperation operation : operations) {
+            boolean full = chunk.size() >= properties.getBulkMaxActions()
+                || chunkBytes + operation.sizeInBytes() > properties.getBulkMaxBytes();
+            if (full && !chunk.isEmpty()) {
+                failedIds.addAll(sendWithRetry(index, chunk, chunkBytes));
+                chunk = new ArrayList<>();
+                chunkBytes = 0;
+            }
+            chunk.add(operation);
+            chunkBytes += operation.sizeInBytes();
+        }
+        if (!chunk.isEmpty()) {
+            failedIds.addAll(sendWithRetry(index, chunk, chunkBytes));
+        }
+        return failedIds;
+    }
+
+    private Set<String> sendWithRetry(String index, List<IndexOperation> chunk, long chunkBytes) {
+        Duration backoff = properties.getInitialBackoff();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Set<String> rejected = bulkTimer.record(() -> searchIndexClient.bulk(index, chunk));
+                bulkBytes.record(chunkBytes);
+                indexedCounter.increment(chunk.size() - rejected.size());
+                failedCounter.increment(rejected.size());
+                return rejected;
+            } catch (SearchIndexException ex) {
+                if (attempt >= properties.getMaxRetries()) {
+                    log.error("Bulk request of {} operations to {} failed after {} attempts", chunk.size(), index, attempt, ex);
+                    failedCounter.increment(chunk.size());
+                    return chunk.stream().map(IndexOperation::id).collect(Collectors.toSet());
+                }
+                retryCounter.increment();
+                log.warn("Bulk request to {} failed (attempt {}), retrying in {}: {}", index, attempt, backoff, ex.getMessage());
+                sleep(backoff);
+                backoff = backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    private int sizeOf(BlogPostDocument document) {
+        try {
+            return objectMapper.writeValueAsBytes(document).length;
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialise post " + document.id(), ex);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off", ex);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.blognest.blogservice.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.VersionType;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.search.HighlighterEncoder;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+import com.blognest.blogservice.dto.PostSearchHit;
+import com.blognest.blogservice.dto.PostSearchResult;
+import com.blognest.blogservice.entity.BlogPost;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ElasticsearchSearchIndexClient implements SearchIndexClient {
+
+    private static final int VERSION_CONFLICT = 409;
+    private static final List<String> SEARCH_FIELDS = List.of("title^3", "excerpt^2", "content");
+    private static final int FACET_SIZE = 20;
+
+    private final ElasticsearchClient client;
+    private final ElasticsearchOperations operations;
+
+    @Override
+    public Set<String> bulk(String index, List<IndexOperation> operations) {
+        BulkRequest.Builder request = new BulkRequest.Builder().index(index);
+        for (IndexOperation operation : operations) {
+            request.operations(op -> operation.isDelete()
+                ? op.delete(delete -> delete.id(operation.id())
+                    .version(operation.version()).versionType(VersionType.ExternalGte))
+                : op.index(write -> write.id(operation.id()).document(operation.document())
+                    .version(operation.version()).versionType(VersionType.ExternalGte)));
+        }
+
+        BulkResponse response;
+        try {
+            response = client.bulk(request.build());
+        } catch (IOException | RuntimeException ex) {
+            throw new SearchIndexException("Bulk request to " + index + " failed", ex);
+        }
+        if (!response.errors()) {
+            return Set.of();
+        }
+        return response.items().stream()
+            .filter(item -> item.error() != null && item.status() != VERSION_CONFLICT)
+            .peek(item -> log.warn("Search index rejected {} of document {}: {}",
+                item.operationType(), item.id(), item.error().reason()))
+            .map(BulkResponseItem::id)
+            .collect(Collectors.toSet());
+    }
+
+    @Override
+    public boolean exists(String name) {
+        try {
+            return client.indices().exists(exists -> exists.index(name)).value();
+        } catch (IOException | RuntimeException ex) {
+            throw new SearchIndexException("Could not look up index " + name, ex);
+        }
+    }
+
+    @Override
+    public void createIndex(String index) {
+        // The mapping is derived from the @Field annotations on BlogPost, so analyzer changes there
+        // take effect in every index created from now on
+        String mapping = operations.indexOps(BlogPost.class).createMapping().toJson();
+        try {
+            client.indices().create(create -> create
+                .index(index)
+                .settings(settings -> settings.refreshInterval(interval -> interval.time("-1")))
+                .mappings(mappings -> mappings.withJson(new StringReader(mapping))));
+        } catch (IOException | RuntimeException ex) {
+            throw new SearchIndexException("Could not create index " + index, ex);
+        }
+    }
+
+    @Override
+    public void finishIndex(String index) {
+        try {
+            client.indices().putSettings(put -> put
+                .index(index)
+                .settings(settings -> settings.refreshInterval(interval -> interval.time("1s"))));
+            client.indices().refresh(refresh -> refresh.index(index));
+        } catch (IOException | RuntimeException ex) {
+            throw new SearchIndexException("Could not finish index " + index, ex);
+        }
+    }
+
+    @Override
+    public void swapAlias(String alias, String index) {
+        try {
+            boolean aliasExists = client.indices().existsAlias(exists -> exists.name(alias)).value();
+            boolean concreteExists = !aliasExists && client.indices().exists(exists -> exists.index(alias)).value();
+
+            List<Action> actions = new ArrayList<>();
+            if (aliasExists) {
+                for (String current : client.indices().getAlias(get -> get.name(alias)).result().keySet()) {
+                    actions.add(Action.of(action -> action.remove(remove -> remove.index(current).alias(alias))));
+                }
+            }
+            if (concreteExists) {
+                actions.add(Action.of(action -> action.removeIndex(remove -> remove.index(alias))));
+            }
+            actions.add(Action.of(action -> action.add(add -> add.index(index).alias(alias))));
+            client.indices().updateAliases(update -> update.actions(actions));
+        } catch (IOException | RuntimeException ex) {
+            throw new SearchIndexException("Could not point alias " + alias + " at " + index, ex);
+        }
+    }
+
+    @Override
+    public PostSearchResult search(String index, PostSearchQuery query) {
+        SearchRequest.Builder request = new SearchRequest.Builder()
+            .index(index)
+            .size(query.limit() + 1)
+            .query(q -> q.bool(bool -> filtered(bool, query)))
+            // Hits only show a snippet, so the full content stays on the search nodes
+            .source(source -> source.filter(filter -> filter.excludes("content")))
+            .sort(sort -> sort.score(score -> score.order(SortOrder.Desc)))
+            .sort(sort -> sort.field(field -> field.field("id").order(SortOrder.Desc)))
+            .trackTotalHits(track -> track.count(PostSearchResult.TOTAL_LIMIT));
+        if (query.hasText()) {
+            request.highlight(highlight -> highlight
+                .encoder(HighlighterEncoder.Html)
+                .preTags("<mark>")
+                .postTags("</mark>")
+                .fields("title", field -> field.numberOfFragments(0))
+                .fields("excerpt", field -> field.numberOfFragments(0))
+                .fields("content", field -> field.fragmentSize(160).numberOfFragments(2)));
+        }
+        if (query.after() != null) {
+            request.searchAfter(FieldValue.of(query.after().score()), FieldValue.of(query.after().id()));
+        } else {
+            // Facets describe the whole result set, which later pages do not change
+            request.aggregations("tags", agg -> agg.terms(terms -> terms.field("tags").size(FACET_SIZE)));
+            request.aggregations("categories", agg -> agg.terms(terms -> terms.field("categories").size(FACET_SIZE)));
+        }
+
+        SearchResponse<BlogPostDocument> response;
+        try {
+            response = client.search(request.build(), BlogPostDocument.class);
+        } catch (IOException | RuntimeException ex) {
+            throw new SearchIndexException("Search in " + index + " failed", ex);
+        }
+
+        List<Hit<BlogPostDocument>> hits = response.hits().hits();
+        boolean hasMore = hits.size() > query.limit();
+        List<Hit<BlogPostDocument>> page = hasMore ? hits.subList(0, query.limit()) : hits;
+        String nextCursor = null;
+        if (hasMore) {
+            List<FieldValue> sort = page.get(page.size() - 1).sort();
+            nextCursor = new SearchCursor(sort.get(0).doubleValue(), sort.get(1).longValue()).encode();
+        }
+        long total = response.hits().total() != null ? response.hits().total().value() : hits.size();
+        return new PostSearchResult(page.stream().map(ElasticsearchSearchIndexClient::toHit).toList(), total,
+            facet(response.aggregations().get("tags")), facet(response.aggregations().get("categories")),
+            nextCursor, hasMore);
+    }
+
+    private static BoolQuery.Builder filtered(BoolQuery.Builder bool, PostSearchQuery query) {
+        if (query.hasText()) {
+            bool.must(must -> must.multiMatch(match -> match
+                .query(query.text())
+                .fields(SEARCH_FIELDS)
+                .type(TextQueryType.BestFields)
+                .tieBreaker(0.3)));
+        }
+        if (query.tag() != null) {
+            bool.filter(filter -> filter.term(term -> term.field("tags").value(query.tag())));
+        }
+        if (query.category() != null) {
+            bool.filter(filter -> filter.term(term -> term.field("categories").value(query.category())));
+        }
+        return bool;
+    }
+
+    private static PostSearchHit toHit(Hit<BlogPostDocument> hit) {
+        BlogPostDocument document = hit.source();
+        Map<String, List<String>> highlights = hit.highlight() != null ? hit.highlight() : Map.of();
+        return new PostSearchHit(document.id(), document.title(), document.excerpt(), document.authorUsername(),
+            document.categories(), document.tags(), document.publishedAt(), highlights);
+    }
+
+    private static List<PostSearchResult.FacetCount> facet(Aggregate aggregate) {
+        if (aggregate == null || !aggregate.isSterms()) {
+            return List.of();
+        }
+        return aggregate.sterms().buckets().array().stream()
+            .map(bucket -> new PostSearchResult.FacetCount(bucket.key().stringValue(), bucket.docCount()))
+            .toList();
+    }
+}
@@ -0,0 +1,19 @@
+package com.blognest.blogservice.search;
+
+/**
+ * One action of a bulk request: index {@code document} under {@code id}, or delete {@code id}
+ * when there is no document. {@code version} is applied as an external version, so a stale write
+ * racing a newer one (the reindex job and the outbox worker both writing a new index) loses
+ * instead of overwriting it; versions are {@code BlogPost.indexVersion}. {@code sizeInBytes} is
+ * the serialised document size, used to cap bulk request bodies.
+ */
+public record IndexOperation(String id, BlogPostDocument document, long version, int sizeInBytes) {
+
+    public static IndexOperation delete(Long postId, long version) {
+        return new IndexOperation(postId.toString(), null, version, 0);
+    }
+
+    public boolean isDelete() {
+        return document == null;
+    }
+}
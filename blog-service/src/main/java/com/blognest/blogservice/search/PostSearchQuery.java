@@ -0,0 +1,30 @@
+package com.blognest.blogservice.search;
+
+/**
+ * A search over published posts. {@code text} may be empty to browse by tag or category only.
+ * Doubles as the result cache key, so it must stay a value type.
+ */
+public record PostSearchQuery(String text, String tag, String category, SearchCursor after, int limit) {
+
+    public boolean hasText() {
+        return text != null && !text.isBlank();
+    }
+
+    /**
+     * Which clauses the query uses, for per-shape latency metrics. Values do not appear here, so
+     * the number of shapes stays small.
+     */
+    public String shape() {
+        StringBuilder shape = new StringBuilder(hasText() ? "text" : "browse");
+        if (tag != null) {
+            shape.append("+tag");
+        }
+        if (category != null) {
+            shape.append("+category");
+        }
+        if (after != null) {
+            shape.append("+after");
+        }
+        return shape.toString();
+    }
+}
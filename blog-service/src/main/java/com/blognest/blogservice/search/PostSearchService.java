@@ -0,0 +1,77 @@
+package com.blognest.blogservice.search;
+
+import com.blognest.blogservice.dto.PostSearchResult;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * Searches published posts, with a short-lived cache of results for repeated queries. The
+ * indexing worker clears the cache whenever it applies changes; since those become searchable
+ * only after the next index refresh, the expiry also bounds how long a result read in between
+ * can be served.
+ */
+@Service
+public class PostSearchService implements MeterBinder {
+
+    public static final int MAX_LIMIT = 50;
+
+    private final SearchIndexClient searchIndexClient;
+    private final SearchIndexingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Cache<PostSearchQuery, PostSearchResult> results;
+
+    public PostSearchService(SearchIndexClient searchIndexClient,
+                             SearchIndexingProperties properties,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.search.cache.ttl:10s}") Duration ttl,
+                             @Value("${app.search.cache.max-size:10000}") long maxSize) {
+        this.searchIndexClient = searchIndexClient;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.results = Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maxSize)
+            .recordStats()
+            .build();
+    }
+
+    public PostSearchResult search(String text, String tag, String category, String cursor, int limit) {
+        PostSearchQuery query = new PostSearchQuery(
+            text != null ? text.strip() : "",
+            blankToNull(tag),
+            blankToNull(category),
+            cursor != null ? SearchCursor.decode(cursor) : null,
+            Math.max(1, Math.min(limit, MAX_LIMIT)));
+        return results.get(query, this::execute);
+    }
+
+    public void invalidateAll() {
+        results.invalidateAll();
+    }
+
+    private PostSearchResult execute(PostSearchQuery query) {
+        Timer timer = Timer.builder("blog.search.latency")
+            .description("Search backend latency per query shape")
+            .tag("shape", query.shape())
+            .publishPercentiles(0.99)
+            .register(meterRegistry);
+        return timer.record(() -> searchIndexClient.search(properties.getIndex(), query));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, results, "blog.search");
+    }
+}
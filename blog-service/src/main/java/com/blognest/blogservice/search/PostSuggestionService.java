@@ -0,0 +1,185 @@
+package com.blognest.blogservice.search;
+
+import com.blognest.blogservice.dto.Suggestion;
+import com.blognest.blogservice.dto.Suggestions;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+/**
+ * Typeahead suggestions for the search box, answered from memory: published post titles ranked
+ * by views, tags and categories ranked by published posts. Each kind is a {@link SuggestionIndex}
+ * snapshot rebuilt periodically from the database.
+ *
+ * <p>Between rebuilds, post changes applied by the indexing worker on this replica go into a small
+ * overlay: changed titles are searched linearly and hide their stale snapshot entries. A rebuild
+ * drops only the overlay entries it already covers, and one runs early once the overlay grows
+ * past {@code app.suggest.max-overlay}, so bulk imports and publishing bursts do not leave every
+ * keystroke scanning it. Other replicas pick the change up with their next rebuild.
+ */
+@Slf4j
+@Service
+public class PostSuggestionService {
+
+    public static final int MAX_LIMIT = 10;
+
+    private static final String POSTS_SQL =
+        "SELECT id, title, COALESCE(view_count, 0) FROM blog_posts WHERE status = 'PUBLISHED' " +
+        "ORDER BY view_count DESC NULLS LAST, id DESC LIMIT ?";
+    private static final String TAGS_SQL = "SELECT id, name, published_post_count FROM tags";
+    private static final String CATEGORIES_SQL = "SELECT id, name, published_post_count FROM categories";
+
+    private final JdbcTemplate cursorTemplate;
+    private final TransactionTemplate readTemplate;
+    private final int maxTitles;
+    private final int scanLimit;
+    private final int maxOverlay;
+    private final Timer rebuildTimer;
+
+    private final Map<Long, Change> overlay = new ConcurrentHashMap<>();
+    private final AtomicLong changeSequence = new AtomicLong();
+    private volatile Snapshot snapshot = new Snapshot(SuggestionIndex.EMPTY, SuggestionIndex.EMPTY, SuggestionIndex.EMPTY);
+
+    public PostSuggestionService(JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.suggest.max-titles:2000000}") int maxTitles,
+                                 @Value("${app.suggest.scan-limit:2048}") int scanLimit,
+                                 @Value("${app.suggest.max-overlay:2000}") int maxOverlay) {
+        // Postgres only streams with a fetch size inside a transaction, so loads run in a read-only one
+        this.cursorTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.cursorTemplate.setFetchSize(5000);
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+        this.maxTitles = maxTitles;
+        this.scanLimit = scanLimit;
+        this.maxOverlay = maxOverlay;
+        this.rebuildTimer = meterRegistry.timer("blog.suggest.rebuild");
+        Gauge.builder("blog.suggest.memory", this, service -> service.snapshot.estimatedBytes())
+            .description("Estimated heap used by the suggestion indices")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder("blog.suggest.titles", this, service -> service.snapshot.posts().size())
+            .register(meterRegistry);
+        meterRegistry.gaugeMapSize("blog.suggest.overlay", List.of(), overlay);
+    }
+
+    public Suggestions suggest(String prefix, int limit) {
+        String key = prefix != null ? prefix.strip() : "";
+        if (key.isEmpty()) {
+            return new Suggestions(List.of(), List.of(), List.of());
+        }
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        Snapshot current = snapshot;
+        return new Suggestions(
+            posts(current.posts(), key, size),
+            current.tags().suggest(key, size, id -> false),
+            current.categories().suggest(key, size, id -> false));
+    }
+
+    private List<Suggestion> posts(SuggestionIndex index, String prefix, int limit) {
+        if (overlay.isEmpty()) {
+            return index.suggest(prefix, limit, id -> false);
+        }
+        List<Suggestion> merged = new ArrayList<>(index.suggest(prefix, limit, overlay::containsKey));
+        String key = SuggestionIndex.normalize(prefix);
+        for (Change change : overlay.values()) {
+            if (change.suggestion() != null && hasWordStartingWith(change.normalized(), key)) {
+                merged.add(change.suggestion());
+            }
+        }
+        merged.sort(Comparator.comparingLong(Suggestion::weight).reversed()
+            .thenComparingLong(Suggestion::id));
+        return merged.size() > limit ? merged.subList(0, limit) : merged;
+    }
+
+    /**
+     * Records the indexing worker's view of changed posts: a title for published posts, nothing
+     * for posts that are gone or no longer published.
+     */
+    public void apply(List<IndexOperation> operations) {
+        for (IndexOperation operation : operations) {
+            long id = Long.parseLong(operation.id());
+            if (operation.isDelete()) {
+                overlay.put(id, new Change(null, null, changeSequence.incrementAndGet()));
+                continue;
+            }
+            String title = operation.document().title();
+            Suggestion suggestion = new Suggestion(
+                id, title, operation.document().viewCount() != null ? operation.document().viewCount() : 0);
+            overlay.put(id, new Change(suggestion, SuggestionIndex.normalize(title), changeSequence.incrementAndGet()));
+        }
+    }
+
+    /**
+     * Rebuilds ahead of schedule once the overlay is too large to scan on every keystroke.
+     */
+    @Scheduled(fixedDelayString = "${app.suggest.overlay-check-interval:1000}")
+    public void rebuildIfOverlayFull() {
+        if (overlay.size() > maxOverlay) {
+            log.debug("Rebuilding suggestions early for an overlay of {} changes", overlay.size());
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.suggest.rebuild-interval:600000}")
+    public synchronized void rebuild() {
+        long coveredUpTo = changeSequence.get();
+        Snapshot rebuilt = rebuildTimer.record(() -> readTemplate.execute(status -> new Snapshot(
+            load(POSTS_SQL, maxTitles),
+            load(TAGS_SQL),
+            load(CATEGORIES_SQL))));
+        snapshot = rebuilt;
+        // Changes recorded while loading may be missing from the snapshot, so they stay
+        overlay.values().removeIf(change -> change.sequence() <= coveredUpTo);
+        log.debug("Rebuilt suggestions: {} titles, {} tags, {} categories, ~{} bytes",
+            rebuilt.posts().size(), rebuilt.tags().size(), rebuilt.categories().size(), rebuilt.estimatedBytes());
+    }
+
+    private SuggestionIndex load(String sql, Object... args) {
+        LongStream.Builder ids = LongStream.builder();
+        List<String> texts = new ArrayList<>();
+        LongStream.Builder weights = LongStream.builder();
+        cursorTemplate.query(sql, rs -> {
+            ids.add(rs.getLong(1));
+            texts.add(rs.getString(2));
+            weights.add(rs.getLong(3));
+        }, args);
+        return SuggestionIndex.build(ids.build().toArray(), texts.toArray(String[]::new), weights.build().toArray(),
+            MAX_LIMIT * 2, scanLimit);
+    }
+
+    private static boolean hasWordStartingWith(String normalized, String key) {
+        for (int i = 0; i <= normalized.length() - key.length(); i++) {
+            if ((i == 0 || !Character.isLetterOrDigit(normalized.charAt(i - 1))) && normalized.startsWith(key, i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Change(Suggestion suggestion, String normalized, long sequence) {
+    }
+
+    private record Snapshot(SuggestionIndex posts, SuggestionIndex tags, SuggestionIndex categories) {
+
+        long estimatedBytes() {
+            return posts.estimatedBytes() + tags.estimatedBytes() + categories.estimatedBytes();
+        }
+    }
+}
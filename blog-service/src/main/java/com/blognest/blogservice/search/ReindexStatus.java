@@ -0,0 +1,34 @@
+package com.blognest.blogservice.search;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of the current or most recent reindex, as shown by the admin API and the
+ * {@code searchreindex} actuator endpoint.
+ */
+public record ReindexStatus(
+    State state,
+    String targetIndex,
+    int slices,
+    int completedSlices,
+    long documents,
+    double documentsPerSecond,
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt,
+    String error
+) {
+
+    public static ReindexStatus idle() {
+        return new ReindexStatus(State.IDLE, null, 0, 0, 0, 0, null, null, null);
+    }
+
+    public enum State {
+        /** No reindex has run since startup and none is waiting to be resumed. */
+        IDLE,
+        RUNNING,
+        COMPLETED,
+        FAILED,
+        /** Checkpoints of an unfinished reindex exist; starting a reindex resumes it. */
+        INTERRUPTED
+    }
+}
@@ -0,0 +1,31 @@
+package com.blognest.blogservice.search;
+
+import com.blognest.common.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Sort values of the last hit of a search page, passed back as {@code search_after} for the next
+ * one. Encoded as an opaque URL-safe string.
+ */
+public record SearchCursor(double score, long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = Double.toString(score) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new SearchCursor(Double.parseDouble(raw.substring(0, separator)),
+                Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException("Invalid search cursor: " + cursor);
+        }
+    }
+}
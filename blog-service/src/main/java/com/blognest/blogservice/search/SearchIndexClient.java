@@ -0,0 +1,50 @@
+package com.blognest.blogservice.search;
+
+import com.blognest.blogservice.dto.PostSearchResult;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Minimal API of the search backend, so indexing and search can run against an in-memory
+ * stand-in in tests. All methods throw {@link SearchIndexException} if the backend call fails.
+ */
+public interface SearchIndexClient {
+
+    /**
+     * Applies the operations to {@code index} as one bulk request and returns the ids of the
+     * operations the backend rejected. Deleting a missing document and losing to a newer version
+     * are not failures.
+     *
+     * @throws SearchIndexException if the request as a whole failed
+     */
+    Set<String> bulk(String index, List<IndexOperation> operations);
+
+    /**
+     * Whether an index or an alias named {@code name} exists.
+     */
+    boolean exists(String name);
+
+    /**
+     * Creates {@code index} with the current post mapping, tuned for bulk loading.
+     */
+    void createIndex(String index);
+
+    /**
+     * Restores normal refresh behaviour on an index created by {@link #createIndex} and makes its
+     * documents searchable.
+     */
+    void finishIndex(String index);
+
+    /**
+     * Atomically points {@code alias} at {@code index} only. A concrete index that still occupies
+     * the alias name, left from before indices were versioned, is removed in the same request.
+     */
+    void swapAlias(String alias, String index);
+
+    /**
+     * Runs a relevance-ordered search of published posts in {@code index}, with highlights and,
+     * on the first page, tag and category facets.
+     */
+    PostSearchResult search(String index, PostSearchQuery query);
+}
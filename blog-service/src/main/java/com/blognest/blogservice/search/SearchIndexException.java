@@ -0,0 +1,11 @@
+package com.blognest.blogservice.search;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class SearchIndexException extends RuntimeException {
+    public SearchIndexException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
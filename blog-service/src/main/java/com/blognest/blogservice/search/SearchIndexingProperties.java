@@ -0,0 +1,50 @@
+package com.blognest.blogservice.search;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.search.indexing")
+public class SearchIndexingProperties {
+
+    /** Index or alias the worker writes to. */
+    private String index = "blog_posts";
+
+    /** Outbox events claimed per transaction. */
+    private int batchSize = 500;
+
+    /** Upper bounds of one bulk request; whichever is reached first closes the request. */
+    private int bulkMaxActions = 500;
+
+    private long bulkMaxBytes = 5 * 1024 * 1024;
+
+    /** Attempts of a failed bulk request before its events are rescheduled. */
+    private int maxRetries = 3;
+
+    private Duration initialBackoff = Duration.ofMillis(200);
+
+    /** Cap of the delay before a rescheduled event is picked up again. */
+    private Duration maxBackoff = Duration.ofMinutes(5);
+
+    /** How long claimed events stay hidden from other workers; must outlast sending a batch. */
+    private Duration claimTimeout = Duration.ofMinutes(5);
+
+    private Reindex reindex = new Reindex();
+
+    @Data
+    public static class Reindex {
+
+        /** Id ranges read and indexed in parallel, one worker thread each. */
+        private int slices = 4;
+
+        /** Rows fetched per round trip of a slice's cursor, and documents per checkpoint. */
+        private int fetchSize = 1000;
+
+        /** How long a reindex stays claimed without a checkpoint; must outlast indexing one batch. */
+        private Duration leaseTimeout = Duration.ofMinutes(5);
+    }
+}
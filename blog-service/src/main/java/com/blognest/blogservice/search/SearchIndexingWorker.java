@@ -0,0 +1,200 @@
+package com.blognest.blogservice.search;
+
+import com.blognest.blogservice.entity.BlogPost;
+import com.blognest.blogservice.entity.SearchOutboxEvent;
+import com.blognest.blogservice.repository.BlogPostRepository;
+import com.blognest.blogservice.repository.SearchOutboxRepository;
+import com.blognest.blogservice.repository.SearchReindexSliceRepository;
+import com.blognest.blogservice.service.RelatedPostsIndexer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the search outbox into the search index. Each run claims a batch of due events with
+ * SKIP LOCKED, collapses them to the latest operation per post, and hands them to the
+ * {@link BulkIndexer}; events that still fail are rescheduled with a growing delay. Post writes
+ * only insert outbox rows and never wait on the search backend. Cached search results are
+ * dropped, and typeahead suggestions updated, whenever a batch changes the index. Every post in a
+ * batch is also queued for a related-posts refresh, whether or not indexing it succeeded.
+ *
+ * <p>While a reindex is building a new index, every operation is also written to that shadow
+ * index so changes made during the rebuild are not lost when the alias is swapped. The shadow
+ * index is read from the reindex checkpoints with every batch, so every replica's worker writes to
+ * it, not only the one running the reindex.
+ */
+@Slf4j
+@Component
+public class SearchIndexingWorker {
+
+    private final SearchOutboxRepository outboxRepository;
+    private final SearchReindexSliceRepository sliceRepository;
+    private final BlogPostRepository blogPostRepository;
+    private final BulkIndexer bulkIndexer;
+    private final SearchIndexingProperties properties;
+    private final PostSearchService postSearchService;
+    private final PostSuggestionService postSuggestionService;
+    private final RelatedPostsIndexer relatedPostsIndexer;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public SearchIndexingWorker(SearchOutboxRepository outboxRepository,
+                                SearchReindexSliceRepository sliceRepository,
+                                BlogPostRepository blogPostRepository,
+                                BulkIndexer bulkIndexer,
+                                SearchIndexingProperties properties,
+                                PostSearchService postSearchService,
+                                PostSuggestionService postSuggestionService,
+                                RelatedPostsIndexer relatedPostsIndexer,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.sliceRepository = sliceRepository;
+        this.blogPostRepository = blogPostRepository;
+        this.bulkIndexer = bulkIndexer;
+        this.properties = properties;
+        this.postSearchService = postSearchService;
+        this.postSuggestionService = postSuggestionService;
+        this.relatedPostsIndexer = relatedPostsIndexer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        TimeGauge.builder("search.outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+            .description("Age of the oldest outbox event not yet applied to the index")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.indexing.poll-interval:1000}")
+    public void poll() {
+        int claimed;
+        do {
+            claimed = drainBatch();
+        } while (claimed == properties.getBatchSize());
+        updateLag();
+    }
+
+    /**
+     * Applies one batch of due events and returns how many were claimed. The claim commits before
+     * anything is sent, leasing the events for {@code claim-timeout}, so a slow or unavailable
+     * search backend holds no connection or row lock; events of a worker that dies mid-batch are
+     * picked up again once their lease runs out.
+     */
+    public int drainBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        Batch batch = transactionTemplate.execute(status -> claim(now));
+        if (batch == null) {
+            return 0;
+        }
+
+        relatedPostsIndexer.markDirty(batch.eventsByPost().keySet());
+        List<IndexOperation> operations = batch.operations();
+        Set<String> failedIds = bulkIndexer.send(properties.getIndex(), operations);
+        if (failedIds.size() < operations.size()) {
+            postSearchService.invalidateAll();
+            postSuggestionService.apply(operations.stream().filter(op -> !failedIds.contains(op.id())).toList());
+        }
+        if (batch.shadowIndex() != null) {
+            failedIds.addAll(bulkIndexer.send(batch.shadowIndex(), operations));
+        }
+
+        List<SearchOutboxEvent> applied = new ArrayList<>();
+        List<SearchOutboxEvent> rescheduled = new ArrayList<>();
+        batch.eventsByPost().forEach((postId, postEvents) -> {
+            SearchOutboxEvent latest = postEvents.get(postEvents.size() - 1);
+            if (failedIds.contains(postId.toString())) {
+                applied.addAll(postEvents.subList(0, postEvents.size() - 1));
+                latest.setAttempts(latest.getAttempts() + 1);
+                latest.setNextAttemptAt(now.plus(rescheduleDelay(latest.getAttempts())));
+                rescheduled.add(latest);
+            } else {
+                applied.addAll(postEvents);
+            }
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxRepository.deleteAllInBatch(applied);
+            outboxRepository.saveAll(rescheduled);
+        });
+        return batch.claimed();
+    }
+
+    private Batch claim(LocalDateTime now) {
+        List<SearchOutboxEvent> events = outboxRepository.lockDueEvents(now, PageRequest.of(0, properties.getBatchSize()));
+        if (events.isEmpty()) {
+            return null;
+        }
+        outboxRepository.lease(events.stream().map(SearchOutboxEvent::getId).toList(), now.plus(properties.getClaimTimeout()));
+
+        // Events arrive in id order, so the last one per post is the operation to apply
+        Map<Long, List<SearchOutboxEvent>> eventsByPost = events.stream()
+            .collect(Collectors.groupingBy(SearchOutboxEvent::getPostId, LinkedHashMap::new, Collectors.toList()));
+        String shadowIndex = sliceRepository.findTargetIndices().stream().findFirst().orElse(null);
+        return new Batch(events.size(), eventsByPost, toOperations(eventsByPost), shadowIndex);
+    }
+
+    private List<IndexOperation> toOperations(Map<Long, List<SearchOutboxEvent>> eventsByPost) {
+        Set<Long> upsertIds = new HashSet<>();
+        eventsByPost.forEach((postId, postEvents) -> {
+            if (postEvents.get(postEvents.size() - 1).getOperation() == SearchOutboxEvent.Operation.UPSERT) {
+                upsertIds.add(postId);
+            }
+        });
+        Map<Long, BlogPost> posts = upsertIds.isEmpty()
+            ? Map.of()
+            : blogPostRepository.findAllWithTaxonomyByIdIn(upsertIds).stream()
+                .collect(Collectors.toMap(BlogPost::getId, Function.identity()));
+
+        List<IndexOperation> operations = new ArrayList<>(eventsByPost.size());
+        for (Long postId : eventsByPost.keySet()) {
+            BlogPost post = posts.get(postId);
+            // Only published posts are searchable; drafts, archived and deleted posts are removed
+            if (post != null && post.getStatus() == BlogPost.Status.PUBLISHED) {
+                operations.add(bulkIndexer.upsert(BlogPostDocument.from(post), post.getIndexVersion()));
+            } else if (post != null) {
+                operations.add(IndexOperation.delete(postId, post.getIndexVersion()));
+            } else {
+                // A deleted post's removal carries the version stamped when it was deleted, which
+                // outranks its every write whatever this replica's clock says
+                List<SearchOutboxEvent> postEvents = eventsByPost.get(postId);
+                Long version = postEvents.get(postEvents.size() - 1).getIndexVersion();
+                operations.add(IndexOperation.delete(postId, version != null ? version : System.currentTimeMillis()));
+            }
+        }
+        return operations;
+    }
+
+    private Duration rescheduleDelay(int attempts) {
+        Duration delay = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempts, 20));
+        return delay.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : delay;
+    }
+
+    private void updateLag() {
+        LocalDateTime oldest = outboxRepository.findOldestCreatedAt();
+        lagMillis.set(oldest != null ? Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()) : 0);
+    }
+
+    public long getLagMillis() {
+        return lagMillis.get();
+    }
+
+    private record Batch(int claimed, Map<Long, List<SearchOutboxEvent>> eventsByPost, List<IndexOperation> operations,
+                         String shadowIndex) {
+    }
+}
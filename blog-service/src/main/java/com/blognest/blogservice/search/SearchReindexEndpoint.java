@@ -0,0 +1,19 @@
+package com.blognest.blogservice.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "searchreindex")
+@RequiredArgsConstructor
+public class SearchReindexEndpoint {
+
+    private final SearchReindexService reindexService;
+
+    @ReadOperation
+    public ReindexStatus status() {
+        return reindexService.status();
+    }
+}
@@ -0,0 +1,371 @@
+package com.blognest.blogservice.search;
+
+import com.blognest.blogservice.entity.SearchReindexSlice;
+import com.blognest.blogservice.exception.ReindexInProgressException;
+import com.blognest.blogservice.repository.SearchReindexSliceRepository;
+import com.blognest.blogservice.service.JobLeases;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Rebuilds the search index without downtime. A reindex creates a new versioned index, splits the
+ * post id space into ranges and indexes each range on its own thread, streaming rows through a
+ * server-side cursor. Each bulk batch advances a checkpoint row, so a failed or interrupted run
+ * resumes where its slices stopped. Once every slice is done the alias is swapped to the new
+ * index in one atomic request. The checkpoint rows also tell the outbox worker of every replica to
+ * write to the new index until they are removed, so changes made meanwhile are not lost.
+ *
+ * <p>Only one replica plans or resumes a reindex at a time. It claims a lease row first and
+ * extends the lease with every checkpoint, so a second start on another replica is refused, and a
+ * replica that dies mid-run leaves a claim that lapses after {@code reindex.lease-timeout}.
+ *
+ * <p>On a fresh deployment nothing would otherwise create the alias before the first outbox batch,
+ * and the backend would create a plain index with guessed mappings in its place. An initial
+ * versioned index is therefore created and aliased at startup whenever the alias is missing.
+ */
+@Slf4j
+@Service
+public class SearchReindexService {
+
+    private static final String INITIAL_VERSION = "_v0";
+    private static final String LEASE = "search-reindex";
+
+    private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private static final String ID_RANGE_SQL = "SELECT MIN(id), MAX(id) FROM blog_posts";
+
+    private static final String POSTS_SQL =
+        "SELECT id, title, content, excerpt, author_id, author_username, view_count, like_count, comment_count, " +
+        "published_at, index_version FROM blog_posts WHERE id > ? AND id <= ? AND status = 'PUBLISHED' ORDER BY id";
+
+    private static final String CATEGORIES_SQL =
+        "SELECT pc.post_id, c.name FROM blog_post_categories pc JOIN categories c ON c.id = pc.category_id " +
+        "WHERE pc.post_id BETWEEN ? AND ?";
+
+    private static final String TAGS_SQL =
+        "SELECT pt.post_id, t.name FROM blog_post_tags pt JOIN tags t ON t.id = pt.tag_id " +
+        "WHERE pt.post_id BETWEEN ? AND ?";
+
+    private final SearchReindexSliceRepository sliceRepository;
+    private final JobLeases jobLeases;
+    private final BulkIndexer bulkIndexer;
+    private final SearchIndexClient searchIndexClient;
+    private final SearchIndexingProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate cursorTemplate;
+    private final TransactionTemplate readTemplate;
+    private final TransactionTemplate checkpointTemplate;
+    private final Counter documentsCounter;
+
+    private volatile Job job;
+
+    public SearchReindexService(SearchReindexSliceRepository sliceRepository,
+                                JobLeases jobLeases,
+                                BulkIndexer bulkIndexer,
+                                SearchIndexClient searchIndexClient,
+                                SearchIndexingProperties properties,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.sliceRepository = sliceRepository;
+        this.jobLeases = jobLeases;
+        this.bulkIndexer = bulkIndexer;
+        this.searchIndexClient = searchIndexClient;
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+
+        // Postgres only streams with a fetch size inside a transaction; otherwise it buffers the whole result
+        this.cursorTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.cursorTemplate.setFetchSize(properties.getReindex().getFetchSize());
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+        this.checkpointTemplate = new TransactionTemplate(transactionManager);
+        this.checkpointTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.documentsCounter = meterRegistry.counter("search.reindex.documents");
+    }
+
+    /**
+     * Creates the initial index and points the alias at it unless the alias, or an index left from
+     * before indices were versioned, already exists. Replicas starting together all use the same
+     * initial index, so at most one creates it and none leaves an index of its own behind.
+     */
+    @PostConstruct
+    public void createIndexIfMissing() {
+        String alias = properties.getIndex();
+        String initialIndex = alias + INITIAL_VERSION;
+        try {
+            if (searchIndexClient.exists(alias)) {
+                return;
+            }
+            if (!searchIndexClient.exists(initialIndex)) {
+                try {
+                    searchIndexClient.createIndex(initialIndex);
+                } catch (SearchIndexException ex) {
+                    if (!searchIndexClient.exists(initialIndex)) {
+                        throw ex;
+                    }
+                }
+            }
+            searchIndexClient.finishIndex(initialIndex);
+            searchIndexClient.swapAlias(alias, initialIndex);
+            log.info("Created {} and pointed alias {} at it", initialIndex, alias);
+        } catch (SearchIndexException ex) {
+            log.error("Could not create the initial search index {}, run a reindex once the search backend is up",
+                initialIndex, ex);
+        }
+    }
+
+    /**
+     * Starts a reindex, or resumes the unfinished one, and returns immediately.
+     */
+    public synchronized ReindexStatus start() {
+        Job current = job;
+        if (current != null && current.state == ReindexStatus.State.RUNNING) {
+            throw new ReindexInProgressException("A reindex into " + current.targetIndex + " is already running");
+        }
+        if (!jobLeases.tryAcquire(LEASE, properties.getReindex().getLeaseTimeout())) {
+            throw new ReindexInProgressException("A reindex is already running on another instance");
+        }
+
+        List<SearchReindexSlice> slices;
+        try {
+            slices = sliceRepository.findAllByOrderBySlice();
+            if (slices.isEmpty()) {
+                slices = plan();
+            } else {
+                log.info("Resuming reindex into {}", slices.get(0).getTargetIndex());
+            }
+        } catch (RuntimeException ex) {
+            jobLeases.release(LEASE);
+            throw ex;
+        }
+        current = new Job(slices);
+        job = current;
+
+        List<SearchReindexSlice> pending = slices.stream().filter(slice -> !slice.isCompleted()).toList();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, pending.size()),
+            new CustomizableThreadFactory("search-reindex-"));
+        Job started = current;
+        CompletableFuture<?>[] futures = pending.stream()
+            .map(slice -> CompletableFuture.runAsync(() -> indexSlice(started, slice), executor))
+            .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).whenComplete((ignored, ex) -> {
+            executor.shutdown();
+            if (ex == null) {
+                complete(started);
+            } else {
+                fail(started, ex);
+            }
+        });
+        return current.status();
+    }
+
+    public ReindexStatus status() {
+        Job current = job;
+        if (current != null) {
+            return current.status();
+        }
+        List<SearchReindexSlice> slices = sliceRepository.findAllByOrderBySlice();
+        if (slices.isEmpty()) {
+            return ReindexStatus.idle();
+        }
+        Job interrupted = new Job(slices);
+        interrupted.state = ReindexStatus.State.INTERRUPTED;
+        return interrupted.status();
+    }
+
+    private List<SearchReindexSlice> plan() {
+        String targetIndex = properties.getIndex() + "_v" + LocalDateTime.now().format(VERSION_FORMAT);
+        searchIndexClient.createIndex(targetIndex);
+
+        long[] range = jdbcTemplate.queryForObject(ID_RANGE_SQL, (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)});
+        long lower = range[0] - 1;
+        long span = range[1] - lower;
+        int count = (int) Math.max(1, Math.min(properties.getReindex().getSlices(), span));
+        LocalDateTime now = LocalDateTime.now();
+
+        List<SearchReindexSlice> slices = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long sliceLower = lower + span * i / count;
+            slices.add(SearchReindexSlice.builder()
+                .targetIndex(targetIndex)
+                .slice(i)
+                .lowerId(sliceLower)
+                .upperId(lower + span * (i + 1) / count)
+                .lastId(sliceLower)
+                .startedAt(now)
+                .build());
+        }
+        log.info("Reindexing posts {}..{} into {} in {} slices", range[0], range[1], targetIndex, count);
+        return sliceRepository.saveAll(slices);
+    }
+
+    private void indexSlice(Job job, SearchReindexSlice slice) {
+        int batchSize = properties.getReindex().getFetchSize();
+        readTemplate.executeWithoutResult(status -> {
+            try (Stream<PostRow> rows = cursorTemplate.queryForStream(POSTS_SQL, this::mapPost, slice.getLastId(), slice.getUpperId())) {
+                List<PostRow> batch = new ArrayList<>(batchSize);
+                rows.forEach(row -> {
+                    batch.add(row);
+                    if (batch.size() == batchSize) {
+                        indexBatch(job, slice, batch);
+                        batch.clear();
+                    }
+                });
+                if (!batch.isEmpty()) {
+                    indexBatch(job, slice, batch);
+                }
+            }
+        });
+        slice.setLastId(slice.getUpperId());
+        slice.setCompleted(true);
+        checkpoint(slice);
+        job.completedSlices.incrementAndGet();
+        log.info("Reindex slice {} of {} done", slice.getSlice(), job.targetIndex);
+    }
+
+    private void indexBatch(Job job, SearchReindexSlice slice, List<PostRow> batch) {
+        long firstId = batch.get(0).id();
+        long lastId = batch.get(batch.size() - 1).id();
+        Map<Long, List<String>> categories = namesByPost(CATEGORIES_SQL, firstId, lastId);
+        Map<Long, List<String>> tags = namesByPost(TAGS_SQL, firstId, lastId);
+
+        List<IndexOperation> operations = new ArrayList<>(batch.size());
+        for (PostRow row : batch) {
+            BlogPostDocument document = row.toDocument(
+                categories.getOrDefault(row.id(), List.of()), tags.getOrDefault(row.id(), List.of()));
+            operations.add(bulkIndexer.upsert(document, row.indexVersion()));
+        }
+        Set<String> failedIds = bulkIndexer.send(job.targetIndex, operations);
+        if (!failedIds.isEmpty()) {
+            throw new SearchIndexException("Reindex slice " + slice.getSlice() + " could not index posts " + failedIds, null);
+        }
+
+        slice.setLastId(lastId);
+        slice.setDocuments(slice.getDocuments() + batch.size());
+        checkpoint(slice);
+        job.documents.addAndGet(batch.size());
+        documentsCounter.increment(batch.size());
+    }
+
+    private void checkpoint(SearchReindexSlice slice) {
+        if (!jobLeases.extend(LEASE, properties.getReindex().getLeaseTimeout())) {
+            throw new SearchIndexException("Lost the reindex lease to another instance", null);
+        }
+        slice.setUpdatedAt(LocalDateTime.now());
+        checkpointTemplate.executeWithoutResult(status -> sliceRepository.save(slice));
+    }
+
+    private Map<Long, List<String>> namesByPost(String sql, long firstId, long lastId) {
+        Map<Long, List<String>> names = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            names.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(rs.getString(2));
+        }, firstId, lastId);
+        names.values().forEach(list -> list.sort(null));
+        return names;
+    }
+
+    private void complete(Job job) {
+        try {
+            searchIndexClient.finishIndex(job.targetIndex);
+            searchIndexClient.swapAlias(properties.getIndex(), job.targetIndex);
+            sliceRepository.deleteAllInBatch();
+            jobLeases.release(LEASE);
+            job.finish(ReindexStatus.State.COMPLETED, null);
+            log.info("Reindex into {} completed, alias {} swapped", job.targetIndex, properties.getIndex());
+        } catch (RuntimeException ex) {
+            fail(job, ex);
+        }
+    }
+
+    private void fail(Job job, Throwable ex) {
+        // Dual writes stay on so the checkpoints remain a valid starting point for a resume
+        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+        log.error("Reindex into {} failed, start it again to resume from its checkpoints", job.targetIndex, cause);
+        try {
+            jobLeases.release(LEASE);
+        } catch (RuntimeException releaseFailure) {
+            log.warn("Could not release the reindex lease, it lapses on its own: {}", releaseFailure.getMessage());
+        }
+        job.finish(ReindexStatus.State.FAILED, cause.getMessage());
+    }
+
+    private PostRow mapPost(ResultSet rs, int rowNum) throws SQLException {
+        return new PostRow(rs.getLong("id"), rs.getString("title"), rs.getString("content"), rs.getString("excerpt"),
+            rs.getObject("author_id", Long.class), rs.getString("author_username"),
+            rs.getObject("view_count", Long.class), rs.getObject("like_count", Long.class),
+            rs.getObject("comment_count", Long.class),
+            rs.getObject("published_at", LocalDateTime.class), rs.getLong("index_version"));
+    }
+
+    private record PostRow(long id, String title, String content, String excerpt, Long authorId, String authorUsername,
+                           Long viewCount, Long likeCount, Long commentCount,
+                           LocalDateTime publishedAt, long indexVersion) {
+
+        BlogPostDocument toDocument(List<String> categories, List<String> tags) {
+            return new BlogPostDocument(id, title, content, excerpt, authorId, authorUsername, categories, tags,
+                viewCount, likeCount, commentCount, publishedAt);
+        }
+    }
+
+    private static final class Job {
+
+        final String targetIndex;
+        final int slices;
+        final long checkpointedDocuments;
+        final LocalDateTime startedAt = LocalDateTime.now();
+        final AtomicInteger completedSlices;
+        final AtomicLong documents = new AtomicLong();
+        volatile ReindexStatus.State state = ReindexStatus.State.RUNNING;
+        volatile LocalDateTime finishedAt;
+        volatile String error;
+
+        Job(List<SearchReindexSlice> slices) {
+            this.targetIndex = slices.get(0).getTargetIndex();
+            this.slices = slices.size();
+            this.checkpointedDocuments = slices.stream().mapToLong(SearchReindexSlice::getDocuments).sum();
+            this.completedSlices = new AtomicInteger((int) slices.stream().filter(SearchReindexSlice::isCompleted).count());
+        }
+
+        void finish(ReindexStatus.State finalState, String failure) {
+            finishedAt = LocalDateTime.now();
+            error = failure;
+            state = finalState;
+        }
+
+        ReindexStatus status() {
+            LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+            long indexed = documents.get();
+            double seconds = Duration.between(startedAt, end).toMillis() / 1000.0;
+            // Throughput covers this run only; resumed documents were indexed by an earlier one
+            double throughput = state != ReindexStatus.State.INTERRUPTED && seconds > 0 ? indexed / seconds : 0;
+            return new ReindexStatus(state, targetIndex, slices, completedSlices.get(), checkpointedDocuments + indexed,
+                throughput, startedAt, finishedAt, error);
+        }
+    }
+}
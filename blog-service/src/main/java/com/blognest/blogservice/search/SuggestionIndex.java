@@ -0,0 +1,368 @@
+package com.blognest.blogservice.search;
+
+import com.blognest.blogservice.dto.Suggestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+/**
+ * Immutable prefix index over short texts such as post titles or tag names. Every word start of a
+ * text is an entry, so "boot" finds "Spring Boot tips"; matching ignores case.
+ *
+ * <p>Entries are packed into one sorted {@code int[]} (text index in the high 24 bits, offset of the
+ * word in the low 8) rather than one substring each, which keeps a million titles at a few bytes
+ * per word on top of the titles themselves. A lookup binary-searches the range of entries that
+ * start with the prefix and keeps the heaviest texts of that range. Ranges longer than
+ * {@code scanLimit} would make short prefixes slow, so their top texts are computed at build
+ * time; every other range is short by construction, since a prefix can only cover more entries
+ * than its extensions.
+ */
+public final class SuggestionIndex {
+
+    public static final SuggestionIndex EMPTY = build(new long[0], new String[0], new long[0], 10, 1);
+
+    private static final int MAX_OFFSET = 0xFF;
+    private static final int MAX_TEXTS = 1 << 24;
+    private static final int INSERTION_SORT_THRESHOLD = 12;
+
+    private final long[] ids;
+    private final String[] texts;
+    private final long[] weights;
+    private final int[] entries;
+    private final Map<String, int[]> heavyPrefixes;
+    private final int topK;
+    private final int scanLimit;
+
+    private SuggestionIndex(long[] ids, String[] texts, long[] weights, int[] entries,
+                            Map<String, int[]> heavyPrefixes, int topK, int scanLimit) {
+        this.ids = ids;
+        this.texts = texts;
+        this.weights = weights;
+        this.entries = entries;
+        this.heavyPrefixes = heavyPrefixes;
+        this.topK = topK;
+        this.scanLimit = scanLimit;
+    }
+
+    /**
+     * Builds an index over parallel arrays of ids, texts and weights. {@code topK} is how many
+     * suggestions are kept for a precomputed prefix, so it bounds {@link #suggest}'s limit there.
+     */
+    public static SuggestionIndex build(long[] ids, String[] texts, long[] weights, int topK, int scanLimit) {
+        if (texts.length > MAX_TEXTS) {
+            throw new IllegalArgumentException("At most " + MAX_TEXTS + " texts can be indexed");
+        }
+        int count = 0;
+        for (String text : texts) {
+            count += wordStarts(text, null);
+        }
+        int[] entries = new int[count];
+        int next = 0;
+        int[] starts = new int[MAX_OFFSET + 1];
+        for (int i = 0; i < texts.length; i++) {
+            int words = wordStarts(texts[i], starts);
+            for (int w = 0; w < words; w++) {
+                entries[next++] = i << 8 | starts[w];
+            }
+        }
+
+        SuggestionIndex index = new SuggestionIndex(ids, texts, weights, entries, new HashMap<>(), topK, scanLimit);
+        index.sortEntries(0, entries.length, 0);
+        index.collectHeavyPrefixes(0, entries.length, 0, new StringBuilder());
+        return index;
+    }
+
+    public int size() {
+        return texts.length;
+    }
+
+    /**
+     * Approximate heap footprint: the entry array, the per-text arrays and the texts themselves
+     * (one byte per character, as Latin-1 strings are stored compactly).
+     */
+    public long estimatedBytes() {
+        long bytes = (long) entries.length * Integer.BYTES + (long) texts.length * (2 * Long.BYTES + 8);
+        for (String text : texts) {
+            bytes += 40 + text.length();
+        }
+        for (int[] top : heavyPrefixes.values()) {
+            bytes += 64 + (long) top.length * Integer.BYTES;
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns up to {@code limit} ids of the heaviest texts with a word starting with
+     * {@code prefix}, skipping ids rejected by {@code exclude}.
+     */
+    public List<Suggestion> suggest(String prefix, int limit, LongPredicate exclude) {
+        String key = normalize(prefix);
+        int[] precomputed = heavyPrefixes.get(key);
+        if (precomputed != null) {
+            List<Suggestion> result = new ArrayList<>(limit);
+            for (int i = 0; i < precomputed.length && result.size() < limit; i++) {
+                if (!exclude.test(ids[precomputed[i]])) {
+                    result.add(suggestionAt(precomputed[i]));
+                }
+            }
+            return result;
+        }
+
+        int from = lowerBound(key);
+        int to = upperBound(key, from);
+        return Arrays.stream(top(from, to, limit, exclude)).mapToObj(this::suggestionAt).toList();
+    }
+
+    /**
+     * Lower-cases character by character, exactly as keys are compared.
+     */
+    static String normalize(String prefix) {
+        char[] chars = prefix.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    private Suggestion suggestionAt(int text) {
+        return new Suggestion(ids[text], texts[text], weights[text]);
+    }
+
+    /**
+     * Heaviest distinct texts among entries {@code [from, to)}, heaviest first.
+     */
+    private int[] top(int from, int to, int limit, LongPredicate exclude) {
+        int[] best = new int[limit];
+        int size = 0;
+        for (int i = from; i < to; i++) {
+            int text = entries[i] >>> 8;
+            // Most entries of a long range lose to the lightest kept text; a text dropped earlier
+            // cannot come back either, since that lightest weight only grows
+            if (size == limit && compareWeight(text, best[size - 1]) <= 0
+                || exclude.test(ids[text]) || contains(best, size, text)) {
+                continue;
+            }
+            int position = size < limit ? size++ : size - 1;
+            while (position > 0 && compareWeight(text, best[position - 1]) > 0) {
+                best[position] = best[position - 1];
+                position--;
+            }
+            best[position] = text;
+        }
+        return Arrays.copyOf(best, size);
+    }
+
+    private static boolean contains(int[] values, int size, int value) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Orders texts by weight, then by lower id so equal weights rank stably.
+     */
+    private int compareWeight(int a, int b) {
+        int byWeight = Long.compare(weights[a], weights[b]);
+        return byWeight != 0 ? byWeight : Long.compare(ids[b], ids[a]);
+    }
+
+    /**
+     * Walks the sorted entries one character deeper at a time and returns the top texts of the
+     * range, recording them for every prefix whose range is longer than the scan limit. A heavy
+     * range's top texts are merged from its sub-ranges' rather than scanned again, so each entry
+     * is ranked once however deep the heavy prefixes go.
+     */
+    private int[] collectHeavyPrefixes(int from, int to, int depth, StringBuilder prefix) {
+        if (to - from <= scanLimit) {
+            return top(from, to, topK, id -> false);
+        }
+        int start = from;
+        // Entries that end at this depth sort first; they have no further character to split on
+        while (start < to && charAt(entries[start], depth) < 0) {
+            start++;
+        }
+        int[] best = top(from, start, topK, id -> false);
+        while (start < to) {
+            int c = charAt(entries[start], depth);
+            int end = start + 1;
+            while (end < to && charAt(entries[end], depth) == c) {
+                end++;
+            }
+            prefix.append((char) c);
+            best = merge(best, collectHeavyPrefixes(start, end, depth + 1, prefix));
+            prefix.setLength(prefix.length() - 1);
+            start = end;
+        }
+        if (depth > 0) {
+            heavyPrefixes.put(prefix.toString(), best);
+        }
+        return best;
+    }
+
+    /**
+     * Merges two heaviest-first lists of texts into one of at most {@code topK}, listing a text
+     * matched by both only once.
+     */
+    private int[] merge(int[] a, int[] b) {
+        int[] merged = new int[Math.min(topK, a.length + b.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (size < merged.length && (i < a.length || j < b.length)) {
+            int next = j >= b.length || i < a.length && compareWeight(a[i], b[j]) >= 0 ? a[i++] : b[j++];
+            if (!contains(merged, size, next)) {
+                merged[size++] = next;
+            }
+        }
+        return size == merged.length ? merged : Arrays.copyOf(merged, size);
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareToKey(entries[mid], key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int upperBound(String key, int from) {
+        int low = from;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (startsWith(entries[mid], key)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private boolean startsWith(int entry, String key) {
+        for (int i = 0; i < key.length(); i++) {
+            if (charAt(entry, i) != key.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int compareToKey(int entry, String key) {
+        for (int i = 0; i < key.length(); i++) {
+            int c = charAt(entry, i);
+            if (c != key.charAt(i)) {
+                return c < key.charAt(i) ? -1 : 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Compares two entries known to share their first {@code depth} characters.
+     */
+    private int compareEntries(int a, int b, int depth) {
+        String textA = texts[a >>> 8];
+        String textB = texts[b >>> 8];
+        int offsetA = (a & MAX_OFFSET) + depth;
+        int offsetB = (b & MAX_OFFSET) + depth;
+        int lengthA = textA.length() - offsetA;
+        int lengthB = textB.length() - offsetB;
+        for (int i = 0, n = Math.min(lengthA, lengthB); i < n; i++) {
+            char ca = Character.toLowerCase(textA.charAt(offsetA + i));
+            char cb = Character.toLowerCase(textB.charAt(offsetB + i));
+            if (ca != cb) {
+                return ca - cb;
+            }
+        }
+        return lengthA - lengthB;
+    }
+
+    /**
+     * Lower-cased character {@code i} of an entry's key, or -1 past its end.
+     */
+    private int charAt(int entry, int i) {
+        String text = texts[entry >>> 8];
+        int position = (entry & MAX_OFFSET) + i;
+        return position < text.length() ? Character.toLowerCase(text.charAt(position)) : -1;
+    }
+
+    /**
+     * Multikey quicksort: partitions on one character at a time, so the long prefixes that titles
+     * share (every "how to ..." entry) are not compared again at every level as in a comparison sort.
+     */
+    private void sortEntries(int from, int to, int depth) {
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+            int pivot = medianOfThree(charAt(entries[from], depth),
+                charAt(entries[(from + to) >>> 1], depth), charAt(entries[to - 1], depth));
+            int less = from;
+            int greater = to - 1;
+            int i = from;
+            while (i <= greater) {
+                int c = charAt(entries[i], depth);
+                if (c < pivot) {
+                    swap(less++, i++);
+                } else if (c > pivot) {
+                    swap(i, greater--);
+                } else {
+                    i++;
+                }
+            }
+            sortEntries(from, less, depth);
+            if (pivot >= 0) {
+                sortEntries(less, greater + 1, depth + 1);
+            }
+            from = greater + 1;
+        }
+        for (int i = from + 1; i < to; i++) {
+            int entry = entries[i];
+            int j = i;
+            while (j > from && compareEntries(entries[j - 1], entry, depth) > 0) {
+                entries[j] = entries[j - 1];
+                j--;
+            }
+            entries[j] = entry;
+        }
+    }
+
+    private static int medianOfThree(int a, int b, int c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    private void swap(int i, int j) {
+        int entry = entries[i];
+        entries[i] = entries[j];
+        entries[j] = entry;
+    }
+
+    /**
+     * Offsets of the words of {@code text} that fit the entry encoding, written to {@code starts}
+     * if given. Returns how many there are.
+     */
+    private static int wordStarts(String text, int[] starts) {
+        int count = 0;
+        int limit = Math.min(text.length(), MAX_OFFSET + 1);
+        for (int i = 0; i < limit; i++) {
+            if (Character.isLetterOrDigit(text.charAt(i)) && (i == 0 || !Character.isLetterOrDigit(text.charAt(i - 1)))) {
+                if (starts != null) {
+                    starts[count] = i;
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,246 @@
+package com.blognest.blogservice.service;
+
+import com.blognest.blogservice.dto.BlogPostImportRow;
+import com.blognest.blogservice.dto.ImportResult;
+import com.blognest.blogservice.entity.BlogPost;
+import com.blognest.blogservice.entity.Category;
+import com.blognest.blogservice.entity.SearchOutboxEvent;
+import com.blognest.blogservice.entity.Tag;
+import com.blognest.blogservice.repository.BlogPostRepository;
+import com.blognest.blogservice.repository.CategoryRepository;
+import com.blognest.blogservice.repository.SearchOutboxRepository;
+import com.blognest.blogservice.repository.TagRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Imports posts from NDJSON, one post per line. Lines are parsed and validated as they are read
+ * and written in chunks, each in its own transaction, so the request body is never held in
+ * memory and a bad line only costs its own row. Posts, their category and tag links and their
+ * outbox events go out as JDBC batches. If a chunk still fails on the database, it is rolled back
+ * and retried one row at a time to find the offending lines. The persistence context is cleared
+ * after every chunk, so imported posts do not pile up in an EntityManager that outlives the chunk's
+ * transaction, such as the request's under open-in-view.
+ */
+@Slf4j
+@Service
+public class BlogPostImportService {
+
+    private final BlogPostRepository blogPostRepository;
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+    private final SearchOutboxRepository searchOutboxRepository;
+    private final EntityManager entityManager;
+    private final TaxonomyCountService taxonomyCountService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public BlogPostImportService(BlogPostRepository blogPostRepository,
+                                 CategoryRepository categoryRepository,
+                                 TagRepository tagRepository,
+                                 SearchOutboxRepository searchOutboxRepository,
+                                 EntityManager entityManager,
+                                 TaxonomyCountService taxonomyCountService,
+                                 ObjectMapper objectMapper,
+                                 Validator validator,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.import.chunk-size:1000}") int chunkSize,
+                                 @Value("${app.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.blogPostRepository = blogPostRepository;
+        this.categoryRepository = categoryRepository;
+        this.tagRepository = tagRepository;
+        this.searchOutboxRepository = searchOutboxRepository;
+        this.entityManager = entityManager;
+        this.taxonomyCountService = taxonomyCountService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public ImportResult importPosts(InputStream ndjson) throws IOException {
+        Progress progress = new Progress();
+        List<Line> chunk = new ArrayList<>(chunkSize);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            String text;
+            while ((text = reader.readLine()) != null) {
+                lineNumber++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                BlogPostImportRow row = parse(lineNumber, text, progress);
+                if (row != null) {
+                    chunk.add(new Line(lineNumber, row));
+                }
+                if (chunk.size() == chunkSize) {
+                    writeChunk(chunk, progress);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, progress);
+        }
+        log.info("Imported {} posts, rejected {}", progress.imported, progress.failed);
+        return new ImportResult(progress.imported, progress.failed, progress.errors);
+    }
+
+    private BlogPostImportRow parse(long lineNumber, String text, Progress progress) {
+        BlogPostImportRow row;
+        try {
+            row = objectMapper.readValue(text, BlogPostImportRow.class);
+        } catch (JsonProcessingException ex) {
+            progress.reject(lineNumber, "Malformed JSON: " + ex.getOriginalMessage());
+            return null;
+        }
+        Set<ConstraintViolation<BlogPostImportRow>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            progress.reject(lineNumber, violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; ")));
+            return null;
+        }
+        return row;
+    }
+
+    private void writeChunk(List<Line> chunk, Progress progress) {
+        try {
+            List<ImportResult.RowError> rejected = transactionTemplate.execute(status -> insert(chunk));
+            // Committing does not clear an EntityManager bound before the transaction began
+            entityManager.clear();
+            progress.add(chunk.size(), rejected);
+        } catch (DataAccessException | TransactionException ex) {
+            if (chunk.size() == 1) {
+                progress.reject(chunk.get(0).number(), rootMessage(ex));
+                return;
+            }
+            log.debug("Import chunk of {} rows failed, retrying row by row: {}", chunk.size(), ex.getMessage());
+            chunk.forEach(line -> writeChunk(List.of(line), progress));
+        }
+    }
+
+    /**
+     * Inserts the rows that reference only existing categories and tags, and returns the others.
+     */
+    private List<ImportResult.RowError> insert(List<Line> chunk) {
+        Map<Long, Category> categories = byId(categoryRepository.findAllById(
+            idsOf(chunk, BlogPostImportRow::getCategoryIds)), Category::getId);
+        Map<Long, Tag> tags = byId(tagRepository.findAllById(idsOf(chunk, BlogPostImportRow::getTagIds)), Tag::getId);
+
+        List<ImportResult.RowError> rejected = new ArrayList<>();
+        List<BlogPost> posts = new ArrayList<>(chunk.size());
+        for (Line line : chunk) {
+            BlogPostImportRow row = line.row();
+            Set<Long> categoryIds = orEmpty(row.getCategoryIds());
+            Set<Long> tagIds = orEmpty(row.getTagIds());
+            if (!categories.keySet().containsAll(categoryIds)) {
+                rejected.add(new ImportResult.RowError(line.number(), "Unknown category id"));
+            } else if (!tags.keySet().containsAll(tagIds)) {
+                rejected.add(new ImportResult.RowError(line.number(), "Unknown tag id"));
+            } else {
+                posts.add(toPost(row, categoryIds.stream().map(categories::get).collect(Collectors.toSet()),
+                    tagIds.stream().map(tags::get).collect(Collectors.toSet())));
+            }
+        }
+
+        blogPostRepository.saveAll(posts);
+        List<BlogPost> published = posts.stream().filter(post -> post.getStatus() == BlogPost.Status.PUBLISHED).toList();
+        taxonomyCountService.recordPublished(published.stream().map(PostTaxonomy::of).toList());
+        searchOutboxRepository.saveAll(published.stream()
+            .map(post -> SearchOutboxEvent.of(post.getId(), SearchOutboxEvent.Operation.UPSERT))
+            .toList());
+        // Surfaces constraint violations here, where the chunk can still be retried row by row
+        blogPostRepository.flush();
+        return rejected;
+    }
+
+    private static BlogPost toPost(BlogPostImportRow row, Set<Category> categories, Set<Tag> tags) {
+        BlogPost.Status status = row.getStatus() != null ? row.getStatus() : BlogPost.Status.DRAFT;
+        return BlogPost.builder()
+            .title(row.getTitle())
+            .content(row.getContent())
+            .excerpt(row.getExcerpt())
+            .featuredImage(row.getFeaturedImage())
+            .authorId(row.getAuthorId())
+            .authorUsername(row.getAuthorUsername())
+            .status(status)
+            .publishedAt(status == BlogPost.Status.PUBLISHED ? row.getPublishedAt() : null)
+            .categories(categories)
+            .tags(tags)
+            .build();
+    }
+
+    private static Set<Long> idsOf(List<Line> chunk, Function<BlogPostImportRow, Set<Long>> ids) {
+        Set<Long> all = new HashSet<>();
+        chunk.forEach(line -> all.addAll(orEmpty(ids.apply(line.row()))));
+        return all;
+    }
+
+    private static <T> Map<Long, T> byId(Collection<T> entities, Function<T, Long> id) {
+        return entities.stream().collect(Collectors.toMap(id, Function.identity()));
+    }
+
+    private static Set<Long> orEmpty(Set<Long> ids) {
+        return ids != null ? ids : Set.of();
+    }
+
+    private static String rootMessage(Exception ex) {
+        Throwable cause = ex;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage();
+    }
+
+    private record Line(long number, BlogPostImportRow row) {
+    }
+
+    private final class Progress {
+
+        private final List<ImportResult.RowError> errors = new ArrayList<>();
+        private long imported;
+        private long failed;
+
+        void add(int rows, List<ImportResult.RowError> rejected) {
+            imported += rows - rejected.size();
+            rejected.forEach(error -> reject(error.line(), error.message()));
+        }
+
+        void reject(long line, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportResult.RowError(line, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.blognest.blogservice.service;
+
+import com.blognest.blogservice.dto.BlogPostDetail;
+import com.blognest.blogservice.dto.BlogPostRequest;
+import com.blognest.blogservice.dto.BlogPostSummary;
+import com.blognest.blogservice.dto.PostTermName;
+import com.blognest.blogservice.dto.RenderedBody;
+import com.blognest.blogservice.entity.BlogPost;
+import com.blognest.blogservice.entity.SearchOutboxEvent;
+import com.blognest.blogservice.exception.BlogPostNotFoundException;
+import com.blognest.blogservice.repository.BlogPostRepository;
+import com.blognest.blogservice.repository.CategoryRepository;
+import com.blognest.blogservice.repository.SearchOutboxRepository;
+import com.blognest.blogservice.repository.TagRepository;
+import com.blognest.common.dto.ApiResponse;
+import com.blognest.common.dto.CursorPage;
+import com.blognest.common.dto.KeysetCursor;
+import com.blognest.common.security.UserIdentity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class BlogPostService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final BlogPostRepository blogPostRepository;
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+    private final SearchOutboxRepository searchOutboxRepository;
+    private final TaxonomyCountService taxonomyCountService;
+    private final ScheduledPublisher scheduledPublisher;
+    private final PostBodyCache postBodyCache;
+    private final PostBodyRenderer postBodyRenderer;
+    private final ViewCounter viewCounter;
+    private final TrendingService trendingService;
+
+    public ApiResponse<BlogPostDetail> createPost(BlogPostRequest request, UserIdentity author) {
+        BlogPost post = BlogPost.builder()
+            .authorId(author.getId())
+            .authorUsername(author.getUsername())
+            .build();
+        apply(post, request);
+        post.setStatus(request.getStatus() != null ? request.getStatus() : BlogPost.Status.DRAFT);
+        applySchedule(post, request);
+
+        BlogPost savedPost = blogPostRepository.save(post);
+        scheduledPublisher.schedule(savedPost.getId(), savedPost.getScheduledAt());
+        taxonomyCountService.recordChange(PostTaxonomy.NONE, PostTaxonomy.of(savedPost));
+        searchOutboxRepository.save(SearchOutboxEvent.of(savedPost.getId(), SearchOutboxEvent.Operation.UPSERT));
+        log.info("Blog post created: {}", savedPost.getId());
+
+        return ApiResponse.success("Blog post created successfully", BlogPostDetail.from(savedPost));
+    }
+
+    @Transactional(readOnly = true)
+    public ApiResponse<BlogPostDetail> getPost(Long id, UserIdentity viewer, boolean admin) {
+        BlogPost post = blogPostRepository.findById(id)
+            .filter(found -> found.getStatus() == BlogPost.Status.PUBLISHED || canModify(found, viewer, admin))
+            .orElseThrow(() -> new BlogPostNotFoundException("Blog post not found with id: " + id));
+        return ApiResponse.success(BlogPostDetail.from(post));
+    }
+
+    /**
+     * Rendered body of a published post. Runs without a transaction so a cache hit never takes a
+     * database connection.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RenderedBody getPostBody(Long id) {
+        return postBodyCache.get(id, postId -> blogPostRepository.findById(postId)
+            .filter(post -> post.getStatus() == BlogPost.Status.PUBLISHED)
+            .map(postBodyRenderer::render)
+            .orElseThrow(() -> new BlogPostNotFoundException("Blog post not found with id: " + postId)));
+    }
+
+    public ApiResponse<BlogPostDetail> updatePost(Long id, BlogPostRequest request, UserIdentity editor, boolean admin) {
+        BlogPost post = findModifiablePost(id, editor, admin);
+        PostTaxonomy before = PostTaxonomy.of(post);
+        apply(post, request);
+        if (request.getStatus() != null) {
+            post.setStatus(request.getStatus());
+        }
+        applySchedule(post, request);
+
+        BlogPost updatedPost = blogPostRepository.save(post);
+        postBodyCache.invalidate(id);
+        if (updatedPost.getStatus() != BlogPost.Status.PUBLISHED) {
+            trendingService.forget(id);
+        }
+        scheduledPublisher.schedule(id, updatedPost.getScheduledAt());
+        taxonomyCountService.recordChange(before, PostTaxonomy.of(updatedPost));
+        searchOutboxRepository.save(SearchOutboxEvent.of(id, SearchOutboxEvent.Operation.UPSERT));
+        log.info("Blog post updated: {}", id);
+
+        return ApiResponse.success("Blog post updated successfully", BlogPostDetail.from(updatedPost));
+    }
+
+    public ApiResponse<Void> deletePost(Long id, UserIdentity editor, boolean admin) {
+        BlogPost post = findModifiablePost(id, editor, admin);
+        taxonomyCountService.recordChange(PostTaxonomy.of(post), PostTaxonomy.NONE);
+        blogPostRepository.delete(post);
+        postBodyCache.invalidate(id);
+        trendingService.forget(id);
+        scheduledPublisher.schedule(id, null);
+        searchOutboxRepository.save(SearchOutboxEvent.deletion(post));
+        log.info("Blog post deleted: {}", id);
+
+        return ApiResponse.success("Blog post deleted successfully", null);
+    }
+
+    private static void applySchedule(BlogPost post, BlogPostRequest request) {
+        post.setScheduledAt(post.getStatus() == BlogPost.Status.DRAFT ? request.getScheduledAt() : null);
+    }
+
+    private BlogPost findModifiablePost(Long id, UserIdentity editor, boolean admin) {
+        BlogPost post = blogPostRepository.findById(id)
+            .orElseThrow(() -> new BlogPostNotFoundException("Blog post not found with id: " + id));
+        if (!canModify(post, editor, admin)) {
+            throw new AccessDeniedException("Only the author or an admin can modify this post");
+        }
+        return post;
+    }
+
+    private static boolean canModify(BlogPost post, UserIdentity user, boolean admin) {
+        return admin || (user != null && post.getAuthorId().equals(user.getId()));
+    }
+
+    private void apply(BlogPost post, BlogPostRequest request) {
+        post.setTitle(request.getTitle());
+        post.setContent(request.getContent());
+        post.setExcerpt(request.getExcerpt());
+        post.setFeaturedImage(request.getFeaturedImage());
+        if (request.getCategoryIds() != null) {
+            post.setCategories(new HashSet<>(categoryRepository.findAllById(request.getCategoryIds())));
+        }
+        if (request.getTagIds() != null) {
+            post.setTags(new HashSet<>(tagRepository.findAllById(request.getTagIds())));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public ApiResponse<CursorPage<BlogPostSummary>> getFeed(String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        PageRequest firstRows = PageRequest.of(0, pageSize + 1);
+        List<BlogPostSummary> rows;
+        if (cursor == null) {
+            rows = blogPostRepository.findFeed(BlogPost.Status.PUBLISHED, firstRows);
+        } else {
+            KeysetCursor after = KeysetCursor.decodeTimestamped(cursor);
+            rows = blogPostRepository.findFeedAfter(BlogPost.Status.PUBLISHED, after.timestamp(), after.id(), firstRows);
+        }
+        CursorPage<BlogPostSummary> page = CursorPage.of(rows, pageSize,
+            post -> new KeysetCursor(post.publishedAt(), post.id()));
+        page.setItems(withTaxonomy(page.getItems()));
+        return ApiResponse.success(page);
+    }
+
+    /**
+     * Attaches category and tag names to a page of summaries with one query per association,
+     * instead of one per post as lazy loading would.
+     */
+    private List<BlogPostSummary> withTaxonomy(List<BlogPostSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return summaries;
+        }
+        List<Long> ids = summaries.stream().map(BlogPostSummary::id).toList();
+        Map<Long, List<String>> categories = namesByPost(blogPostRepository.findCategoryNamesByPostIdIn(ids));
+        Map<Long, List<String>> tags = namesByPost(blogPostRepository.findTagNamesByPostIdIn(ids));
+        return summaries.stream()
+            .map(summary -> summary.withTaxonomy(
+                categories.getOrDefault(summary.id(), List.of()), tags.getOrDefault(summary.id(), List.of())))
+            .toList();
+    }
+
+    private static Map<Long, List<String>> namesByPost(List<PostTermName> names) {
+        return names.stream().collect(Collectors.groupingBy(PostTermName::postId,
+            Collectors.mapping(PostTermName::name, Collectors.toList())));
+    }
+
+    /**
+     * Precomputed related posts that are still published, most similar first.
+     */
+    @Transactional(readOnly = true)
+    public ApiResponse<List<BlogPostSummary>> getRelatedPosts(Long id) {
+        return ApiResponse.success(blogPostRepository.findRelatedSummaries(id, BlogPost.Status.PUBLISHED));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ApiResponse<Void> recordView(Long id) {
+        viewCounter.record(id);
+        trendingService.record(id, TrendingService.Signal.VIEW);
+        return ApiResponse.success("View recorded", null);
+    }
+}
@@ -0,0 +1,59 @@
+package com.blognest.blogservice.service;
+
+import com.blognest.blogservice.repository.JobLeaseRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Named leases that keep a job to one replica at a time. Each call commits on its own, so a lease
+ * is visible to other replicas as soon as it is taken and outlives the transactions of the job.
+ */
+@Component
+public class JobLeases {
+
+    private final JobLeaseRepository leaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String owner = UUID.randomUUID().toString();
+
+    public JobLeases(JobLeaseRepository leaseRepository, PlatformTransactionManager transactionManager) {
+        this.leaseRepository = leaseRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Takes {@code name} for {@code timeout} unless another replica holds it and it has not lapsed.
+     */
+    public boolean tryAcquire(String name, Duration timeout) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(timeout);
+        try {
+            transactionTemplate.executeWithoutResult(status -> leaseRepository.insert(name, owner, until));
+            return true;
+        } catch (DataIntegrityViolationException ex) {
+            // Some replica has held the lease before; it is ours only if that claim has lapsed
+            Integer acquired = transactionTemplate.execute(status -> leaseRepository.acquire(name, owner, now, until));
+            return acquired != null && acquired == 1;
+        }
+    }
+
+    /**
+     * Pushes out a held lease; false if it lapsed and another replica took it over.
+     */
+    public boolean extend(String name, Duration timeout) {
+        LocalDateTime until = LocalDateTime.now().plus(timeout);
+        Integer extended = transactionTemplate.execute(status -> leaseRepository.extend(name, owner, until));
+        return extended != null && extended == 1;
+    }
+
+    public void release(String name) {
+        transactionTemplate.executeWithoutResult(status -> leaseRepository.release(name, owner));
+    }
+}
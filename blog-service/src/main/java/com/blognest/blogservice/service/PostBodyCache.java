@@ -0,0 +1,74 @@
+package com.blognest.blogservice.service;
+
+import com.blognest.blogservice.dto.RenderedBody;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Rendered bodies of published posts, bounded by their size in bytes. A hit, including a
+ * conditional GET answered with 304, does not touch the database. Edits on this replica evict
+ * the entry after commit; the expiry bounds how long another replica can serve an older body.
+ */
+@Component
+public class PostBodyCache implements MeterBinder {
+
+    private final Cache<Long, RenderedBody> bodies;
+    private final Counter identityBytes;
+    private final Counter gzipBytes;
+    private final Counter notModified;
+
+    public PostBodyCache(MeterRegistry meterRegistry,
+                         @Value("${app.body-cache.max-bytes:67108864}") long maxBytes,
+                         @Value("${app.body-cache.ttl:5m}") Duration ttl) {
+        this.bodies = Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .<Long, RenderedBody>weigher((id, body) -> body.weight())
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        this.identityBytes = meterRegistry.counter("blog.body.bytes.served", "encoding", "identity");
+        this.gzipBytes = meterRegistry.counter("blog.body.bytes.served", "encoding", "gzip");
+        this.notModified = meterRegistry.counter("blog.body.not.modified");
+    }
+
+    public RenderedBody get(Long postId, Function<Long, RenderedBody> loader) {
+        return bodies.get(postId, loader);
+    }
+
+    public void recordServed(RenderedBody body, boolean gzip) {
+        (gzip ? gzipBytes : identityBytes).increment(gzip ? body.gzip().length : body.html().length);
+    }
+
+    public void recordNotModified() {
+        notModified.increment();
+    }
+
+    public void invalidate(Long postId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bodies.invalidate(postId);
+                }
+            });
+        } else {
+            bodies.invalidate(postId);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, bodies, "blog.body");
+    }
+}
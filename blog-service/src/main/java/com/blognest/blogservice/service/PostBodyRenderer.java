@@ -0,0 +1,56 @@
+package com.blognest.blogservice.service;
+
+import com.blognest.blogservice.dto.RenderedBody;
+import com.blognest.blogservice.entity.BlogPost;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.safety.Safelist;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Turns stored post content into the HTML served to readers. Markup outside a relaxed allow-list is
+ * dropped, links and images are limited to safe URL schemes, and links get {@code rel="nofollow ugc"}.
+ */
+@Component
+public class PostBodyRenderer {
+
+    private static final Safelist SAFELIST = Safelist.relaxed()
+        .addEnforcedAttribute("a", "rel", "nofollow ugc")
+        .removeProtocols("a", "href", "ftp");
+
+    private static final Document.OutputSettings OUTPUT = new Document.OutputSettings().prettyPrint(false);
+
+    public RenderedBody render(BlogPost post) {
+        String html = Jsoup.clean(post.getContent(), "", SAFELIST, OUTPUT);
+        byte[] bytes = html.getBytes(StandardCharsets.UTF_8);
+        return new RenderedBody(post.getId(), post.getUpdatedAt(), etagOf(bytes), bytes, gzip(bytes));
+    }
+
+    private static String etagOf(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 27) + "\"";
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 3 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,26 @@
+package com.blognest.blogservice.service;
+
+import com.blognest.blogservice.entity.BlogPost;
+import com.blognest.blogservice.entity.Category;
+import com.blognest.blogservice.entity.Tag;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Categories and tags a post contributes to the published-post counters: all of them while the
+ * post is published, none otherwise.
+ */
+public record PostTaxonomy(Set<Long> categoryIds, Set<Long> tagIds) {
+
+    public static final PostTaxonomy NONE = new PostTaxonomy(Set.of(), Set.of());
+
+    public static PostTaxonomy of(BlogPost post) {
+        if (post.getStatus() != BlogPost.Status.PUBLISHED) {
+            return NONE;
+        }
+        return new PostTaxonomy(
+            post.getCategories().stream().map(Category::getId).collect(Collectors.toSet()),
+            post.getTags().stream().map(Tag::getId).collect(Collectors.toSet()));
+    }
+}
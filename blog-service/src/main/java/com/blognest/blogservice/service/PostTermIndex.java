@@ -0,0 +1,159 @@
+package com.blognest.blogservice.service;
+
+import java.util.Arrays;
+
+/**
+ * Published posts and the tags and categories they carry, as dense int ids in compressed rows:
+ * the sorted terms of every post and, inverted, the posts of every term. Post {@code i} is the
+ * i-th lowest post id, so a higher dense id is a newer post.
+ */
+final class PostTermIndex {
+
+    private final long[] postIds;
+    private final int[] termOffsets;
+    private final int[] terms;
+    private final int[] postingOffsets;
+    private final int[] postings;
+
+    private PostTermIndex(long[] postIds, int[] termOffsets, int[] terms, int[] postingOffsets, int[] postings) {
+        this.postIds = postIds;
+        this.termOffsets = termOffsets;
+        this.terms = terms;
+        this.postingOffsets = postingOffsets;
+        this.postings = postings;
+    }
+
+    /**
+     * Builds the index from ascending post ids and parallel arrays of (post, term) pairs, where
+     * posts are dense ids and terms any non-negative keys. Duplicate pairs are counted once.
+     */
+    static PostTermIndex build(long[] postIds, int[] pairPosts, long[] pairTerms, int pairCount) {
+        long[] termKeys = Arrays.stream(pairTerms, 0, pairCount).sorted().distinct().toArray();
+
+        int[] termOffsets = new int[postIds.length + 1];
+        for (int i = 0; i < pairCount; i++) {
+            termOffsets[pairPosts[i] + 1]++;
+        }
+        for (int p = 0; p < postIds.length; p++) {
+            termOffsets[p + 1] += termOffsets[p];
+        }
+        int[] terms = new int[pairCount];
+        int[] fill = Arrays.copyOf(termOffsets, postIds.length);
+        for (int i = 0; i < pairCount; i++) {
+            terms[fill[pairPosts[i]]++] = Arrays.binarySearch(termKeys, pairTerms[i]);
+        }
+
+        // Sort and deduplicate every row, compacting the rows to the left
+        int[] compactOffsets = new int[postIds.length + 1];
+        int size = 0;
+        for (int p = 0; p < postIds.length; p++) {
+            int from = termOffsets[p];
+            int to = termOffsets[p + 1];
+            Arrays.sort(terms, from, to);
+            for (int i = from; i < to; i++) {
+                if (i == from || terms[i] != terms[i - 1]) {
+                    terms[size++] = terms[i];
+                }
+            }
+            compactOffsets[p + 1] = size;
+        }
+
+        int[] postingOffsets = new int[termKeys.length + 1];
+        for (int i = 0; i < size; i++) {
+            postingOffsets[terms[i] + 1]++;
+        }
+        for (int t = 0; t < termKeys.length; t++) {
+            postingOffsets[t + 1] += postingOffsets[t];
+        }
+        int[] postings = new int[size];
+        fill = Arrays.copyOf(postingOffsets, termKeys.length);
+        for (int p = 0; p < postIds.length; p++) {
+            for (int i = compactOffsets[p]; i < compactOffsets[p + 1]; i++) {
+                postings[fill[terms[i]]++] = p;
+            }
+        }
+        return new PostTermIndex(postIds, compactOffsets, Arrays.copyOf(terms, size), postingOffsets, postings);
+    }
+
+    int size() {
+        return postIds.length;
+    }
+
+    long postId(int post) {
+        return postIds[post];
+    }
+
+    /**
+     * Dense id of a post, or a negative number if it is not in the index.
+     */
+    int denseId(long postId) {
+        return Arrays.binarySearch(postIds, postId);
+    }
+
+    /**
+     * The {@code k} posts most similar to {@code post} by Jaccard overlap of their terms, best
+     * first, with newer posts first among equal scores. Candidates are the posts sharing a term;
+     * of a term carried by more than {@code maxPostings} posts only the newest are considered, so
+     * a broad category costs a bounded scan. {@code seen} must hold {@link #size()} ints that are
+     * not yet a dense id of this index, and is reused across calls on one thread.
+     */
+    Similar similar(int post, int k, int maxPostings, int[] seen) {
+        int[] best = new int[k];
+        double[] scores = new double[k];
+        int size = 0;
+        for (int i = termOffsets[post]; i < termOffsets[post + 1]; i++) {
+            int term = terms[i];
+            int first = Math.max(postingOffsets[term], postingOffsets[term + 1] - maxPostings);
+            for (int j = postingOffsets[term + 1] - 1; j >= first; j--) {
+                int candidate = postings[j];
+                if (candidate == post || seen[candidate] == post) {
+                    continue;
+                }
+                seen[candidate] = post;
+                double score = jaccard(post, candidate);
+                if (size == k && !ranksAbove(score, candidate, scores[k - 1], best[k - 1])) {
+                    continue;
+                }
+                int position = size < k ? size++ : k - 1;
+                while (position > 0 && ranksAbove(score, candidate, scores[position - 1], best[position - 1])) {
+                    best[position] = best[position - 1];
+                    scores[position] = scores[position - 1];
+                    position--;
+                }
+                best[position] = candidate;
+                scores[position] = score;
+            }
+        }
+        return new Similar(Arrays.copyOf(best, size), Arrays.copyOf(scores, size));
+    }
+
+    private static boolean ranksAbove(double score, int post, double otherScore, int other) {
+        return score > otherScore || score == otherScore && post > other;
+    }
+
+    private double jaccard(int a, int b) {
+        int i = termOffsets[a];
+        int endA = termOffsets[a + 1];
+        int j = termOffsets[b];
+        int endB = termOffsets[b + 1];
+        int shared = 0;
+        while (i < endA && j < endB) {
+            if (terms[i] == terms[j]) {
+                shared++;
+                i++;
+                j++;
+            } else if (terms[i] < terms[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) shared / (endA - termOffsets[a] + endB - termOffsets[b] - shared);
+    }
+
+    /**
+     * Dense ids of similar posts and their scores, best first.
+     */
+    record Similar(int[] posts, double[] scores) {
+    }
+}
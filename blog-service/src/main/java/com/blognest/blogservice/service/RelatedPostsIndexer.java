@@ -0,0 +1,420 @@
+package com.blognest.blogservice.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Precomputes every published post's related posts, ranked by Jaccard overlap of their tags and
+ * categories, into {@code related_posts}, so a detail page reads its list with one indexed query.
+ *
+ * <p>A full rebuild loads the published posts and their terms into a {@link PostTermIndex} and
+ * scores posts in parallel on a fork-join pool, one chunk at a time. A chunk's lists are replaced
+ * in one transaction. Rebuilds run shortly after startup and then whenever the oldest stored list
+ * is older than {@code app.related.rebuild-interval}, so neither an empty table after a deploy
+ * nor frequent restarts hold them off. In between, posts the indexing worker reports as changed
+ * are refreshed along with the lists they appear in, from an index of just those posts and their
+ * candidates; other lists they now belong to pick them up at the next rebuild.
+ *
+ * <p>Rebuilds and refreshes replace the same rows, so they hold a cluster-wide lease while they
+ * write. A replica that finds it held skips the rebuild, or keeps its changes for the next refresh.
+ */
+@Slf4j
+@Service
+public class RelatedPostsIndexer {
+
+    private static final String POSTS_SQL = "SELECT id FROM blog_posts WHERE status = 'PUBLISHED' ORDER BY id";
+    // Tags and categories share one key space: even keys are tags, odd keys categories
+    private static final String TERMS_SQL =
+        "SELECT post_id, tag_id * 2 FROM blog_post_tags " +
+        "UNION ALL SELECT post_id, category_id * 2 + 1 FROM blog_post_categories";
+    private static final String TERMS_OF_SQL =
+        "SELECT pt.post_id, pt.tag_id * 2 FROM blog_post_tags pt JOIN blog_posts p ON p.id = pt.post_id " +
+        "WHERE p.status = 'PUBLISHED' AND pt.post_id IN (%1$s) " +
+        "UNION ALL SELECT pc.post_id, pc.category_id * 2 + 1 FROM blog_post_categories pc JOIN blog_posts p ON p.id = pc.post_id " +
+        "WHERE p.status = 'PUBLISHED' AND pc.post_id IN (%1$s)";
+    // The newest posts of each term, the only ones PostTermIndex.similar considers
+    private static final String TAG_CANDIDATES_SQL =
+        "SELECT pt.post_id, ROW_NUMBER() OVER (PARTITION BY pt.tag_id ORDER BY pt.post_id DESC) AS n " +
+        "FROM blog_post_tags pt JOIN blog_posts p ON p.id = pt.post_id WHERE p.status = 'PUBLISHED' AND pt.tag_id IN (%s)";
+    private static final String CATEGORY_CANDIDATES_SQL =
+        "SELECT pc.post_id, ROW_NUMBER() OVER (PARTITION BY pc.category_id ORDER BY pc.post_id DESC) AS n " +
+        "FROM blog_post_categories pc JOIN blog_posts p ON p.id = pc.post_id WHERE p.status = 'PUBLISHED' AND pc.category_id IN (%s)";
+    private static final String CANDIDATES_SQL = "SELECT DISTINCT post_id FROM (%s) ranked WHERE n <= ?";
+    private static final String DELETE_SQL = "DELETE FROM related_posts WHERE post_id = ?";
+    private static final String INSERT_SQL =
+        "INSERT INTO related_posts (post_id, rank, related_post_id, score, computed_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String DELETE_UNPUBLISHED_SQL =
+        "DELETE FROM related_posts WHERE post_id NOT IN (SELECT id FROM blog_posts WHERE status = 'PUBLISHED')";
+    private static final String LISTED_IN_SQL = "SELECT DISTINCT post_id FROM related_posts WHERE related_post_id IN (%s)";
+    private static final String OLDEST_SQL = "SELECT MIN(computed_at) FROM related_posts";
+    private static final int BATCH_SIZE = 500;
+    private static final String LEASE = "related-posts";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobLeases jobLeases;
+    private final JdbcTemplate cursorTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readTemplate;
+    private final ForkJoinPool pool;
+    private final int size;
+    private final int maxPostings;
+    private final int chunkSize;
+    private final Duration rebuildInterval;
+    private final Duration leaseTimeout;
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final Timer rebuildTimer;
+    private final Timer refreshTimer;
+
+    public RelatedPostsIndexer(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               JobLeases jobLeases,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.related.size:10}") int size,
+                               @Value("${app.related.max-postings:5000}") int maxPostings,
+                               @Value("${app.related.chunk-size:1000}") int chunkSize,
+                               @Value("${app.related.parallelism:0}") int parallelism,
+                               @Value("${app.related.rebuild-interval:86400000}") long rebuildIntervalMillis,
+                               @Value("${app.related.lease-timeout:600000}") long leaseTimeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jobLeases = jobLeases;
+        // The full load only streams inside the read-only transaction; outside one Postgres buffers it all
+        this.cursorTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.cursorTemplate.setFetchSize(5000);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.size = size;
+        this.maxPostings = maxPostings;
+        this.chunkSize = chunkSize;
+        this.rebuildInterval = Duration.ofMillis(rebuildIntervalMillis);
+        this.leaseTimeout = Duration.ofMillis(leaseTimeoutMillis);
+        this.rebuildTimer = meterRegistry.timer("blog.related.rebuild");
+        this.refreshTimer = meterRegistry.timer("blog.related.refresh");
+        meterRegistry.gaugeCollectionSize("blog.related.dirty", List.of(), dirty);
+    }
+
+    /**
+     * Queues posts whose tags, categories or publication changed for the next refresh.
+     */
+    public void markDirty(Collection<Long> postIds) {
+        dirty.addAll(postIds);
+    }
+
+    /**
+     * Rebuilds every list when there are none yet or the oldest is due. The age is read from the
+     * table under the lease, so replicas share it, restarts do not reset it, and a replica that
+     * waited out another's rebuild does not repeat it.
+     */
+    @Scheduled(fixedDelayString = "${app.related.check-interval:600000}",
+               initialDelayString = "${app.related.initial-delay:30000}")
+    public void rebuildIfStale() {
+        rebuild(true);
+    }
+
+    public void rebuild() {
+        rebuild(false);
+    }
+
+    private synchronized void rebuild(boolean onlyIfStale) {
+        if (!jobLeases.tryAcquire(LEASE, leaseTimeout)) {
+            log.debug("Skipping the related-posts rebuild, another instance holds the lease");
+            return;
+        }
+        try {
+            if (onlyIfStale && !isStale()) {
+                return;
+            }
+            // Changes reported from here on may be missing from the load, so they stay queued
+            dirty.clear();
+            rebuildTimer.record(() -> {
+                PostTermIndex index = readTemplate.execute(status -> load());
+                write(index, IntStream.range(0, index.size()).toArray());
+                int removed = jdbcTemplate.update(DELETE_UNPUBLISHED_SQL);
+                log.info("Rebuilt related posts of {} posts, removed the lists of {} unpublished posts", index.size(), removed);
+            });
+        } finally {
+            jobLeases.release(LEASE);
+        }
+    }
+
+    private boolean isStale() {
+        LocalDateTime oldest = jdbcTemplate.queryForObject(OLDEST_SQL, LocalDateTime.class);
+        return oldest == null || oldest.isBefore(LocalDateTime.now().minus(rebuildInterval));
+    }
+
+    @Scheduled(fixedDelayString = "${app.related.refresh-interval:60000}")
+    public synchronized void refresh() {
+        if (dirty.isEmpty() || !jobLeases.tryAcquire(LEASE, leaseTimeout)) {
+            return;
+        }
+        List<Long> changed = new ArrayList<>(dirty);
+        changed.forEach(dirty::remove);
+        try {
+            refreshTimer.record(() -> refresh(changed));
+        } catch (DataAccessException | TransactionException | IllegalStateException ex) {
+            log.error("Failed to refresh related posts of {} changed posts, will retry", changed.size(), ex);
+            dirty.addAll(changed);
+        } finally {
+            jobLeases.release(LEASE);
+        }
+    }
+
+    private void refresh(List<Long> changed) {
+        Set<Long> affected = new TreeSet<>(changed);
+        for (List<Long> batch : partition(changed, BATCH_SIZE)) {
+            affected.addAll(jdbcTemplate.queryForList(placeholders(LISTED_IN_SQL, batch.size()), Long.class, batch.toArray()));
+        }
+
+        PostTermIndex index = loadAround(affected);
+        // Unpublished posts, and published ones without tags or categories, have no related posts
+        List<Long> emptied = new ArrayList<>();
+        IntStream.Builder posts = IntStream.builder();
+        for (Long postId : affected) {
+            int post = index.denseId(postId);
+            if (post >= 0) {
+                posts.add(post);
+            } else {
+                emptied.add(postId);
+            }
+        }
+        jdbcTemplate.batchUpdate(DELETE_SQL, emptied, BATCH_SIZE, (ps, postId) -> ps.setLong(1, postId));
+        write(index, posts.build().toArray());
+        log.debug("Refreshed related posts of {} posts after changes to {}, from an index of {} posts",
+            affected.size(), changed.size(), index.size());
+    }
+
+    private PostTermIndex load() {
+        LongStream.Builder ids = LongStream.builder();
+        cursorTemplate.query(POSTS_SQL, rs -> {
+            ids.add(rs.getLong(1));
+        });
+        long[] postIds = ids.build().toArray();
+
+        Pairs pairs = new Pairs();
+        cursorTemplate.query(TERMS_SQL, rs -> {
+            int post = Arrays.binarySearch(postIds, rs.getLong(1));
+            if (post >= 0) {
+                pairs.add(post, rs.getLong(2));
+            }
+        });
+        return PostTermIndex.build(postIds, pairs.posts, pairs.terms, pairs.size);
+    }
+
+    /**
+     * An index of the published {@code postIds} that carry terms, and of every post that can rank
+     * among their related posts: the newest {@code maxPostings} published posts of each of their
+     * terms. Both come with all their terms, so their scores match those of a full load.
+     */
+    private PostTermIndex loadAround(Collection<Long> postIds) {
+        LongStream.Builder rowPosts = LongStream.builder();
+        LongStream.Builder rowTerms = LongStream.builder();
+        Set<Long> terms = new TreeSet<>();
+        loadTerms(List.copyOf(postIds), (post, term) -> {
+            rowPosts.add(post);
+            rowTerms.add(term);
+            terms.add(term);
+        });
+
+        Set<Long> candidates = new TreeSet<>(candidatesOf(terms));
+        candidates.removeAll(postIds);
+        loadTerms(List.copyOf(candidates), (post, term) -> {
+            rowPosts.add(post);
+            rowTerms.add(term);
+        });
+
+        long[] posts = rowPosts.build().toArray();
+        long[] keys = rowTerms.build().toArray();
+        long[] indexed = Arrays.stream(posts).sorted().distinct().toArray();
+        Pairs pairs = new Pairs();
+        for (int i = 0; i < posts.length; i++) {
+            pairs.add(Arrays.binarySearch(indexed, posts[i]), keys[i]);
+        }
+        return PostTermIndex.build(indexed, pairs.posts, pairs.terms, pairs.size);
+    }
+
+    private void loadTerms(List<Long> postIds, TermConsumer consumer) {
+        for (List<Long> batch : partition(postIds, BATCH_SIZE)) {
+            Object[] args = new Object[batch.size() * 2];
+            for (int i = 0; i < batch.size(); i++) {
+                args[i] = batch.get(i);
+                args[batch.size() + i] = batch.get(i);
+            }
+            jdbcTemplate.query(placeholders(TERMS_OF_SQL, batch.size()), rs -> {
+                consumer.accept(rs.getLong(1), rs.getLong(2));
+            }, args);
+        }
+    }
+
+    private List<Long> candidatesOf(Set<Long> terms) {
+        List<Long> tagIds = terms.stream().filter(term -> term % 2 == 0).map(term -> term / 2).toList();
+        List<Long> categoryIds = terms.stream().filter(term -> term % 2 == 1).map(term -> term / 2).toList();
+        List<String> ranked = new ArrayList<>(2);
+        List<Object> args = new ArrayList<>(terms.size() + 1);
+        if (!tagIds.isEmpty()) {
+            ranked.add(placeholders(TAG_CANDIDATES_SQL, tagIds.size()));
+            args.addAll(tagIds);
+        }
+        if (!categoryIds.isEmpty()) {
+            ranked.add(placeholders(CATEGORY_CANDIDATES_SQL, categoryIds.size()));
+            args.addAll(categoryIds);
+        }
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+        args.add(maxPostings);
+        return jdbcTemplate.queryForList(CANDIDATES_SQL.formatted(String.join(" UNION ALL ", ranked)), Long.class,
+            args.toArray());
+    }
+
+    private static String placeholders(String sql, int count) {
+        return sql.formatted(String.join(", ", Collections.nCopies(count, "?")));
+    }
+
+    /**
+     * Scores {@code posts} chunk by chunk and replaces their stored lists.
+     */
+    private void write(PostTermIndex index, int[] posts) {
+        ThreadLocal<int[]> seen = ThreadLocal.withInitial(() -> {
+            int[] marks = new int[index.size()];
+            Arrays.fill(marks, -1);
+            return marks;
+        });
+        LocalDateTime computedAt = LocalDateTime.now();
+        for (int from = 0; from < posts.length; from += chunkSize) {
+            if (!jobLeases.extend(LEASE, leaseTimeout)) {
+                throw new IllegalStateException("Lost the related-posts lease to another instance");
+            }
+            int to = Math.min(posts.length, from + chunkSize);
+            PostTermIndex.Similar[] similar = new PostTermIndex.Similar[to - from];
+            pool.invoke(new SimilarityTask(index, posts, from, to, from, similar, seen));
+
+            List<Long> postIds = new ArrayList<>(to - from);
+            List<Object[]> rows = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                long postId = index.postId(posts[i]);
+                postIds.add(postId);
+                PostTermIndex.Similar related = similar[i - from];
+                for (int rank = 0; rank < related.posts().length; rank++) {
+                    rows.add(new Object[]{postId, rank, index.postId(related.posts()[rank]), related.scores()[rank]});
+                }
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(DELETE_SQL, postIds, BATCH_SIZE, (ps, postId) -> ps.setLong(1, postId));
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+                    ps.setLong(1, (Long) row[0]);
+                    ps.setInt(2, (Integer) row[1]);
+                    ps.setLong(3, (Long) row[2]);
+                    ps.setDouble(4, (Double) row[3]);
+                    ps.setObject(5, computedAt);
+                });
+            });
+        }
+    }
+
+    private static <T> List<List<T>> partition(List<T> values, int size) {
+        List<List<T>> batches = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += size) {
+            batches.add(values.subList(from, Math.min(values.size(), from + size)));
+        }
+        return batches;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Scores {@code posts[from, to)} into {@code similar}, offset by {@code base}, splitting the
+     * range in halves until it is small enough to score on one thread.
+     */
+    private final class SimilarityTask extends RecursiveAction {
+
+        private static final int THRESHOLD = 64;
+
+        private final PostTermIndex index;
+        private final int[] posts;
+        private final int from;
+        private final int to;
+        private final int base;
+        private final PostTermIndex.Similar[] similar;
+        private final ThreadLocal<int[]> seen;
+
+        SimilarityTask(PostTermIndex index, int[] posts, int from, int to, int base,
+                       PostTermIndex.Similar[] similar, ThreadLocal<int[]> seen) {
+            this.index = index;
+            this.posts = posts;
+            this.from = from;
+            this.to = to;
+            this.base = base;
+            this.similar = similar;
+            this.seen = seen;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                int[] marks = seen.get();
+                for (int i = from; i < to; i++) {
+                    similar[i - base] = index.similar(posts[i], size, maxPostings, marks);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SimilarityTask(index, posts, from, middle, base, similar, seen),
+                new SimilarityTask(index, posts, middle, to, base, similar, seen));
+        }
+    }
+
+    @FunctionalInterface
+    private interface TermConsumer {
+
+        void accept(long postId, long term);
+    }
+
+    /**
+     * Growable parallel arrays of (dense post, term key) pairs.
+     */
+    private static final class Pairs {
+
+        private int[] posts = new int[1024];
+        private long[] terms = new long[1024];
+        private int size;
+
+        void add(int post, long term) {
+            if (size == posts.length) {
+                posts = Arrays.copyOf(posts, size * 2);
+                terms = Arrays.copyOf(terms, size * 2);
+            }
+            posts[size] = post;
+            terms[size] = term;
+            size++;
+        }
+    }
+}
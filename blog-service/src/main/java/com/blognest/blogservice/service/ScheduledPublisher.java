@@ -0,0 +1,201 @@
+package com.blognest.blogservice.service;
+
+import com.blognest.blogservice.dto.PostSchedule;
+import com.blognest.blogservice.entity.BlogPost;
+import com.blognest.blogservice.entity.SearchOutboxEvent;
+import com.blognest.blogservice.repository.BlogPostRepository;
+import com.blognest.blogservice.repository.SearchOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes scheduled drafts when they fall due. Posts due within the look-ahead horizon sit in a
+ * {@link DelayQueue}, so a single thread sleeps until the next publish time instead of polling.
+ * When it wakes it publishes everything due, not only the post that woke it, in batches claimed
+ * with SKIP LOCKED: replicas split the work without waiting on each other, and a burst of posts
+ * due in the same minute becomes a few short transactions with a pause between them. Search
+ * indexing stays behind the outbox, so a burst never reaches the search backend all at once.
+ */
+@Slf4j
+@Component
+public class ScheduledPublisher {
+
+    private final BlogPostRepository blogPostRepository;
+    private final SearchOutboxRepository searchOutboxRepository;
+    private final TaxonomyCountService taxonomyCountService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration horizon;
+    private final Duration batchPause;
+    private final DelayQueue<Due> queue = new DelayQueue<>();
+    private final Map<Long, Due> queued = new ConcurrentHashMap<>();
+    private final Counter publishedCounter;
+    private volatile Thread dispatcher;
+
+    public ScheduledPublisher(BlogPostRepository blogPostRepository,
+                              SearchOutboxRepository searchOutboxRepository,
+                              TaxonomyCountService taxonomyCountService,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.publishing.batch-size:200}") int batchSize,
+                              @Value("${app.publishing.horizon:10m}") Duration horizon,
+                              @Value("${app.publishing.batch-pause:200ms}") Duration batchPause) {
+        this.blogPostRepository = blogPostRepository;
+        this.searchOutboxRepository = searchOutboxRepository;
+        this.taxonomyCountService = taxonomyCountService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.horizon = horizon;
+        this.batchPause = batchPause;
+        this.publishedCounter = meterRegistry.counter("blog.posts.scheduled.published");
+        meterRegistry.gaugeCollectionSize("blog.posts.scheduled.queued", List.of(), queue);
+    }
+
+    @PostConstruct
+    public void start() {
+        Thread thread = new Thread(this::dispatch, "scheduled-publisher");
+        thread.setDaemon(true);
+        thread.start();
+        dispatcher = thread;
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread thread = dispatcher;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Sets or clears ({@code scheduledAt == null}) the publish time of a post. Inside a transaction
+     * this takes effect after commit, so the dispatcher never wakes for an uncommitted schedule.
+     */
+    public void schedule(Long postId, LocalDateTime scheduledAt) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(postId, scheduledAt);
+                }
+            });
+        } else {
+            enqueue(postId, scheduledAt);
+        }
+    }
+
+    /**
+     * Picks up posts scheduled on other replicas, and posts that were due while publishing failed.
+     */
+    @Scheduled(fixedDelayString = "${app.publishing.refresh-interval:60000}")
+    public void refresh() {
+        List<PostSchedule> schedules = blogPostRepository.findSchedulesDueBefore(
+            BlogPost.Status.DRAFT, LocalDateTime.now().plus(horizon));
+        schedules.forEach(schedule -> enqueue(schedule.id(), schedule.scheduledAt()));
+    }
+
+    private synchronized void enqueue(Long postId, LocalDateTime scheduledAt) {
+        Due previous = queued.remove(postId);
+        if (previous != null) {
+            queue.remove(previous);
+        }
+        // Posts further out are loaded by a later refresh, which keeps the queue small
+        if (scheduledAt != null && !scheduledAt.isAfter(LocalDateTime.now().plus(horizon))) {
+            // Round up: waking before a sub-millisecond schedule would find nothing due and drop it
+            Instant at = scheduledAt.atZone(ZoneId.systemDefault()).toInstant();
+            long dueAtMillis = at.toEpochMilli() + (at.getNano() % 1_000_000 == 0 ? 0 : 1);
+            Due due = new Due(postId, dueAtMillis);
+            queued.put(postId, due);
+            queue.put(due);
+        }
+    }
+
+    private void dispatch() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<Due> expired = new ArrayList<>();
+                expired.add(queue.take());
+                queue.drainTo(expired);
+                expired.forEach(due -> queued.remove(due.postId(), due));
+                int published = publishDue();
+                if (published > 0) {
+                    log.info("Published {} scheduled posts", published);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException ex) {
+                log.error("Scheduled publishing failed, due posts are retried on the next refresh", ex);
+            }
+        }
+    }
+
+    /**
+     * Publishes every post due by now and returns how many this replica published.
+     */
+    public int publishDue() throws InterruptedException {
+        int total = 0;
+        while (true) {
+            Integer published = transactionTemplate.execute(status -> publishBatch(LocalDateTime.now()));
+            int count = published != null ? published : 0;
+            total += count;
+            if (count < batchSize) {
+                return total;
+            }
+            Thread.sleep(batchPause.toMillis());
+        }
+    }
+
+    private int publishBatch(LocalDateTime now) {
+        List<BlogPost> posts = blogPostRepository.lockDueScheduled(BlogPost.Status.DRAFT, now, PageRequest.of(0, batchSize));
+        List<SearchOutboxEvent> events = new ArrayList<>(posts.size());
+        List<PostTaxonomy> published = new ArrayList<>(posts.size());
+        for (BlogPost post : posts) {
+            post.setStatus(BlogPost.Status.PUBLISHED);
+            // The feed orders by the announced time, not by when this replica got to it
+            post.setPublishedAt(post.getScheduledAt());
+            post.setScheduledAt(null);
+            published.add(PostTaxonomy.of(post));
+            events.add(SearchOutboxEvent.of(post.getId(), SearchOutboxEvent.Operation.UPSERT));
+        }
+        taxonomyCountService.recordPublished(published);
+        searchOutboxRepository.saveAll(events);
+        publishedCounter.increment(posts.size());
+        return posts.size();
+    }
+
+    private record Due(Long postId, long dueAtMillis) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.blognest.blogservice.service;
+
+import com.blognest.blogservice.dto.TermCount;
+import com.blognest.blogservice.repository.CategoryRepository;
+import com.blognest.blogservice.repository.TagRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Published-post counts per tag and category. Counters are adjusted with relative updates in the
+ * transaction that changes a post, so the tag cloud is a plain ordered read instead of a GROUP BY
+ * over the join tables. Clouds are cached for a short time; a periodic reconciliation recomputes
+ * the counters from the join tables and corrects any drift.
+ */
+@Slf4j
+@Service
+public class TaxonomyCountService implements MeterBinder {
+
+    private static final String TAGS = "tags";
+    private static final String CATEGORIES = "categories";
+
+    private final TagRepository tagRepository;
+    private final CategoryRepository categoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LoadingCache<String, List<TermCount>> clouds;
+    private final Counter driftCounter;
+
+    public TaxonomyCountService(TagRepository tagRepository,
+                                CategoryRepository categoryRepository,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.taxonomy.cloud.size:100}") int cloudSize,
+                                @Value("${app.taxonomy.cloud.ttl:60s}") Duration cloudTtl) {
+        this.tagRepository = tagRepository;
+        this.categoryRepository = categoryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        PageRequest top = PageRequest.of(0, cloudSize);
+        this.clouds = Caffeine.newBuilder()
+            .expireAfterWrite(cloudTtl)
+            .recordStats()
+            .build(kind -> TAGS.equals(kind) ? tagRepository.findCloud(top) : categoryRepository.findCloud(top));
+        this.driftCounter = meterRegistry.counter("taxonomy.counts.drift");
+    }
+
+    public List<TermCount> getTagCloud() {
+        return clouds.get(TAGS);
+    }
+
+    public List<TermCount> getCategoryCloud() {
+        return clouds.get(CATEGORIES);
+    }
+
+    /**
+     * Moves the counters from what the post contributed before the change to what it contributes
+     * now. Must run in the transaction that changes the post.
+     */
+    public void recordChange(PostTaxonomy before, PostTaxonomy after) {
+        adjust(before.categoryIds(), after.categoryIds(), categoryRepository::adjustPublishedPostCount);
+        adjust(before.tagIds(), after.tagIds(), tagRepository::adjustPublishedPostCount);
+    }
+
+    /**
+     * Counts a batch of newly published posts with one update per distinct delta, rather than one
+     * per post and term.
+     */
+    public void recordPublished(List<PostTaxonomy> published) {
+        Map<Long, Long> categoryDeltas = new HashMap<>();
+        Map<Long, Long> tagDeltas = new HashMap<>();
+        for (PostTaxonomy taxonomy : published) {
+            taxonomy.categoryIds().forEach(id -> categoryDeltas.merge(id, 1L, Long::sum));
+            taxonomy.tagIds().forEach(id -> tagDeltas.merge(id, 1L, Long::sum));
+        }
+        applyDeltas(categoryDeltas, categoryRepository::adjustPublishedPostCount);
+        applyDeltas(tagDeltas, tagRepository::adjustPublishedPostCount);
+    }
+
+    private static void applyDeltas(Map<Long, Long> deltas, BiFunction<Collection<Long>, Long, Integer> update) {
+        deltas.entrySet().stream()
+            .collect(Collectors.groupingBy(Map.Entry::getValue, TreeMap::new,
+                Collectors.mapping(Map.Entry::getKey, Collectors.toCollection(TreeSet::new))))
+            .forEach((delta, ids) -> update.apply(ids, delta));
+    }
+
+    private static void adjust(Set<Long> before, Set<Long> after, BiFunction<Collection<Long>, Long, Integer> update) {
+        Set<Long> added = new HashSet<>(after);
+        added.removeAll(before);
+        Set<Long> removed = new HashSet<>(before);
+        removed.removeAll(after);
+        if (!added.isEmpty()) {
+            update.apply(added, 1L);
+        }
+        if (!removed.isEmpty()) {
+            update.apply(removed, -1L);
+        }
+    }
+
+    /**
+     * Recomputes every counter from the join tables and returns how many were wrong. Only rows
+     * that differ are written. A post change committing mid-run can leave a counter off by one
+     * until the next run.
+     */
+    @Scheduled(fixedDelayString = "${app.taxonomy.reconcile-interval:3600000}",
+               initialDelayString = "${app.taxonomy.reconcile-interval:3600000}")
+    public int reconcile() {
+        Integer corrected = transactionTemplate.execute(status ->
+            tagRepository.reconcilePublishedPostCounts() + categoryRepository.reconcilePublishedPostCounts());
+        int drifted = corrected != null ? corrected : 0;
+        if (drifted > 0) {
+            log.warn("Corrected published-post counts of {} tags and categories", drifted);
+            driftCounter.increment(drifted);
+            clouds.invalidateAll();
+        }
+        return drifted;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, clouds, "taxonomy.clouds");
+    }
+}
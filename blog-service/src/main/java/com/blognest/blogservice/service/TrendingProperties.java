@@ -0,0 +1,37 @@
+package com.blognest.blogservice.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.trending")
+public class TrendingProperties {
+
+    /** Time after which an engagement counts half as much as when it happened. */
+    private Duration halfLife = Duration.ofHours(6);
+
+    /** Posts kept in the served top list. */
+    private int size = 50;
+
+    /** Posts tracked at most; the lowest scores are dropped beyond it. */
+    private int maxTracked = 100_000;
+
+    /** Decayed score below which a post is no longer tracked. */
+    private double minScore = 0.01;
+
+    private Weights weights = new Weights();
+
+    @Data
+    public static class Weights {
+
+        private double view = 1;
+
+        private double like = 5;
+
+        private double comment = 10;
+    }
+}
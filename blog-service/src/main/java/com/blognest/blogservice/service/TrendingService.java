@@ -0,0 +1,283 @@
+package com.blognest.blogservice.service;
+
+import com.blognest.blogservice.dto.BlogPostSummary;
+import com.blognest.blogservice.dto.TrendingPost;
+import com.blognest.blogservice.entity.BlogPost;
+import com.blognest.blogservice.repository.BlogPostRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ranks published posts by recent engagement. Each view, like or comment adds its weight to the
+ * post's score, halved for every half-life that has passed since.
+ *
+ * <p>Scores use forward decay: an engagement at time {@code t} adds {@code weight * e^(rate * (t - landmark))}
+ * and the current score is the sum times {@code e^(-rate * (now - landmark))}. Decay then scales
+ * every score alike and never reorders them, so only posts with new engagement move in the
+ * ranking and nothing is rewritten as time passes. The landmark is moved forward long before the
+ * sums could overflow.
+ *
+ * <p>Engagements are summed per post without locking and folded into the ranking by a periodic
+ * refresh. The refresh publishes the top posts as an immutable list, so reading them takes no
+ * lock or query. Rankings are per replica, each from the engagement it has seen.
+ */
+@Slf4j
+@Service
+public class TrendingService {
+
+    public enum Signal { VIEW, LIKE, COMMENT }
+
+    // e^40 leaves room for sums of ~10^290 before a double overflows
+    private static final double REBASE_EXPONENT = 40;
+
+    private static final Comparator<Ranked> BY_SCORE = Comparator.comparingDouble(Ranked::score).reversed()
+        .thenComparingLong(Ranked::postId);
+
+    private final BlogPostRepository blogPostRepository;
+    private final TrendingProperties properties;
+    private final Clock clock;
+    private final double rate;
+    private final Timer refreshTimer;
+
+    private final TreeSet<Ranked> ranking = new TreeSet<>(BY_SCORE);
+    private final Map<Long, Ranked> rankedByPost = new HashMap<>();
+    private final Set<Long> forgotten = ConcurrentHashMap.newKeySet();
+    private long landmarkMillis;
+    private Epoch retired;
+
+    private volatile Epoch epoch;
+    private volatile List<TrendingPost> top = List.of();
+
+    @Autowired
+    public TrendingService(BlogPostRepository blogPostRepository, TrendingProperties properties, MeterRegistry meterRegistry) {
+        this(blogPostRepository, properties, meterRegistry, Clock.systemUTC());
+    }
+
+    TrendingService(BlogPostRepository blogPostRepository, TrendingProperties properties, MeterRegistry meterRegistry,
+                    Clock clock) {
+        this.blogPostRepository = blogPostRepository;
+        this.properties = properties;
+        this.clock = clock;
+        this.rate = Math.log(2) / properties.getHalfLife().toMillis();
+        this.landmarkMillis = clock.millis();
+        this.epoch = new Epoch(landmarkMillis);
+        this.refreshTimer = meterRegistry.timer("blog.trending.refresh");
+        Gauge.builder("blog.trending.tracked", rankedByPost, Map::size)
+            .description("Posts with a decayed score above the tracking threshold")
+            .register(meterRegistry);
+    }
+
+    public void record(Long postId, Signal signal) {
+        double weight = weightOf(signal);
+        if (weight <= 0) {
+            return;
+        }
+        Epoch current = epoch;
+        double boost = weight * Math.exp(rate * (clock.millis() - current.landmarkMillis()));
+        Map<Long, DoubleAdder> pending = current.pending();
+        while (boost != 0) {
+            DoubleAdder adder = pending.get(postId);
+            if (adder == null) {
+                adder = pending.computeIfAbsent(postId, id -> new DoubleAdder());
+            }
+            adder.add(boost);
+            if (pending.get(postId) == adder) {
+                return;
+            }
+            // A refresh dropped the adder as idle around this add and will not read it again, so
+            // whatever it did not count is taken back and added to the live one
+            boost = adder.sumThenReset();
+        }
+    }
+
+    /**
+     * Stops ranking a post once the current transaction commits, for posts that were deleted or
+     * unpublished.
+     */
+    public void forget(Long postId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    forgotten.add(postId);
+                }
+            });
+        } else {
+            forgotten.add(postId);
+        }
+    }
+
+    /**
+     * The highest-ranked posts as of the last refresh.
+     */
+    public List<TrendingPost> getTrending(int limit) {
+        List<TrendingPost> current = top;
+        return current.subList(0, Math.max(0, Math.min(limit, current.size())));
+    }
+
+    @Scheduled(fixedDelayString = "${app.trending.refresh-interval:5000}")
+    public synchronized void refresh() {
+        refreshTimer.record(() -> {
+            long now = clock.millis();
+            boolean changed = drain(retired) | drain(epoch) | removeForgotten();
+            if (rate * (now - landmarkMillis) > REBASE_EXPONENT) {
+                rebase(now);
+            }
+            changed |= prune(now);
+            double decay = Math.exp(-rate * (now - landmarkMillis));
+            top = changed ? rankTop(decay) : rescore(decay);
+        });
+    }
+
+    private double weightOf(Signal signal) {
+        TrendingProperties.Weights weights = properties.getWeights();
+        return switch (signal) {
+            case VIEW -> weights.getView();
+            case LIKE -> weights.getLike();
+            case COMMENT -> weights.getComment();
+        };
+    }
+
+    private boolean drain(Epoch source) {
+        if (source == null || source.pending().isEmpty()) {
+            return false;
+        }
+        double scale = Math.exp(rate * (source.landmarkMillis() - landmarkMillis));
+        boolean drained = false;
+        for (Map.Entry<Long, DoubleAdder> entry : source.pending().entrySet()) {
+            DoubleAdder adder = entry.getValue();
+            if (adder.sum() == 0) {
+                // Removing first means a recorder either finds the adder gone and takes its boost
+                // back, or added before the removal and is summed just below
+                source.pending().remove(entry.getKey(), adder);
+            }
+            double boost = adder.sumThenReset();
+            if (boost != 0) {
+                add(entry.getKey(), boost * scale);
+                drained = true;
+            }
+        }
+        return drained;
+    }
+
+    private void add(Long postId, double boost) {
+        Ranked previous = rankedByPost.get(postId);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+        Ranked next = new Ranked(postId, (previous != null ? previous.score() : 0) + boost);
+        ranking.add(next);
+        rankedByPost.put(postId, next);
+    }
+
+    private boolean removeForgotten() {
+        boolean removed = false;
+        for (Iterator<Long> iterator = forgotten.iterator(); iterator.hasNext(); ) {
+            removed |= remove(iterator.next());
+            iterator.remove();
+        }
+        return removed;
+    }
+
+    private boolean remove(Long postId) {
+        Ranked ranked = rankedByPost.remove(postId);
+        return ranked != null && ranking.remove(ranked);
+    }
+
+    /**
+     * Moves the landmark to {@code now}, scaling every score down to match. Recorders still
+     * holding the old epoch add to its sums, which the next refreshes scale on the way in.
+     */
+    private void rebase(long now) {
+        retired = epoch;
+        epoch = new Epoch(now);
+        drain(retired);
+        double scale = Math.exp(-rate * (now - landmarkMillis));
+        List<Ranked> rescaled = ranking.stream().map(ranked -> new Ranked(ranked.postId(), ranked.score() * scale)).toList();
+        ranking.clear();
+        ranking.addAll(rescaled);
+        rescaled.forEach(ranked -> rankedByPost.put(ranked.postId(), ranked));
+        landmarkMillis = now;
+        log.debug("Moved the trending landmark forward for {} posts", rescaled.size());
+    }
+
+    private boolean prune(long now) {
+        double threshold = properties.getMinScore() * Math.exp(rate * (now - landmarkMillis));
+        boolean pruned = false;
+        while (!ranking.isEmpty() && (ranking.size() > properties.getMaxTracked() || ranking.last().score() < threshold)) {
+            rankedByPost.remove(ranking.pollLast().postId());
+            pruned = true;
+        }
+        return pruned;
+    }
+
+    /**
+     * Loads the summaries of the highest-ranked posts, one query per pass. Posts that turn out
+     * not to be published are dropped from the ranking and the next ones are loaded instead.
+     */
+    private List<TrendingPost> rankTop(double decay) {
+        int size = properties.getSize();
+        List<TrendingPost> ranked = new ArrayList<>(size);
+        List<Long> unknown = new ArrayList<>();
+        Iterator<Ranked> candidates = ranking.iterator();
+        while (ranked.size() < size && candidates.hasNext()) {
+            List<Ranked> batch = new ArrayList<>(size - ranked.size());
+            while (batch.size() < size - ranked.size() && candidates.hasNext()) {
+                batch.add(candidates.next());
+            }
+            Map<Long, BlogPostSummary> summaries = blogPostRepository.findSummariesByIdIn(BlogPost.Status.PUBLISHED,
+                    batch.stream().map(Ranked::postId).toList()).stream()
+                .collect(Collectors.toMap(BlogPostSummary::id, Function.identity()));
+            for (Ranked candidate : batch) {
+                BlogPostSummary summary = summaries.get(candidate.postId());
+                if (summary != null) {
+                    ranked.add(new TrendingPost(summary, candidate.score() * decay));
+                } else {
+                    unknown.add(candidate.postId());
+                }
+            }
+        }
+        unknown.forEach(this::remove);
+        return List.copyOf(ranked);
+    }
+
+    private List<TrendingPost> rescore(double decay) {
+        return top.stream()
+            .map(trending -> new TrendingPost(trending.post(), rankedByPost.get(trending.post().id()).score() * decay))
+            .toList();
+    }
+
+    private record Ranked(long postId, double score) {
+    }
+
+    /**
+     * Engagement recorded against one landmark and not yet folded into the ranking.
+     */
+    private record Epoch(long landmarkMillis, Map<Long, DoubleAdder> pending) {
+
+        Epoch(long landmarkMillis) {
+            this(landmarkMillis, new ConcurrentHashMap<>());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.blognest.blogservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind view counter. Each post gets a {@link LongAdder}, so concurrent views of the same
+ * post increment separate cells instead of contending on one row lock or one atomic. Deltas are
+ * written periodically as one JDBC batch of relative updates, and once more on shutdown.
+ *
+ * <p>Relative updates commute, so every replica flushes its own deltas and no cross-replica
+ * accumulator is needed. Counters idle for a whole flush interval are dropped to bound memory.
+ */
+@Slf4j
+@Component
+public class ViewCounter {
+
+    private static final String UPDATE_SQL =
+        "UPDATE blog_posts SET view_count = COALESCE(view_count, 0) + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final Map<Long, LongAdder> pending;
+    private final Counter flushedCounter;
+    private final Counter failedCounter;
+
+    @Autowired
+    public ViewCounter(JdbcTemplate jdbcTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${app.views.batch-size:500}") int batchSize) {
+        this(jdbcTemplate, meterRegistry, batchSize, new ConcurrentHashMap<>());
+    }
+
+    ViewCounter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry, int batchSize, Map<Long, LongAdder> pending) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.pending = pending;
+        this.flushedCounter = meterRegistry.counter("blog.views.flushed");
+        this.failedCounter = meterRegistry.counter("blog.views.flush.failures");
+        meterRegistry.gaugeMapSize("blog.views.pending.posts", List.of(), pending);
+    }
+
+    public void record(Long postId) {
+        add(postId, 1);
+    }
+
+    public long pendingViews(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    private void add(Long postId, long delta) {
+        while (delta != 0) {
+            LongAdder adder = pending.get(postId);
+            if (adder == null) {
+                adder = pending.computeIfAbsent(postId, id -> new LongAdder());
+            }
+            adder.add(delta);
+            if (pending.get(postId) == adder) {
+                return;
+            }
+            // A flush dropped the adder as idle around this add and will not read it again, so
+            // whatever it did not count is taken back and added to the live one
+            delta = adder.sumThenReset();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.views.flush-interval:5000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, Long>> batch = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            LongAdder adder = entry.getValue();
+            if (adder.sum() == 0) {
+                // Unlinked before it is drained: an add that lands after the removal is taken back
+                // by its recorder, and one that lands before it is caught by the drain below
+                pending.remove(entry.getKey(), adder);
+            }
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                batch.add(Map.entry(entry.getKey(), delta));
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        // A stable row order keeps concurrent flushes from different replicas deadlock-free
+        batch.sort(Map.Entry.comparingByKey());
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch, batchSize, (ps, entry) -> {
+                ps.setLong(1, entry.getValue());
+                ps.setLong(2, entry.getKey());
+            });
+            flushedCounter.increment(batch.size());
+            log.debug("Flushed view counts for {} posts", batch.size());
+        } catch (DataAccessException ex) {
+            failedCounter.increment();
+            log.error("Failed to flush view counts for {} posts, will retry", batch.size(), ex);
+            batch.forEach(entry -> add(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,105 @@
+package com.blognest.blogservice.controller;
+
+import com.blognest.blogservice.dto.RenderedBody;
+import com.blognest.blogservice.entity.BlogPost;
+import com.blognest.blogservice.service.BlogPostService;
+import com.blognest.blogservice.service.PostBodyCache;
+import com.blognest.blogservice.service.PostBodyRenderer;
+import com.blognest.blogservice.service.TrendingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class BlogPostControllerTest {
+
+    @Mock
+    private BlogPostService blogPostService;
+
+    @Mock
+    private TrendingService trendingService;
+
+    private RenderedBody body;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        PostBodyCache postBodyCache = new PostBodyCache(new SimpleMeterRegistry(), 1024 * 1024, Duration.ofMinutes(5));
+        mockMvc = MockMvcBuilders.standaloneSetup(new BlogPostController(blogPostService, postBodyCache, trendingService))
+            .build();
+        body = new PostBodyRenderer().render(BlogPost.builder()
+            .id(1L)
+            .content("<p>" + "Body text. ".repeat(100) + "</p>")
+            .updatedAt(LocalDateTime.of(2024, 5, 1, 12, 0))
+            .build());
+        when(blogPostService.getPostBody(1L)).thenReturn(body);
+    }
+
+    @Test
+    void getPostBody_TagsEachEncodingWithItsOwnEtag() throws Exception {
+        // Act
+        MvcResult identity = mockMvc.perform(get("/api/v1/blogs/1/body")).andReturn();
+        MvcResult gzip = mockMvc.perform(get("/api/v1/blogs/1/body").header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8"))
+            .andReturn();
+
+        // Assert
+        assertArrayEquals(body.html(), identity.getResponse().getContentAsByteArray());
+        assertNull(identity.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(body.gzip(), gzip.getResponse().getContentAsByteArray());
+        assertEquals("gzip", gzip.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING));
+        String identityEtag = identity.getResponse().getHeader(HttpHeaders.ETAG);
+        String gzipEtag = gzip.getResponse().getHeader(HttpHeaders.ETAG);
+        assertEquals(body.etag(), identityEtag);
+        assertNotEquals(identityEtag, gzipEtag);
+        assertTrue(gzipEtag.startsWith("\"") && gzipEtag.endsWith("-gzip\""));
+    }
+
+    @Test
+    void getPostBody_MatchesIfNoneMatchAgainstTheServedEncoding() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/blogs/1/body")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .header(HttpHeaders.IF_NONE_MATCH, body.etag(true)))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, body.etag(true)));
+        // A cached gzip tag does not validate the identity bytes, nor the other way round
+        mockMvc.perform(get("/api/v1/blogs/1/body").header(HttpHeaders.IF_NONE_MATCH, body.etag(true)))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, body.etag()));
+        mockMvc.perform(get("/api/v1/blogs/1/body")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .header(HttpHeaders.IF_NONE_MATCH, body.etag()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+    }
+
+    @Test
+    void getPostBody_HonoursQValuesInAcceptEncoding() throws Exception {
+        // Act & Assert
+        for (String refused : new String[]{"gzip;q=0", "gzip; q=0.0, deflate", "*;q=1, gzip;q=0", "identity"}) {
+            mockMvc.perform(get("/api/v1/blogs/1/body").header(HttpHeaders.ACCEPT_ENCODING, refused))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+        }
+        for (String accepted : new String[]{"gzip", "deflate, GZIP;q=0.5", "*", "br;q=1, *;q=0.1"}) {
+            mockMvc.perform(get("/api/v1/blogs/1/body").header(HttpHeaders.ACCEPT_ENCODING, accepted))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+        }
+    }
+}
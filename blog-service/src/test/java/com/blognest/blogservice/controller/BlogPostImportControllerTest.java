@@ -0,0 +1,123 @@
+package com.blognest.blogservice.controller;
+
+import com.blognest.blogservice.entity.Tag;
+import com.blognest.blogservice.repository.BlogPostRepository;
+import com.blognest.blogservice.repository.CategoryRepository;
+import com.blognest.blogservice.repository.SearchOutboxRepository;
+import com.blognest.blogservice.repository.TagRepository;
+import com.blognest.blogservice.service.BlogPostImportService;
+import com.blognest.blogservice.service.TaxonomyCountService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Validation;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.handler.WebRequestHandlerInterceptorAdapter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BlogPostImportControllerTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private SearchOutboxRepository searchOutboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final AtomicInteger managedAtEndOfRequest = new AtomicInteger(-1);
+    private MockMvc mockMvc;
+    private Tag tag;
+
+    @BeforeEach
+    void setUp() {
+        TaxonomyCountService taxonomyCountService = new TaxonomyCountService(tagRepository, categoryRepository,
+            transactionManager, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+        BlogPostImportService importService = new BlogPostImportService(blogPostRepository, categoryRepository,
+            tagRepository, searchOutboxRepository, entityManager, taxonomyCountService,
+            new ObjectMapper().findAndRegisterModules(), Validation.buildDefaultValidatorFactory().getValidator(),
+            transactionManager, 100, 10);
+
+        // Open-in-view binds one EntityManager to the request, as Spring Boot does by default
+        OpenEntityManagerInViewInterceptor openInView = new OpenEntityManagerInViewInterceptor();
+        openInView.setEntityManagerFactory(entityManagerFactory);
+        HandlerInterceptor probe = new HandlerInterceptor() {
+            @Override
+            public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+                EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(entityManagerFactory);
+                managedAtEndOfRequest.set(holder.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+            }
+        };
+        mockMvc = MockMvcBuilders.standaloneSetup(new BlogPostImportController(importService))
+            .addInterceptors(new WebRequestHandlerInterceptorAdapter(openInView), probe)
+            .build();
+        tag = tagRepository.save(Tag.builder().name("archive").slug("archive").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        searchOutboxRepository.deleteAll();
+        blogPostRepository.deleteAll();
+        tagRepository.deleteAll();
+    }
+
+    @Test
+    void importPosts_DoesNotKeepImportedPostsInTheRequestEntityManager() throws Exception {
+        // Arrange
+        String ndjson = IntStream.range(0, 350)
+            .mapToObj(i -> "{\"title\":\"Imported post " + i + "\",\"content\":\"<p>Body " + i + "</p>\",\"authorId\":1,"
+                + "\"authorUsername\":\"author\",\"status\":\"PUBLISHED\",\"tagIds\":[" + tag.getId() + "]}")
+            .collect(Collectors.joining("\n"));
+
+        // Act
+        mockMvc.perform(post("/api/v1/admin/blogs/import").contentType("application/x-ndjson").content(ndjson))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.imported").value(350))
+            .andExpect(jsonPath("$.data.failed").value(0));
+
+        // Assert
+        assertEquals(0, managedAtEndOfRequest.get());
+        assertEquals(350, blogPostRepository.count());
+        assertEquals(350, searchOutboxRepository.count());
+    }
+}
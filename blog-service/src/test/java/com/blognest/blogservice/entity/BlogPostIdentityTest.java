@@ -0,0 +1,104 @@
+package com.blognest.blogservice.entity;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class BlogPostIdentityTest {
+
+    private static final int TAGS = 200;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void hashingAndPrintingLoadedPost_DoesNotTouchAssociations() {
+        // Arrange
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < TAGS; i++) {
+            tags.add(entityManager.persist(Tag.builder().name("tag-" + i).slug("tag-" + i).build()));
+        }
+        Long postId = entityManager.persistAndGetId(post("Post with many tags", tags), Long.class);
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Act
+        BlogPost post = entityManager.find(BlogPost.class, postId);
+        statistics.clear();
+        Set<BlogPost> posts = new HashSet<>(Set.of(post));
+        String printed = post.toString();
+
+        // Assert
+        assertTrue(posts.contains(entityManager.find(BlogPost.class, postId)));
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertFalse(Hibernate.isInitialized(post.getTags()));
+        assertFalse(Hibernate.isInitialized(post.getCategories()));
+        assertFalse(printed.contains("Content of"));
+    }
+
+    @Test
+    void hashingTagsOfLoadedPost_DoesNotWalkBackReferences() {
+        // Arrange
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < TAGS; i++) {
+            tags.add(entityManager.persist(Tag.builder().name("tag-" + i).slug("tag-" + i).build()));
+        }
+        Long postId = entityManager.persistAndGetId(post("Post with many tags", tags), Long.class);
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Act
+        BlogPost post = entityManager.find(BlogPost.class, postId);
+        statistics.clear();
+        Set<Tag> loaded = new HashSet<>(post.getTags());
+        loaded.forEach(Tag::toString);
+
+        // Assert
+        assertEquals(TAGS, loaded.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertTrue(loaded.stream().noneMatch(tag -> Hibernate.isInitialized(tag.getBlogPosts())));
+    }
+
+    @Test
+    void equality_IsBasedOnId() {
+        // Arrange
+        BlogPost first = entityManager.persist(post("First post", new HashSet<>()));
+        BlogPost unsaved = post("First post", new HashSet<>());
+
+        // Act & Assert
+        assertNotEquals(first, unsaved);
+        assertNotEquals(unsaved, post("First post", new HashSet<>()));
+        assertEquals(first, entityManager.find(BlogPost.class, first.getId()));
+        assertEquals(first.hashCode(), unsaved.hashCode());
+    }
+
+    private static BlogPost post(String title, Set<Tag> tags) {
+        return BlogPost.builder()
+            .title(title)
+            .content("Content of " + title)
+            .authorId(1L)
+            .authorUsername("author")
+            .status(BlogPost.Status.PUBLISHED)
+            .tags(tags)
+            .build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.blognest.blogservice.repository;
+
+import com.blognest.blogservice.dto.BlogPostSummary;
+import com.blognest.blogservice.entity.BlogPost;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class BlogPostRepositoryTest {
+
+    private static final int PUBLISHED_POSTS = 25;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    private final LocalDateTime base = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < PUBLISHED_POSTS; i++) {
+            // Pairs of posts share a timestamp so the id tie-breaker is exercised
+            persist("Published post " + i, BlogPost.Status.PUBLISHED, base.plusMinutes(i / 2));
+        }
+        persist("Draft post", BlogPost.Status.DRAFT, null);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findFeed_SeeksThroughAllPublishedPostsInOrder() {
+        // Arrange
+        List<BlogPostSummary> seen = new ArrayList<>();
+        PageRequest firstRows = PageRequest.of(0, 4);
+
+        // Act
+        List<BlogPostSummary> page = blogPostRepository.findFeed(BlogPost.Status.PUBLISHED, firstRows);
+        while (!page.isEmpty()) {
+            seen.addAll(page);
+            BlogPostSummary last = page.get(page.size() - 1);
+            page = blogPostRepository.findFeedAfter(BlogPost.Status.PUBLISHED, last.publishedAt(), last.id(), firstRows);
+        }
+
+        // Assert
+        assertEquals(PUBLISHED_POSTS, seen.size());
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < seen.size(); i++) {
+            assertTrue(ids.add(seen.get(i).id()));
+            if (i > 0) {
+                BlogPostSummary previous = seen.get(i - 1);
+                BlogPostSummary current = seen.get(i);
+                int byTime = current.publishedAt().compareTo(previous.publishedAt());
+                assertTrue(byTime < 0 || (byTime == 0 && current.id() < previous.id()));
+            }
+        }
+        assertTrue(seen.stream().noneMatch(post -> post.title().startsWith("Draft")));
+    }
+
+    @Test
+    void findFeed_ReturnsSummaryColumns() {
+        // Act
+        BlogPostSummary newest = blogPostRepository.findFeed(BlogPost.Status.PUBLISHED, PageRequest.of(0, 1)).get(0);
+
+        // Assert
+        assertEquals("Published post 24", newest.title());
+        assertEquals("author", newest.authorUsername());
+        assertEquals(0L, newest.viewCount());
+    }
+
+    private void persist(String title, BlogPost.Status status, LocalDateTime publishedAt) {
+        BlogPost post = BlogPost.builder()
+                .title(title)
+                .content("Body of " + title)
+                .excerpt("Excerpt of " + title)
+                .authorId(1L)
+                .authorUsername("author")
+                .status(status)
+                .viewCount(0L)
+                .likeCount(0L)
+                .commentCount(0L)
+                .build();
+        entityManager.persist(post);
+        post.setPublishedAt(publishedAt);
+    }
+}
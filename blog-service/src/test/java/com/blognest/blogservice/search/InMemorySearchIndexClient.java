@@ -0,0 +1,129 @@
+package com.blognest.blogservice.search;
+
+import com.blognest.blogservice.dto.PostSearchHit;
+import com.blognest.blogservice.dto.PostSearchResult;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Stand-in for the search backend that keeps documents in maps and can be told to reject
+ * individual ids or fail whole requests. Search scores a document by how many of its title,
+ * excerpt and content contain the text, which is enough to exercise paging and caching.
+ */
+class InMemorySearchIndexClient implements SearchIndexClient {
+
+    final Map<String, Map<String, BlogPostDocument>> indices = new ConcurrentHashMap<>();
+    final Map<String, String> aliases = new ConcurrentHashMap<>();
+    final Set<String> finishedIndices = ConcurrentHashMap.newKeySet();
+    final List<List<IndexOperation>> requests = new ArrayList<>();
+    final Set<String> rejectedIds = ConcurrentHashMap.newKeySet();
+    final AtomicInteger searches = new AtomicInteger();
+    volatile int failingRequests;
+    volatile Runnable onBulk = () -> { };
+
+    @Override
+    public synchronized Set<String> bulk(String index, List<IndexOperation> operations) {
+        requests.add(List.copyOf(operations));
+        onBulk.run();
+        if (failingRequests > 0) {
+            failingRequests--;
+            throw new SearchIndexException("Simulated outage", null);
+        }
+
+        Map<String, BlogPostDocument> documents = indices.computeIfAbsent(aliases.getOrDefault(index, index),
+            name -> new ConcurrentHashMap<>());
+        Set<String> rejected = new HashSet<>();
+        for (IndexOperation operation : operations) {
+            if (rejectedIds.contains(operation.id())) {
+                rejected.add(operation.id());
+            } else if (operation.isDelete()) {
+                documents.remove(operation.id());
+            } else {
+                documents.put(operation.id(), operation.document());
+            }
+        }
+        return rejected;
+    }
+
+    @Override
+    public boolean exists(String name) {
+        return indices.containsKey(name) || aliases.containsKey(name);
+    }
+
+    @Override
+    public void createIndex(String index) {
+        if (indices.putIfAbsent(index, new ConcurrentHashMap<>()) != null) {
+            throw new SearchIndexException("Index " + index + " already exists", null);
+        }
+    }
+
+    @Override
+    public void finishIndex(String index) {
+        finishedIndices.add(index);
+    }
+
+    @Override
+    public void swapAlias(String alias, String index) {
+        indices.remove(alias);
+        aliases.put(alias, index);
+    }
+
+    @Override
+    public PostSearchResult search(String index, PostSearchQuery query) {
+        searches.incrementAndGet();
+        String text = query.text().toLowerCase();
+        List<PostSearchHit> matches = new ArrayList<>();
+        Map<Long, Double> scores = new HashMap<>();
+        for (BlogPostDocument document : documents(index).values()) {
+            double score = !query.hasText() ? 1.0 : Stream.of(document.title(), document.excerpt(), document.content())
+                .filter(field -> field != null && field.toLowerCase().contains(text))
+                .count();
+            if (score > 0 && (query.tag() == null || document.tags().contains(query.tag()))
+                && (query.category() == null || document.categories().contains(query.category()))) {
+                scores.put(document.id(), score);
+                matches.add(new PostSearchHit(document.id(), document.title(), document.excerpt(),
+                    document.authorUsername(), document.categories(), document.tags(), document.publishedAt(), Map.of()));
+            }
+        }
+        matches.sort(Comparator.<PostSearchHit>comparingDouble(hit -> scores.get(hit.id())).reversed()
+            .thenComparing(PostSearchHit::id, Comparator.reverseOrder()));
+
+        List<PostSearchHit> after = query.after() == null ? matches : matches.stream()
+            .filter(hit -> scores.get(hit.id()) < query.after().score()
+                || (scores.get(hit.id()) == query.after().score() && hit.id() < query.after().id()))
+            .toList();
+        boolean hasMore = after.size() > query.limit();
+        List<PostSearchHit> page = hasMore ? after.subList(0, query.limit()) : after;
+        PostSearchHit last = hasMore ? page.get(page.size() - 1) : null;
+        return new PostSearchResult(page, matches.size(),
+            query.after() == null ? facet(matches, PostSearchHit::tags) : List.of(),
+            query.after() == null ? facet(matches, PostSearchHit::categories) : List.of(),
+            last != null ? new SearchCursor(scores.get(last.id()), last.id()).encode() : null, hasMore);
+    }
+
+    private static List<PostSearchResult.FacetCount> facet(List<PostSearchHit> hits, Function<PostSearchHit, List<String>> terms) {
+        return hits.stream()
+            .flatMap(hit -> terms.apply(hit).stream())
+            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
+            .entrySet().stream()
+            .map(entry -> new PostSearchResult.FacetCount(entry.getKey(), entry.getValue()))
+            .sorted(Comparator.comparingLong(PostSearchResult.FacetCount::count).reversed()
+                .thenComparing(PostSearchResult.FacetCount::value))
+            .toList();
+    }
+
+    Map<String, BlogPostDocument> documents(String index) {
+        return indices.getOrDefault(aliases.getOrDefault(index, index), Map.of());
+    }
+}
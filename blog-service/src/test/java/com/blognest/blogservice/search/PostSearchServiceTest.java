@@ -0,0 +1,98 @@
+package com.blognest.blogservice.search;
+
+import com.blognest.blogservice.dto.PostSearchHit;
+import com.blognest.blogservice.dto.PostSearchResult;
+import com.blognest.common.exception.InvalidCursorException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostSearchServiceTest {
+
+    private static final String INDEX = "blog_posts";
+
+    private InMemorySearchIndexClient searchIndexClient;
+    private SimpleMeterRegistry meterRegistry;
+    private PostSearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        searchIndexClient = new InMemorySearchIndexClient();
+        meterRegistry = new SimpleMeterRegistry();
+        searchService = new PostSearchService(searchIndexClient, new SearchIndexingProperties(), meterRegistry,
+            Duration.ofMinutes(1), 100);
+        searchService.bindTo(meterRegistry);
+
+        List<IndexOperation> operations = new ArrayList<>();
+        for (long id = 1; id <= 25; id++) {
+            List<String> tags = id % 5 == 0 ? List.of("java", "spring") : List.of("java");
+            operations.add(new IndexOperation(Long.toString(id), new BlogPostDocument(id, "Java tip " + id,
+                "Body " + id, "Excerpt", 1L, "author", List.of("Backend"), tags, 0L, 0L, 0L, LocalDateTime.now()),
+                1, 100));
+        }
+        searchIndexClient.bulk(INDEX, operations);
+    }
+
+    @Test
+    void search_PagesWithSearchAfterWithoutGapsOrDuplicates() {
+        // Arrange
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+
+        // Act
+        PostSearchResult page;
+        do {
+            page = searchService.search("java", null, null, cursor, 10);
+            page.hits().stream().map(PostSearchHit::id).forEach(seen::add);
+            cursor = page.nextCursor();
+        } while (page.hasMore());
+
+        // Assert
+        assertEquals(25, seen.size());
+        assertEquals(25, seen.stream().distinct().count());
+        assertEquals(25L, seen.get(0));
+    }
+
+    @Test
+    void search_ReturnsFacetsAndAppliesFilters() {
+        // Act
+        PostSearchResult all = searchService.search("java", null, null, null, 10);
+        PostSearchResult spring = searchService.search("java", " spring ", "", null, 10);
+
+        // Assert
+        assertEquals(List.of(new PostSearchResult.FacetCount("java", 25), new PostSearchResult.FacetCount("spring", 5)),
+            all.tags());
+        assertEquals(5, spring.total());
+        assertTrue(spring.hits().stream().allMatch(hit -> hit.tags().contains("spring")));
+    }
+
+    @Test
+    void search_CachesResultsAndTimesBackendPerShape() {
+        // Act
+        searchService.search("java", null, null, null, 10);
+        searchService.search("java ", null, null, null, 10);
+        searchService.search("java", "spring", null, null, 10);
+        searchService.invalidateAll();
+        searchService.search("java", null, null, null, 10);
+
+        // Assert
+        assertEquals(3, searchIndexClient.searches.get());
+        assertEquals(2, meterRegistry.get("blog.search.latency").tag("shape", "text").timer().count());
+        assertEquals(1, meterRegistry.get("blog.search.latency").tag("shape", "text+tag").timer().count());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "blog.search").tag("result", "hit")
+            .functionCounter().count());
+    }
+
+    @Test
+    void search_RejectsMalformedCursor() {
+        // Act & Assert
+        assertThrows(InvalidCursorException.class, () -> searchService.search("java", null, null, "bad", 10));
+    }
+}
@@ -0,0 +1,122 @@
+package com.blognest.blogservice.search;
+
+import com.blognest.blogservice.dto.Suggestion;
+import com.blognest.blogservice.dto.Suggestions;
+import com.blognest.blogservice.entity.BlogPost;
+import com.blognest.blogservice.entity.Tag;
+import com.blognest.blogservice.repository.BlogPostRepository;
+import com.blognest.blogservice.repository.TagRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class PostSuggestionServiceTest {
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private PostSuggestionService suggestionService;
+
+    @BeforeEach
+    void setUp() {
+        suggestionService = new PostSuggestionService(jdbcTemplate, transactionManager, new SimpleMeterRegistry(), 1000, 64, 2);
+    }
+
+    @Test
+    void rebuild_IndexesPublishedTitlesAndTags() {
+        // Arrange
+        BlogPost popular = save("Kafka Streams in practice", BlogPost.Status.PUBLISHED, 500L);
+        BlogPost niche = save("Kafka consumer groups", BlogPost.Status.PUBLISHED, 5L);
+        save("Kafka draft", BlogPost.Status.DRAFT, 900L);
+        tagRepository.save(Tag.builder().name("kafka").slug("kafka").publishedPostCount(2).build());
+        blogPostRepository.flush();
+
+        // Act
+        suggestionService.rebuild();
+        Suggestions suggestions = suggestionService.suggest("kaf", 5);
+
+        // Assert
+        assertEquals(List.of(popular.getId(), niche.getId()), ids(suggestions.posts()));
+        assertEquals(List.of("kafka"), suggestions.tags().stream().map(Suggestion::text).toList());
+        assertTrue(suggestionService.suggest("  ", 5).posts().isEmpty());
+    }
+
+    @Test
+    void apply_OverlaysChangesUntilTheNextRebuild() {
+        // Arrange
+        BlogPost renamed = save("Redis caching patterns", BlogPost.Status.PUBLISHED, 10L);
+        BlogPost removed = save("Redis cluster failover", BlogPost.Status.PUBLISHED, 20L);
+        blogPostRepository.flush();
+        suggestionService.rebuild();
+
+        // Act
+        suggestionService.apply(List.of(
+            new IndexOperation(renamed.getId().toString(), new BlogPostDocument(renamed.getId(), "Valkey caching patterns",
+                "Body", null, 1L, "author", List.of(), List.of(), 10L, 0L, 0L, LocalDateTime.now()), 1, 100),
+            IndexOperation.delete(removed.getId(), 1)));
+
+        // Assert
+        assertTrue(suggestionService.suggest("redis", 5).posts().isEmpty());
+        assertEquals(List.of(renamed.getId()), ids(suggestionService.suggest("valk", 5).posts()));
+    }
+
+    @Test
+    void rebuildIfOverlayFull_RebuildsOnceTheOverlayOutgrowsItsCap() {
+        // Arrange
+        BlogPost first = save("Postgres vacuum tuning", BlogPost.Status.PUBLISHED, 40L);
+        BlogPost second = save("Postgres partitioning", BlogPost.Status.PUBLISHED, 30L);
+        BlogPost third = save("Postgres logical replication", BlogPost.Status.PUBLISHED, 20L);
+        BlogPost unreported = save("Postgres index types", BlogPost.Status.PUBLISHED, 10L);
+        blogPostRepository.flush();
+        suggestionService.apply(List.of(publish(first), publish(second)));
+        suggestionService.rebuildIfOverlayFull();
+        assertEquals(List.of(first.getId(), second.getId()), ids(suggestionService.suggest("postg", 5).posts()));
+
+        // Act
+        suggestionService.apply(List.of(publish(third)));
+        suggestionService.rebuildIfOverlayFull();
+
+        // Assert
+        assertEquals(List.of(first.getId(), second.getId(), third.getId(), unreported.getId()),
+            ids(suggestionService.suggest("postg", 5).posts()));
+    }
+
+    private static IndexOperation publish(BlogPost post) {
+        return new IndexOperation(post.getId().toString(), new BlogPostDocument(post.getId(), post.getTitle(),
+            post.getContent(), null, 1L, "author", List.of(), List.of(), post.getViewCount(), 0L, 0L, LocalDateTime.now()), 1, 100);
+    }
+
+    private BlogPost save(String title, BlogPost.Status status, Long views) {
+        return blogPostRepository.save(BlogPost.builder()
+            .title(title)
+            .content("Content of " + title)
+            .authorId(1L)
+            .authorUsername("author")
+            .status(status)
+            .viewCount(views)
+            .build());
+    }
+
+    private static List<Long> ids(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::id).toList();
+    }
+}
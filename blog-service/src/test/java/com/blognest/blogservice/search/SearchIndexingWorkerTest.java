@@ -0,0 +1,317 @@
+package com.blognest.blogservice.search;
+
+import com.blognest.blogservice.dto.Suggestion;
+import com.blognest.blogservice.entity.BlogPost;
+import com.blognest.blogservice.entity.SearchOutboxEvent;
+import com.blognest.blogservice.entity.SearchReindexSlice;
+import com.blognest.blogservice.repository.BlogPostRepository;
+import com.blognest.blogservice.repository.JobLeaseRepository;
+import com.blognest.blogservice.repository.SearchOutboxRepository;
+import com.blognest.blogservice.repository.SearchReindexSliceRepository;
+import com.blognest.blogservice.service.JobLeases;
+import com.blognest.blogservice.service.RelatedPostsIndexer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class SearchIndexingWorkerTest {
+
+    private static final String INDEX = "blog_posts";
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private SearchOutboxRepository outboxRepository;
+
+    @Autowired
+    private SearchReindexSliceRepository sliceRepository;
+
+    @Autowired
+    private JobLeaseRepository leaseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private InMemorySearchIndexClient searchIndexClient;
+    private SearchIndexingProperties properties;
+    private PostSearchService postSearchService;
+    private PostSuggestionService postSuggestionService;
+    private SearchIndexingWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        searchIndexClient = new InMemorySearchIndexClient();
+        properties = new SearchIndexingProperties();
+        properties.setInitialBackoff(Duration.ofMillis(1));
+        properties.setMaxRetries(2);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BulkIndexer bulkIndexer = new BulkIndexer(searchIndexClient, properties,
+            new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry);
+        postSearchService = new PostSearchService(searchIndexClient, properties, meterRegistry, Duration.ofMinutes(1), 100);
+        postSuggestionService = new PostSuggestionService(jdbcTemplate, transactionManager, meterRegistry, 1000, 64, 2000);
+        worker = new SearchIndexingWorker(outboxRepository, sliceRepository, blogPostRepository, bulkIndexer, properties,
+            postSearchService, postSuggestionService,
+            new RelatedPostsIndexer(jdbcTemplate, transactionManager, new JobLeases(leaseRepository, transactionManager),
+                meterRegistry, 10, 5000, 1000, 1, 86_400_000, 600_000),
+            transactionManager, meterRegistry);
+    }
+
+    @Test
+    void drainBatch_IndexesPublishedPostsAndClearsOutbox() {
+        // Arrange
+        BlogPost post = save("Indexed post", BlogPost.Status.PUBLISHED);
+        outboxRepository.save(SearchOutboxEvent.of(post.getId(), SearchOutboxEvent.Operation.UPSERT));
+
+        // Act
+        int claimed = worker.drainBatch();
+
+        // Assert
+        assertEquals(1, claimed);
+        assertEquals("Indexed post", searchIndexClient.documents(INDEX).get(post.getId().toString()).title());
+        assertEquals(0, outboxRepository.count());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void drainBatch_SendsAfterTheClaimCommits() {
+        // Arrange
+        BlogPost post = save("Post sent outside the claim", BlogPost.Status.PUBLISHED);
+        outboxRepository.save(SearchOutboxEvent.of(post.getId(), SearchOutboxEvent.Operation.UPSERT));
+        List<Object> duringSend = new ArrayList<>();
+        searchIndexClient.onBulk = () -> {
+            duringSend.add(TransactionSynchronizationManager.isActualTransactionActive());
+            duringSend.add(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM search_outbox WHERE next_attempt_at <= ?",
+                Long.class, LocalDateTime.now()));
+        };
+
+        try {
+            // Act
+            worker.drainBatch();
+
+            // Assert
+            // No transaction is held while sending, and the leased event is not due for other workers
+            assertEquals(List.of(false, 0L), duringSend);
+            assertEquals(0, outboxRepository.count());
+        } finally {
+            outboxRepository.deleteAll();
+            blogPostRepository.deleteAll();
+        }
+    }
+
+    @Test
+    void drainBatch_VersionsKeepGrowingWhenTheClockStepsBack() {
+        // Arrange
+        BlogPost post = save("Post edited across a clock change", BlogPost.Status.PUBLISHED);
+        // As if the last write happened an hour ahead of the current clock
+        long ahead = System.currentTimeMillis() + Duration.ofHours(1).toMillis();
+        post.setIndexVersion(ahead);
+        post.setTitle("Post edited across a clock change, again");
+        blogPostRepository.saveAndFlush(post);
+        outboxRepository.save(SearchOutboxEvent.of(post.getId(), SearchOutboxEvent.Operation.UPSERT));
+
+        // Act
+        worker.drainBatch();
+
+        // Assert
+        assertEquals(ahead + 1, searchIndexClient.requests.get(0).get(0).version());
+    }
+
+    @Test
+    void drainBatch_InvalidatesCachedSearchResults() {
+        // Arrange
+        assertEquals(0, postSearchService.search("kafka", null, null, null, 10).total());
+        BlogPost post = save("Kafka in practice", BlogPost.Status.PUBLISHED);
+        outboxRepository.save(SearchOutboxEvent.of(post.getId(), SearchOutboxEvent.Operation.UPSERT));
+
+        // Act
+        worker.drainBatch();
+
+        // Assert
+        assertEquals(1, postSearchService.search("kafka", null, null, null, 10).total());
+        assertEquals(2, searchIndexClient.searches.get());
+    }
+
+    @Test
+    void drainBatch_FeedsTypeaheadSuggestions() {
+        // Arrange
+        BlogPost post = save("Kotlin coroutines explained", BlogPost.Status.PUBLISHED);
+        outboxRepository.save(SearchOutboxEvent.of(post.getId(), SearchOutboxEvent.Operation.UPSERT));
+
+        // Act
+        worker.drainBatch();
+
+        // Assert
+        assertEquals(List.of(post.getId()), postSuggestionService.suggest("corou", 5).posts().stream()
+            .map(Suggestion::id).toList());
+    }
+
+    @Test
+    void drainBatch_CollapsesEventsToLatestOperation() {
+        // Arrange
+        BlogPost post = save("Short-lived post", BlogPost.Status.PUBLISHED);
+        outboxRepository.save(SearchOutboxEvent.of(post.getId(), SearchOutboxEvent.Operation.UPSERT));
+        outboxRepository.save(SearchOutboxEvent.of(post.getId(), SearchOutboxEvent.Operation.UPSERT));
+        outboxRepository.save(SearchOutboxEvent.of(post.getId(), SearchOutboxEvent.Operation.DELETE));
+
+        // Act
+        worker.drainBatch();
+
+        // Assert
+        assertEquals(1, searchIndexClient.requests.size());
+        List<IndexOperation> operations = searchIndexClient.requests.get(0);
+        assertEquals(1, operations.size());
+        assertTrue(operations.get(0).isDelete());
+        assertEquals(0, outboxRepository.count());
+    }
+
+    @Test
+    void drainBatch_VersionsDeletionsAbovePostsWrittenAheadOfTheWorkerClock() {
+        // Arrange
+        BlogPost post = save("Post from a fast clock", BlogPost.Status.PUBLISHED);
+        post.setIndexVersion(System.currentTimeMillis() + 60_000);
+        SearchOutboxEvent deletion = SearchOutboxEvent.deletion(post);
+        blogPostRepository.delete(post);
+        outboxRepository.save(deletion);
+
+        // Act
+        worker.drainBatch();
+
+        // Assert
+        IndexOperation operation = searchIndexClient.requests.get(0).get(0);
+        assertTrue(operation.isDelete());
+        assertEquals(post.getIndexVersion() + 1, operation.version());
+    }
+
+    @Test
+    void drainBatch_RemovesPostsThatAreNoLongerPublished() {
+        // Arrange
+        BlogPost post = save("Unpublished post", BlogPost.Status.PUBLISHED);
+        outboxRepository.save(SearchOutboxEvent.of(post.getId(), SearchOutboxEvent.Operation.UPSERT));
+        worker.drainBatch();
+        post.setStatus(BlogPost.Status.DRAFT);
+        blogPostRepository.save(post);
+        outboxRepository.save(SearchOutboxEvent.of(post.getId(), SearchOutboxEvent.Operation.UPSERT));
+
+        // Act
+        worker.drainBatch();
+
+        // Assert
+        assertFalse(searchIndexClient.documents(INDEX).containsKey(post.getId().toString()));
+    }
+
+    @Test
+    void drainBatch_SplitsBulkRequestsByActionCount() {
+        // Arrange
+        properties.setBulkMaxActions(2);
+        for (int i = 0; i < 5; i++) {
+            BlogPost post = save("Batched post " + i, BlogPost.Status.PUBLISHED);
+            outboxRepository.save(SearchOutboxEvent.of(post.getId(), SearchOutboxEvent.Operation.UPSERT));
+        }
+
+        // Act
+        worker.drainBatch();
+
+        // Assert
+        assertEquals(3, searchIndexClient.requests.size());
+        assertEquals(5, searchIndexClient.documents(INDEX).size());
+    }
+
+    @Test
+    void drainBatch_RetriesThenReschedulesFailedEvents() {
+        // Arrange
+        BlogPost post = save("Unlucky post", BlogPost.Status.PUBLISHED);
+        outboxRepository.save(SearchOutboxEvent.of(post.getId(), SearchOutboxEvent.Operation.UPSERT));
+        searchIndexClient.failingRequests = 2;
+        properties.setInitialBackoff(Duration.ofSeconds(1));
+
+        // Act
+        worker.drainBatch();
+
+        // Assert
+        assertEquals(2, searchIndexClient.requests.size());
+        List<SearchOutboxEvent> remaining = outboxRepository.findAll();
+        assertEquals(1, remaining.size());
+        assertEquals(1, remaining.get(0).getAttempts());
+        assertTrue(remaining.get(0).getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertEquals(0, worker.drainBatch());
+    }
+
+    @Test
+    void drainBatch_ReschedulesOnlyRejectedDocuments() {
+        // Arrange
+        BlogPost accepted = save("Accepted post", BlogPost.Status.PUBLISHED);
+        BlogPost rejected = save("Rejected post", BlogPost.Status.PUBLISHED);
+        outboxRepository.save(SearchOutboxEvent.of(accepted.getId(), SearchOutboxEvent.Operation.UPSERT));
+        outboxRepository.save(SearchOutboxEvent.of(rejected.getId(), SearchOutboxEvent.Operation.UPSERT));
+        searchIndexClient.rejectedIds.add(rejected.getId().toString());
+
+        // Act
+        worker.drainBatch();
+
+        // Assert
+        assertTrue(searchIndexClient.documents(INDEX).containsKey(accepted.getId().toString()));
+        List<SearchOutboxEvent> remaining = outboxRepository.findAll();
+        assertEquals(1, remaining.size());
+        assertEquals(rejected.getId(), remaining.get(0).getPostId());
+    }
+
+    @Test
+    void drainBatch_AlsoWritesToShadowIndexDuringReindex() {
+        // Arrange
+        BlogPost post = save("Post edited during reindex", BlogPost.Status.PUBLISHED);
+        outboxRepository.save(SearchOutboxEvent.of(post.getId(), SearchOutboxEvent.Operation.UPSERT));
+        // A reindex started on another replica; this worker only sees its checkpoint rows
+        sliceRepository.save(SearchReindexSlice.builder()
+            .targetIndex("blog_posts_v2")
+            .slice(0)
+            .lowerId(0L)
+            .upperId(post.getId())
+            .lastId(0L)
+            .startedAt(LocalDateTime.now())
+            .build());
+
+        // Act
+        worker.drainBatch();
+
+        // Assert
+        assertTrue(searchIndexClient.documents(INDEX).containsKey(post.getId().toString()));
+        assertTrue(searchIndexClient.documents("blog_posts_v2").containsKey(post.getId().toString()));
+    }
+
+    private BlogPost save(String title, BlogPost.Status status) {
+        return blogPostRepository.save(BlogPost.builder()
+            .title(title)
+            .content("Content of " + title)
+            .authorId(1L)
+            .authorUsername("author")
+            .status(status)
+            .viewCount(0L)
+            .likeCount(0L)
+            .commentCount(0L)
+            .categories(new HashSet<>())
+            .tags(new HashSet<>())
+            .build());
+    }
+}
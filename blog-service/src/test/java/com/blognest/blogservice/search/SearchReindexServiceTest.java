@@ -0,0 +1,285 @@
+package com.blognest.blogservice.search;
+
+import com.blognest.blogservice.entity.BlogPost;
+import com.blognest.blogservice.entity.Category;
+import com.blognest.blogservice.entity.SearchOutboxEvent;
+import com.blognest.blogservice.entity.JobLease;
+import com.blognest.blogservice.entity.SearchReindexSlice;
+import com.blognest.blogservice.entity.Tag;
+import com.blognest.blogservice.exception.ReindexInProgressException;
+import com.blognest.blogservice.repository.BlogPostRepository;
+import com.blognest.blogservice.repository.CategoryRepository;
+import com.blognest.blogservice.repository.SearchOutboxRepository;
+import com.blognest.blogservice.repository.JobLeaseRepository;
+import com.blognest.blogservice.repository.SearchReindexSliceRepository;
+import com.blognest.blogservice.repository.TagRepository;
+import com.blognest.blogservice.service.JobLeases;
+import com.blognest.blogservice.service.RelatedPostsIndexer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SearchReindexServiceTest {
+
+    private static final String ALIAS = "blog_posts";
+    private static final int PUBLISHED_POSTS = 30;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private SearchOutboxRepository outboxRepository;
+
+    @Autowired
+    private SearchReindexSliceRepository sliceRepository;
+
+    @Autowired
+    private JobLeaseRepository leaseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private InMemorySearchIndexClient searchIndexClient;
+    private SearchIndexingWorker worker;
+    private SearchReindexService reindexService;
+    private final List<BlogPost> published = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        searchIndexClient = new InMemorySearchIndexClient();
+        SearchIndexingProperties properties = new SearchIndexingProperties();
+        properties.setInitialBackoff(Duration.ofMillis(1));
+        properties.setMaxRetries(1);
+        properties.getReindex().setSlices(3);
+        properties.getReindex().setFetchSize(4);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JobLeases jobLeases = new JobLeases(leaseRepository, transactionManager);
+        BulkIndexer bulkIndexer = new BulkIndexer(searchIndexClient, properties,
+            new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry);
+        worker = new SearchIndexingWorker(outboxRepository, sliceRepository, blogPostRepository, bulkIndexer, properties,
+            new PostSearchService(searchIndexClient, properties, meterRegistry, Duration.ofMinutes(1), 100),
+            new PostSuggestionService(jdbcTemplate, transactionManager, meterRegistry, 1000, 64, 2000),
+            new RelatedPostsIndexer(jdbcTemplate, transactionManager, jobLeases, meterRegistry, 10, 5000, 1000, 1, 86_400_000, 600_000),
+            transactionManager, meterRegistry);
+        reindexService = new SearchReindexService(sliceRepository, jobLeases, bulkIndexer, searchIndexClient, properties,
+            jdbcTemplate, transactionManager, meterRegistry);
+
+        Category category = categoryRepository.save(Category.builder().name("Databases").slug("databases").build());
+        Tag tag = tagRepository.save(Tag.builder().name("postgres").slug("postgres").build());
+        for (int i = 0; i < PUBLISHED_POSTS; i++) {
+            published.add(save("Published post " + i, BlogPost.Status.PUBLISHED, Set.of(category), Set.of(tag)));
+            if (i % 10 == 0) {
+                save("Draft post " + i, BlogPost.Status.DRAFT, Set.of(), Set.of());
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        sliceRepository.deleteAll();
+        leaseRepository.deleteAll();
+        blogPostRepository.deleteAll();
+        categoryRepository.deleteAll();
+        tagRepository.deleteAll();
+    }
+
+    @Test
+    void createIndexIfMissing_AliasesAnInitialIndexBeforeTheFirstBatch() {
+        // Act
+        reindexService.createIndexIfMissing();
+        reindexService.createIndexIfMissing();
+        outboxRepository.saveAll(published.stream().map(post -> SearchOutboxEvent.of(post.getId(), SearchOutboxEvent.Operation.UPSERT)).toList());
+        worker.drainBatch();
+
+        // Assert
+        assertEquals(ALIAS + "_v0", searchIndexClient.aliases.get(ALIAS));
+        assertFalse(searchIndexClient.indices.containsKey(ALIAS));
+        assertTrue(searchIndexClient.finishedIndices.contains(ALIAS + "_v0"));
+        assertEquals(PUBLISHED_POSTS, searchIndexClient.indices.get(ALIAS + "_v0").size());
+    }
+
+    @Test
+    void createIndexIfMissing_LeavesAnUnversionedIndexToTheReindex() {
+        // Arrange
+        searchIndexClient.createIndex(ALIAS);
+
+        // Act
+        reindexService.createIndexIfMissing();
+
+        // Assert
+        assertTrue(searchIndexClient.aliases.isEmpty());
+        assertEquals(Set.of(ALIAS), searchIndexClient.indices.keySet());
+    }
+
+    @Test
+    void start_BuildsVersionedIndexAndSwapsAlias() throws InterruptedException {
+        // Arrange
+        searchIndexClient.createIndex(ALIAS);
+
+        // Act
+        reindexService.start();
+        ReindexStatus status = awaitFinished();
+
+        // Assert
+        assertEquals(ReindexStatus.State.COMPLETED, status.state());
+        assertEquals(PUBLISHED_POSTS, status.documents());
+        assertEquals(3, status.completedSlices());
+        assertTrue(status.targetIndex().startsWith(ALIAS + "_v"));
+        assertEquals(status.targetIndex(), searchIndexClient.aliases.get(ALIAS));
+        assertFalse(searchIndexClient.indices.containsKey(ALIAS));
+        assertTrue(searchIndexClient.finishedIndices.contains(status.targetIndex()));
+
+        BlogPostDocument document = searchIndexClient.documents(ALIAS).get(published.get(0).getId().toString());
+        assertEquals(List.of("Databases"), document.categories());
+        assertEquals(List.of("postgres"), document.tags());
+        assertEquals(PUBLISHED_POSTS, searchIndexClient.documents(ALIAS).size());
+        assertEquals(0, sliceRepository.count());
+    }
+
+    @Test
+    void start_ResumesFromCheckpoints() throws InterruptedException {
+        // Arrange
+        long firstId = published.get(0).getId();
+        long resumeAfter = published.get(19).getId();
+        long lastId = published.get(PUBLISHED_POSTS - 1).getId() + 1;
+        searchIndexClient.createIndex("blog_posts_v1");
+        sliceRepository.save(slice(0, firstId - 1, resumeAfter, resumeAfter, 20, true));
+        sliceRepository.save(slice(1, resumeAfter, lastId, resumeAfter, 0, false));
+
+        // Act
+        reindexService.start();
+        ReindexStatus status = awaitFinished();
+
+        // Assert
+        assertEquals(ReindexStatus.State.COMPLETED, status.state());
+        assertEquals("blog_posts_v1", status.targetIndex());
+        assertEquals(PUBLISHED_POSTS, status.documents());
+        assertEquals(PUBLISHED_POSTS - 20, searchIndexClient.documents(ALIAS).size());
+        assertFalse(searchIndexClient.documents(ALIAS).containsKey(Long.toString(resumeAfter)));
+    }
+
+    @Test
+    void start_KeepsCheckpointsAndDualWritesAfterFailure() throws InterruptedException {
+        // Arrange
+        String rejectedId = published.get(PUBLISHED_POSTS - 1).getId().toString();
+        searchIndexClient.rejectedIds.add(rejectedId);
+
+        // Act
+        reindexService.start();
+        ReindexStatus failed = awaitFinished();
+        BlogPost edited = published.get(0);
+        edited.setTitle("Edited after the failed run");
+        blogPostRepository.save(edited);
+        outboxRepository.save(SearchOutboxEvent.of(edited.getId(), SearchOutboxEvent.Operation.UPSERT));
+        worker.drainBatch();
+        BlogPostDocument shadowAfterFailure = searchIndexClient.documents(failed.targetIndex()).get(edited.getId().toString());
+        searchIndexClient.rejectedIds.clear();
+        reindexService.start();
+        ReindexStatus resumed = awaitFinished();
+
+        // Assert
+        assertEquals(ReindexStatus.State.FAILED, failed.state());
+        assertNotNull(failed.error());
+        assertEquals("Edited after the failed run", shadowAfterFailure.title());
+        assertEquals("Edited after the failed run", searchIndexClient.documents(ALIAS).get(edited.getId().toString()).title());
+        assertEquals(ReindexStatus.State.COMPLETED, resumed.state());
+        assertEquals(failed.targetIndex(), resumed.targetIndex());
+        assertTrue(searchIndexClient.documents(ALIAS).containsKey(rejectedId));
+        assertEquals(PUBLISHED_POSTS, searchIndexClient.documents(ALIAS).size());
+    }
+
+    @Test
+    void start_RefusedWhileAnotherInstanceHoldsTheLease() {
+        // Arrange
+        leaseRepository.save(new JobLease("search-reindex", "other-instance",
+            LocalDateTime.now().plusMinutes(5)));
+
+        // Act & Assert
+        assertThrows(ReindexInProgressException.class, () -> reindexService.start());
+        assertTrue(searchIndexClient.indices.isEmpty());
+        assertEquals(0, sliceRepository.count());
+    }
+
+    @Test
+    void start_TakesOverALapsedLease() throws InterruptedException {
+        // Arrange
+        leaseRepository.save(new JobLease("search-reindex", "other-instance",
+            LocalDateTime.now().minusSeconds(1)));
+
+        // Act
+        reindexService.start();
+        ReindexStatus status = awaitFinished();
+
+        // Assert
+        assertEquals(ReindexStatus.State.COMPLETED, status.state());
+        assertEquals(0, leaseRepository.count());
+    }
+
+    private ReindexStatus awaitFinished() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        ReindexStatus status = reindexService.status();
+        while (status.state() == ReindexStatus.State.RUNNING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            status = reindexService.status();
+        }
+        return status;
+    }
+
+    private SearchReindexSlice slice(int slice, long lowerId, long upperId, long lastId, long documents, boolean completed) {
+        return SearchReindexSlice.builder()
+            .targetIndex("blog_posts_v1")
+            .slice(slice)
+            .lowerId(lowerId)
+            .upperId(upperId)
+            .lastId(lastId)
+            .documents(documents)
+            .completed(completed)
+            .startedAt(LocalDateTime.now())
+            .build();
+    }
+
+    private BlogPost save(String title, BlogPost.Status status, Set<Category> categories, Set<Tag> tags) {
+        return blogPostRepository.save(BlogPost.builder()
+            .title(title)
+            .content("Content of " + title)
+            .authorId(1L)
+            .authorUsername("author")
+            .status(status)
+            .viewCount(0L)
+            .likeCount(0L)
+            .commentCount(0L)
+            .categories(new HashSet<>(categories))
+            .tags(new HashSet<>(tags))
+            .build());
+    }
+}
@@ -0,0 +1,76 @@
+package com.blognest.blogservice.search;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rebuild time of the title suggestion index and lookup latency (with percentiles) over a million
+ * generated titles, for prefixes answered from precomputed lists ("j" to "micros"), by scanning a
+ * short range ("4242") and with no match ("zz"). Run with
+ * {@code mvn -Pbenchmark test -pl blog-service -Djmh.include=SuggestionIndexBenchmark}.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class SuggestionIndexBenchmark {
+
+    private static final int TITLES = 1_000_000;
+    private static final String[] WORDS = {"spring", "boot", "java", "kotlin", "kafka", "postgres", "redis",
+        "docker", "kubernetes", "react", "testing", "security", "performance", "migration", "caching",
+        "microservices", "search", "indexing", "streams", "observability", "tuning", "patterns", "guide",
+        "deep", "dive", "introduction", "advanced", "lessons", "production", "scaling"};
+
+    private long[] ids;
+    private String[] titles;
+    private long[] weights;
+    private SuggestionIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        ids = new long[TITLES];
+        titles = new String[TITLES];
+        weights = new long[TITLES];
+        StringBuilder title = new StringBuilder();
+        for (int i = 0; i < TITLES; i++) {
+            title.setLength(0);
+            int words = 3 + random.nextInt(6);
+            for (int w = 0; w < words; w++) {
+                String word = WORDS[random.nextInt(WORDS.length)];
+                title.append(w == 0 ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : word);
+                title.append(random.nextInt(4) == 0 ? " " + random.nextInt(10_000) + " " : " ");
+            }
+            ids[i] = i + 1;
+            titles[i] = title.toString().strip();
+            // Views follow a long tail, as real posts do
+            weights[i] = (long) (1_000_000 / Math.pow(1 + random.nextInt(TITLES), 0.8));
+        }
+        index = SuggestionIndex.build(ids, titles, weights, 20, 2048);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public Object suggest(Prefix prefix) {
+        return index.suggest(prefix.value, 8, id -> false);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public SuggestionIndex rebuild() {
+        return SuggestionIndex.build(ids, titles, weights, 20, 2048);
+    }
+
+    @State(Scope.Thread)
+    public static class Prefix {
+
+        @Param({"j", "ka", "pos", "micros", "4242", "zz"})
+        private String value;
+    }
+}
@@ -0,0 +1,98 @@
+package com.blognest.blogservice.search;
+
+import com.blognest.blogservice.dto.Suggestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuggestionIndexTest {
+
+    private static final String[] WORDS = {"spring", "boot", "java", "jvm", "javascript", "kafka", "kotlin",
+        "postgres", "post", "posting", "redis", "react", "rust", "search", "security"};
+
+    @Test
+    void suggest_MatchesWordStartsIgnoringCaseByWeight() {
+        // Arrange
+        SuggestionIndex index = SuggestionIndex.build(
+            new long[]{1, 2, 3, 4},
+            new String[]{"Spring Boot tips", "Booting Linux", "Reboot your habits", "A Java BOOK"},
+            new long[]{10, 30, 50, 20},
+            10, 16);
+
+        // Act
+        List<Suggestion> boo = index.suggest("BOO", 10, id -> false);
+
+        // Assert
+        assertEquals(List.of(2L, 4L, 1L), boo.stream().map(Suggestion::id).toList());
+        assertEquals(List.of(), index.suggest("oot", 10, id -> false));
+        assertEquals(List.of(4L), index.suggest("a j", 10, id -> false).stream().map(Suggestion::id).toList());
+    }
+
+    @Test
+    void suggest_ListsEachTextOnceAndHonoursExclusions() {
+        // Arrange
+        SuggestionIndex index = SuggestionIndex.build(
+            new long[]{1, 2},
+            new String[]{"Post about posting posts", "Postgres"},
+            new long[]{5, 1},
+            10, 16);
+
+        // Act
+        List<Suggestion> all = index.suggest("post", 10, id -> false);
+        List<Suggestion> filtered = index.suggest("post", 10, id -> id == 1);
+
+        // Assert
+        assertEquals(List.of(1L, 2L), all.stream().map(Suggestion::id).toList());
+        assertEquals(List.of(2L), filtered.stream().map(Suggestion::id).toList());
+    }
+
+    @Test
+    void suggest_AgreesWithBruteForceOnHeavyAndLightPrefixes() {
+        // Arrange
+        Random random = new Random(7);
+        int count = 5_000;
+        long[] ids = new long[count];
+        String[] texts = new String[count];
+        long[] weights = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = i + 1;
+            texts[i] = String.join(" ", IntStream.range(0, 2 + random.nextInt(4))
+                .mapToObj(w -> WORDS[random.nextInt(WORDS.length)] + (random.nextInt(3) == 0 ? random.nextInt(100) : ""))
+                .toList());
+            weights[i] = random.nextInt(1_000);
+        }
+        // A small scan limit makes most short prefixes precomputed
+        SuggestionIndex index = SuggestionIndex.build(ids, texts, weights, 20, 64);
+
+        for (String prefix : List.of("s", "sp", "j", "ja", "jav", "java", "javas", "post", "postg", "kafka4", "r", "x")) {
+            // Act
+            List<Long> actual = index.suggest(prefix, 10, id -> false).stream().map(Suggestion::id).toList();
+
+            // Assert
+            assertEquals(bruteForce(ids, texts, weights, prefix, 10), actual, "prefix " + prefix);
+        }
+    }
+
+    private static List<Long> bruteForce(long[] ids, String[] texts, long[] weights, String prefix, int limit) {
+        List<Integer> matches = new ArrayList<>();
+        for (int i = 0; i < texts.length; i++) {
+            for (String word : texts[i].toLowerCase().split(" ")) {
+                if (word.startsWith(prefix)) {
+                    matches.add(i);
+                    break;
+                }
+            }
+        }
+        return matches.stream()
+            .sorted(Comparator.<Integer>comparingLong(i -> weights[i]).reversed().thenComparingLong(i -> ids[i]))
+            .limit(limit)
+            .map(i -> ids[i])
+            .toList();
+    }
+}
@@ -0,0 +1,152 @@
+package com.blognest.blogservice.service;
+
+import com.blognest.blogservice.dto.ImportResult;
+import com.blognest.blogservice.entity.BlogPost;
+import com.blognest.blogservice.entity.Tag;
+import com.blognest.blogservice.repository.BlogPostRepository;
+import com.blognest.blogservice.repository.CategoryRepository;
+import com.blognest.blogservice.repository.SearchOutboxRepository;
+import com.blognest.blogservice.repository.TagRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.Validation;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+    "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BlogPostImportServiceTest {
+
+    private static final int CHUNK_SIZE = 100;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private SearchOutboxRepository searchOutboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private BlogPostImportService importService;
+    private Statistics statistics;
+    private Tag tag;
+
+    @BeforeEach
+    void setUp() {
+        TaxonomyCountService taxonomyCountService = new TaxonomyCountService(tagRepository, categoryRepository,
+            transactionManager, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+        importService = new BlogPostImportService(blogPostRepository, categoryRepository, tagRepository,
+            searchOutboxRepository, entityManager, taxonomyCountService, new ObjectMapper().findAndRegisterModules(),
+            Validation.buildDefaultValidatorFactory().getValidator(), transactionManager, CHUNK_SIZE, 10);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        tag = tagRepository.save(Tag.builder().name("archive").slug("archive").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        searchOutboxRepository.deleteAll();
+        blogPostRepository.deleteAll();
+        tagRepository.deleteAll();
+    }
+
+    @Test
+    void importPosts_InsertsInBatchedChunks() throws IOException {
+        // Arrange
+        String ndjson = IntStream.range(0, 250)
+            .mapToObj(i -> row("Archived post " + i, "PUBLISHED", "2019-03-0" + (1 + i % 9) + "T10:15:00"))
+            .collect(Collectors.joining("\n"));
+        statistics.clear();
+
+        // Act
+        ImportResult result = importService.importPosts(stream(ndjson));
+
+        // Assert
+        assertEquals(250, result.imported());
+        assertEquals(0, result.failed());
+        // Row-at-a-time inserts would take at least 750 statements (post, tag link, outbox event)
+        assertTrue(statistics.getPrepareStatementCount() < 100,
+            "Expected batched inserts but prepared " + statistics.getPrepareStatementCount() + " statements");
+        assertEquals(250, tagRepository.findById(tag.getId()).orElseThrow().getPublishedPostCount());
+        assertEquals(250, searchOutboxRepository.count());
+        assertTrue(blogPostRepository.findAll().stream()
+            .allMatch(post -> post.getPublishedAt().isBefore(LocalDateTime.of(2019, 3, 10, 0, 0))));
+    }
+
+    @Test
+    void importPosts_ReportsBadRowsAndKeepsTheRest() throws IOException {
+        // Arrange
+        String ndjson = String.join("\n",
+            row("A valid first post", "PUBLISHED", null),
+            "{not json",
+            row("Bad", "DRAFT", null),
+            "{\"title\":\"Unknown tag post\",\"content\":\"Body\",\"authorId\":1,\"authorUsername\":\"author\",\"tagIds\":[999999]}",
+            "{\"title\":\"Oversized image post\",\"content\":\"Body\",\"authorId\":1,\"authorUsername\":\"author\","
+                + "\"featuredImage\":\"" + "x".repeat(300) + "\"}",
+            "",
+            row("A valid last post", "DRAFT", null));
+
+        // Act
+        ImportResult result = importService.importPosts(stream(ndjson));
+
+        // Assert
+        assertEquals(2, result.imported());
+        assertEquals(4, result.failed());
+        assertEquals(List.of(2L, 3L, 4L, 5L), result.errors().stream().map(ImportResult.RowError::line).sorted().toList());
+        assertTrue(result.errors().stream().anyMatch(error -> error.line() == 3 && error.message().contains("title")));
+        List<BlogPost> posts = blogPostRepository.findAll();
+        assertEquals(List.of("A valid first post", "A valid last post"),
+            posts.stream().map(BlogPost::getTitle).sorted().toList());
+        assertEquals(1, tagRepository.findById(tag.getId()).orElseThrow().getPublishedPostCount());
+        assertEquals(1, searchOutboxRepository.count());
+    }
+
+    private String row(String title, String status, String publishedAt) {
+        return "{\"title\":\"" + title + "\",\"content\":\"<p>Body of " + title + "</p>\",\"authorId\":1,"
+            + "\"authorUsername\":\"author\",\"status\":\"" + status + "\","
+            + (publishedAt != null ? "\"publishedAt\":\"" + publishedAt + "\"," : "")
+            + "\"tagIds\":[" + tag.getId() + "]}";
+    }
+
+    private static ByteArrayInputStream stream(String ndjson) {
+        return new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8));
+    }
+}
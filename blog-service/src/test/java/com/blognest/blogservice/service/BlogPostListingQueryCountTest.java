@@ -0,0 +1,120 @@
+package com.blognest.blogservice.service;
+
+import com.blognest.blogservice.dto.BlogPostSummary;
+import com.blognest.blogservice.entity.BlogPost;
+import com.blognest.blogservice.entity.Category;
+import com.blognest.blogservice.entity.Tag;
+import com.blognest.blogservice.repository.BlogPostRepository;
+import com.blognest.blogservice.repository.CategoryRepository;
+import com.blognest.blogservice.repository.SearchOutboxRepository;
+import com.blognest.blogservice.repository.TagRepository;
+import com.blognest.common.dto.CursorPage;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class BlogPostListingQueryCountTest {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private SearchOutboxRepository searchOutboxRepository;
+
+    private BlogPostService blogPostService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        blogPostService = new BlogPostService(blogPostRepository, categoryRepository, tagRepository,
+            searchOutboxRepository, mock(TaxonomyCountService.class), mock(ScheduledPublisher.class),
+            mock(PostBodyCache.class), new PostBodyRenderer(), mock(ViewCounter.class),
+            mock(TrendingService.class));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<Category> categories = List.of(category("Backend"), category("Frontend"), category("Operations"));
+        List<Tag> tags = List.of(tag("java"), tag("spring"), tag("postgres"), tag("kafka"));
+        for (int i = 0; i < PAGE_SIZE + 10; i++) {
+            entityManager.persist(BlogPost.builder()
+                .title("Listed post " + i)
+                .content("Content " + i)
+                .authorId(1L)
+                .authorUsername("author")
+                .status(BlogPost.Status.PUBLISHED)
+                .viewCount(0L)
+                .likeCount(0L)
+                .commentCount(0L)
+                .categories(new HashSet<>(Set.of(categories.get(i % 3))))
+                .tags(new HashSet<>(Set.of(tags.get(i % 4), tags.get((i + 1) % 4))))
+                .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void getFeed_LoadsTaxonomyForWholePageInTwoQueries() {
+        // Act
+        CursorPage<BlogPostSummary> page = blogPostService.getFeed(null, PAGE_SIZE).getData();
+
+        // Assert
+        assertEquals(PAGE_SIZE, page.getItems().size());
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertTrue(page.getItems().stream().allMatch(summary -> summary.categories().size() == 1));
+        assertTrue(page.getItems().stream().allMatch(summary -> summary.tags().size() == 2));
+    }
+
+    @Test
+    void lazyCollections_AreBatchFetchedForAListOfPosts() {
+        // Act
+        List<BlogPost> posts = blogPostRepository.findAll().subList(0, PAGE_SIZE);
+        posts.forEach(post -> {
+            post.getCategories().size();
+            post.getTags().size();
+        });
+
+        // Assert
+        // One select for the posts, then one batch per association instead of one per post
+        assertTrue(statistics.getPrepareStatementCount() <= 1 + 2 * 2,
+            "Expected batch fetching, got " + statistics.getPrepareStatementCount() + " statements");
+    }
+
+    private Category category(String name) {
+        return entityManager.persist(Category.builder().name(name).slug(name.toLowerCase()).build());
+    }
+
+    private Tag tag(String name) {
+        return entityManager.persist(Tag.builder().name(name).slug(name).build());
+    }
+}
@@ -0,0 +1,140 @@
+package com.blognest.blogservice.service;
+
+import com.blognest.blogservice.dto.BlogPostSummary;
+import com.blognest.blogservice.dto.RenderedBody;
+import com.blognest.blogservice.entity.BlogPost;
+import com.blognest.blogservice.exception.BlogPostNotFoundException;
+import com.blognest.blogservice.repository.BlogPostRepository;
+import com.blognest.blogservice.repository.CategoryRepository;
+import com.blognest.blogservice.repository.SearchOutboxRepository;
+import com.blognest.blogservice.repository.TagRepository;
+import com.blognest.common.dto.ApiResponse;
+import com.blognest.common.dto.CursorPage;
+import com.blognest.common.dto.KeysetCursor;
+import com.blognest.common.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BlogPostServiceTest {
+
+    @Mock
+    private BlogPostRepository blogPostRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private SearchOutboxRepository searchOutboxRepository;
+
+    @Mock
+    private TaxonomyCountService taxonomyCountService;
+
+    @Mock
+    private ScheduledPublisher scheduledPublisher;
+
+    @Mock
+    private PostBodyCache postBodyCache;
+
+    @Mock
+    private PostBodyRenderer postBodyRenderer;
+
+    @Mock
+    private ViewCounter viewCounter;
+
+    @Mock
+    private TrendingService trendingService;
+
+    @InjectMocks
+    private BlogPostService blogPostService;
+
+    @Test
+    void getFeed_FirstPageHasMore() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        when(blogPostRepository.findFeed(BlogPost.Status.PUBLISHED, PageRequest.of(0, 3)))
+                .thenReturn(List.of(summary(3L, now), summary(2L, now), summary(1L, now.minusHours(1))));
+
+        // Act
+        ApiResponse<CursorPage<BlogPostSummary>> response = blogPostService.getFeed(null, 2);
+
+        // Assert
+        assertEquals(2, response.getData().getItems().size());
+        assertTrue(response.getData().isHasMore());
+        assertEquals(new KeysetCursor(now, 2L), KeysetCursor.decode(response.getData().getNextCursor()));
+    }
+
+    @Test
+    void getFeed_SeeksPastCursor() {
+        // Arrange
+        LocalDateTime publishedAt = LocalDateTime.now().minusDays(30);
+        String cursor = new KeysetCursor(publishedAt, 500L).encode();
+        when(blogPostRepository.findFeedAfter(eq(BlogPost.Status.PUBLISHED), eq(publishedAt), eq(500L), any()))
+                .thenReturn(List.of(summary(499L, publishedAt)));
+
+        // Act
+        ApiResponse<CursorPage<BlogPostSummary>> response = blogPostService.getFeed(cursor, 20);
+
+        // Assert
+        assertEquals(1, response.getData().getItems().size());
+        assertFalse(response.getData().isHasMore());
+        assertNull(response.getData().getNextCursor());
+    }
+
+    @Test
+    void getFeed_RejectsMalformedCursor() {
+        // Act & Assert
+        assertThrows(InvalidCursorException.class, () -> blogPostService.getFeed("not-a-cursor", 20));
+    }
+
+    @Test
+    void getFeed_RejectsCursorWithoutTimestamp() {
+        // Act & Assert
+        assertThrows(InvalidCursorException.class,
+                () -> blogPostService.getFeed(KeysetCursor.ofId(500L).encode(), 20));
+        verifyNoInteractions(blogPostRepository);
+    }
+
+    @Test
+    void recordView_DelegatesToCounter() {
+        // Act
+        ApiResponse<Void> response = blogPostService.recordView(7L);
+
+        // Assert
+        assertEquals("SUCCESS", response.getStatus());
+        verify(viewCounter).record(7L);
+    }
+
+    @Test
+    void getPostBody_RejectsDraft() {
+        // Arrange
+        BlogPost draft = BlogPost.builder().id(7L).content("<p>Draft</p>").status(BlogPost.Status.DRAFT).build();
+        when(blogPostRepository.findById(7L)).thenReturn(Optional.of(draft));
+        when(postBodyCache.get(eq(7L), any())).thenAnswer(invocation ->
+                invocation.<Function<Long, RenderedBody>>getArgument(1).apply(7L));
+
+        // Act & Assert
+        assertThrows(BlogPostNotFoundException.class, () -> blogPostService.getPostBody(7L));
+        verifyNoInteractions(postBodyRenderer);
+    }
+
+    private static BlogPostSummary summary(Long id, LocalDateTime publishedAt) {
+        return new BlogPostSummary(id, "Post " + id, "Excerpt", null, 1L, "author", 0L, 0L, 0L, publishedAt);
+    }
+}
@@ -0,0 +1,119 @@
+package com.blognest.blogservice.service;
+
+import com.blognest.blogservice.dto.RenderedBody;
+import com.blognest.blogservice.entity.BlogPost;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostBodyCacheTest {
+
+    private final PostBodyRenderer renderer = new PostBodyRenderer();
+    private SimpleMeterRegistry meterRegistry;
+    private PostBodyCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new PostBodyCache(meterRegistry, 1024 * 1024, Duration.ofMinutes(5));
+        cache.bindTo(meterRegistry);
+    }
+
+    @Test
+    void render_StripsScriptsAndUnsafeLinks() {
+        // Arrange
+        BlogPost post = post(1L, "<p>Hello <a href=\"javascript:alert(1)\">x</a><script>alert(2)</script>"
+                + "<a href=\"https://example.com\">ok</a></p>");
+
+        // Act
+        String html = new String(renderer.render(post).html(), StandardCharsets.UTF_8);
+
+        // Assert
+        assertFalse(html.contains("script"));
+        assertFalse(html.contains("javascript:"));
+        assertTrue(html.contains("<a href=\"https://example.com\" rel=\"nofollow ugc\">ok</a>"));
+    }
+
+    @Test
+    void render_GzipRoundTripsAndEtagFollowsContent() throws IOException {
+        // Arrange
+        BlogPost post = post(1L, "<p>" + "Body text. ".repeat(200) + "</p>");
+
+        // Act
+        RenderedBody first = renderer.render(post);
+        RenderedBody again = renderer.render(post);
+        post.setContent("<p>Edited</p>");
+        RenderedBody edited = renderer.render(post);
+
+        // Assert
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(first.gzip()))) {
+            assertArrayEquals(first.html(), in.readAllBytes());
+        }
+        assertTrue(first.gzip().length < first.html().length);
+        assertEquals(first.etag(), again.etag());
+        assertNotEquals(first.etag(), edited.etag());
+        assertTrue(first.etag().startsWith("\"") && first.etag().endsWith("\""));
+    }
+
+    @Test
+    void get_RendersOnceUntilInvalidated() {
+        // Arrange
+        BlogPost post = post(1L, "<p>Cached</p>");
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            cache.get(1L, id -> {
+                loads.incrementAndGet();
+                return renderer.render(post);
+            });
+        }
+        cache.invalidate(1L);
+        cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return renderer.render(post);
+        });
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertEquals(2, meterRegistry.get("cache.gets").tag("cache", "blog.body").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(2, meterRegistry.get("cache.gets").tag("cache", "blog.body").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    void recordServed_CountsBytesPerEncoding() {
+        // Arrange
+        RenderedBody body = renderer.render(post(1L, "<p>" + "Served. ".repeat(100) + "</p>"));
+
+        // Act
+        cache.recordServed(body, true);
+        cache.recordServed(body, false);
+        cache.recordNotModified();
+
+        // Assert
+        assertEquals(body.gzip().length, meterRegistry.get("blog.body.bytes.served").tag("encoding", "gzip").counter().count());
+        assertEquals(body.html().length, meterRegistry.get("blog.body.bytes.served").tag("encoding", "identity").counter().count());
+        assertEquals(1, meterRegistry.get("blog.body.not.modified").counter().count());
+    }
+
+    private static BlogPost post(Long id, String content) {
+        return BlogPost.builder()
+                .id(id)
+                .content(content)
+                .status(BlogPost.Status.PUBLISHED)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.blognest.blogservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostTermIndexTest {
+
+    @Test
+    void similar_AgreesWithBruteForceJaccard() {
+        // Arrange
+        Random random = new Random(7);
+        int posts = 300;
+        List<Set<Long>> termsOf = new ArrayList<>();
+        int[] pairPosts = new int[posts * 6];
+        long[] pairTerms = new long[posts * 6];
+        int pairs = 0;
+        for (int post = 0; post < posts; post++) {
+            Set<Long> terms = new HashSet<>();
+            for (int i = 0, n = random.nextInt(6); i < n; i++) {
+                long term = random.nextInt(40);
+                terms.add(term);
+                // Duplicate pairs, as a tag listed twice would produce, must not count twice
+                pairPosts[pairs] = post;
+                pairTerms[pairs++] = term;
+            }
+            termsOf.add(terms);
+        }
+        long[] postIds = IntStream.range(0, posts).mapToLong(post -> 1000L + post * 3L).toArray();
+
+        // Act
+        PostTermIndex index = PostTermIndex.build(postIds, pairPosts, pairTerms, pairs);
+
+        // Assert
+        int[] seen = new int[posts];
+        Arrays.fill(seen, -1);
+        for (int post = 0; post < posts; post++) {
+            PostTermIndex.Similar similar = index.similar(post, 5, Integer.MAX_VALUE, seen);
+            int self = post;
+            List<int[]> expected = IntStream.range(0, posts)
+                .filter(other -> other != self && jaccard(termsOf.get(self), termsOf.get(other)) > 0)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingDouble(other -> jaccard(termsOf.get(self), termsOf.get(other)))
+                    .reversed()
+                    .thenComparing(Comparator.<Integer>reverseOrder()))
+                .limit(5)
+                .map(other -> new int[]{other})
+                .toList();
+            assertArrayEquals(expected.stream().mapToInt(other -> other[0]).toArray(), similar.posts(), "post " + post);
+            for (int rank = 0; rank < similar.posts().length; rank++) {
+                assertEquals(jaccard(termsOf.get(post), termsOf.get(similar.posts()[rank])), similar.scores()[rank], 1e-12);
+            }
+        }
+        assertEquals(postIds[42], index.postId(index.denseId(postIds[42])));
+        assertTrue(index.denseId(1001L) < 0);
+    }
+
+    private static double jaccard(Set<Long> a, Set<Long> b) {
+        Set<Long> shared = new HashSet<>(a);
+        shared.retainAll(b);
+        return (double) shared.size() / (a.size() + b.size() - shared.size());
+    }
+}
@@ -0,0 +1,207 @@
+package com.blognest.blogservice.service;
+
+import com.blognest.blogservice.dto.BlogPostSummary;
+import com.blognest.blogservice.entity.BlogPost;
+import com.blognest.blogservice.entity.Category;
+import com.blognest.blogservice.entity.Tag;
+import com.blognest.blogservice.repository.BlogPostRepository;
+import com.blognest.blogservice.repository.CategoryRepository;
+import com.blognest.blogservice.repository.JobLeaseRepository;
+import com.blognest.blogservice.repository.TagRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class RelatedPostsIndexerTest {
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JobLeaseRepository leaseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JobLeases jobLeases;
+    private RelatedPostsIndexer indexer;
+    private Tag java;
+    private Tag spring;
+    private Tag kafka;
+    private Category backend;
+
+    @BeforeEach
+    void setUp() {
+        jobLeases = new JobLeases(leaseRepository, transactionManager);
+        // Chunks of two posts split every run into several transactions and fork-join tasks
+        indexer = new RelatedPostsIndexer(jdbcTemplate, transactionManager, jobLeases, new SimpleMeterRegistry(),
+            10, 5000, 2, 2, 86_400_000, 600_000);
+        java = tagRepository.save(Tag.builder().name("java").slug("java").build());
+        spring = tagRepository.save(Tag.builder().name("spring").slug("spring").build());
+        kafka = tagRepository.save(Tag.builder().name("kafka").slug("kafka").build());
+        backend = categoryRepository.save(Category.builder().name("Backend").slug("backend").build());
+    }
+
+    @Test
+    void rebuild_RanksPublishedPostsByTagAndCategoryOverlap() {
+        // Arrange
+        BlogPost post = save("Spring Boot on Java 21", BlogPost.Status.PUBLISHED, Set.of(java, spring), Set.of(backend));
+        BlogPost twin = save("Spring Data with Java", BlogPost.Status.PUBLISHED, Set.of(java, spring), Set.of(backend));
+        BlogPost partial = save("Java records explained", BlogPost.Status.PUBLISHED, Set.of(java), Set.of(backend));
+        BlogPost unrelated = save("Kafka consumer groups", BlogPost.Status.PUBLISHED, Set.of(kafka), Set.of());
+        save("Spring draft on Java", BlogPost.Status.DRAFT, Set.of(java, spring), Set.of(backend));
+        blogPostRepository.flush();
+
+        // Act
+        indexer.rebuild();
+
+        // Assert
+        assertEquals(List.of(twin.getId(), partial.getId()), related(post));
+        // Equal overlap ranks the newer post first
+        assertEquals(List.of(twin.getId(), post.getId()), related(partial));
+        assertEquals(List.of(), related(unrelated));
+        assertEquals(2.0 / 3, jdbcTemplate.queryForObject(
+            "SELECT score FROM related_posts WHERE post_id = ? AND related_post_id = ?",
+            Double.class, post.getId(), partial.getId()), 1e-9);
+    }
+
+    @Test
+    void refresh_RecomputesChangedPostsAndTheListsTheyAppearIn() {
+        // Arrange
+        BlogPost post = save("Spring Boot on Java 21", BlogPost.Status.PUBLISHED, Set.of(java, spring), Set.of(backend));
+        BlogPost changed = save("Spring Data with Java", BlogPost.Status.PUBLISHED, Set.of(java, spring), Set.of(backend));
+        BlogPost partial = save("Java records explained", BlogPost.Status.PUBLISHED, Set.of(java), Set.of(backend));
+        BlogPost streaming = save("Kafka consumer groups", BlogPost.Status.PUBLISHED, Set.of(kafka), Set.of());
+        BlogPost removed = save("Kafka Streams joins", BlogPost.Status.PUBLISHED, Set.of(kafka), Set.of());
+        blogPostRepository.flush();
+        indexer.rebuild();
+
+        changed.setTags(Set.of(kafka));
+        changed.setCategories(Set.of());
+        removed.setStatus(BlogPost.Status.DRAFT);
+        blogPostRepository.flush();
+
+        // Act
+        indexer.markDirty(List.of(changed.getId(), removed.getId()));
+        indexer.refresh();
+
+        // Assert
+        assertEquals(List.of(partial.getId()), related(post));
+        assertEquals(List.of(streaming.getId()), related(changed));
+        assertEquals(0, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM related_posts WHERE post_id = ?", Integer.class, removed.getId()));
+    }
+
+    @Test
+    void refresh_MatchesARebuildWhenTermsHaveMorePostsThanAreConsidered() {
+        // Arrange
+        indexer = new RelatedPostsIndexer(jdbcTemplate, transactionManager, jobLeases, new SimpleMeterRegistry(),
+            10, 2, 2, 2, 86_400_000, 600_000);
+        BlogPost post = save("Spring Boot on Java 21", BlogPost.Status.PUBLISHED, Set.of(java, spring), Set.of(backend));
+        BlogPost older = save("Java records explained", BlogPost.Status.PUBLISHED, Set.of(java), Set.of(backend));
+        List<BlogPost> posts = List.of(post, older,
+            save("Spring Data with Java", BlogPost.Status.PUBLISHED, Set.of(java, spring), Set.of()),
+            save("Kafka with Spring", BlogPost.Status.PUBLISHED, Set.of(kafka, spring), Set.of(backend)),
+            save("Kafka consumer groups", BlogPost.Status.PUBLISHED, Set.of(kafka), Set.of()),
+            save("Backend testing", BlogPost.Status.PUBLISHED, Set.of(), Set.of(backend)));
+        blogPostRepository.flush();
+        indexer.rebuild();
+        older.setTags(Set.of(java, spring, kafka));
+        blogPostRepository.flush();
+
+        // Act
+        indexer.markDirty(List.of(older.getId()));
+        indexer.refresh();
+        List<List<Long>> refreshed = posts.stream().map(this::related).toList();
+        indexer.rebuild();
+
+        // Assert
+        assertEquals(posts.stream().map(this::related).toList().subList(0, 2), refreshed.subList(0, 2));
+    }
+
+    @Test
+    void rebuildIfStale_RebuildsAnEmptyOrOutdatedTableOnly() {
+        // Arrange
+        BlogPost post = save("Spring Boot on Java 21", BlogPost.Status.PUBLISHED, Set.of(java, spring), Set.of(backend));
+        BlogPost twin = save("Spring Data with Java", BlogPost.Status.PUBLISHED, Set.of(java, spring), Set.of(backend));
+        blogPostRepository.flush();
+
+        // Act
+        indexer.rebuildIfStale();
+        jdbcTemplate.update("UPDATE related_posts SET score = 0");
+        indexer.rebuildIfStale();
+        double fresh = score(post, twin);
+        jdbcTemplate.update("UPDATE related_posts SET computed_at = ?", LocalDateTime.now().minusDays(2));
+        indexer.rebuildIfStale();
+
+        // Assert
+        assertEquals(List.of(twin.getId()), related(post));
+        assertEquals(0.0, fresh);
+        assertEquals(1.0, score(post, twin), 1e-9);
+    }
+
+    @Test
+    void rebuild_SkippedWhileAnotherInstanceHoldsTheLease() {
+        // Arrange
+        BlogPost post = save("Spring Boot on Java 21", BlogPost.Status.PUBLISHED, Set.of(java, spring), Set.of(backend));
+        save("Spring Data with Java", BlogPost.Status.PUBLISHED, Set.of(java, spring), Set.of(backend));
+        blogPostRepository.flush();
+        // Another instance's leases commit on their own, outside the test transaction
+        JobLeases otherInstance = new JobLeases(leaseRepository, transactionManager);
+        assertTrue(otherInstance.tryAcquire("related-posts", Duration.ofMinutes(5)));
+
+        // Act
+        try {
+            indexer.rebuild();
+        } finally {
+            otherInstance.release("related-posts");
+        }
+
+        // Assert
+        assertEquals(List.of(), related(post));
+    }
+
+    private double score(BlogPost post, BlogPost related) {
+        return jdbcTemplate.queryForObject("SELECT score FROM related_posts WHERE post_id = ? AND related_post_id = ?",
+            Double.class, post.getId(), related.getId());
+    }
+
+    private List<Long> related(BlogPost post) {
+        return blogPostRepository.findRelatedSummaries(post.getId(), BlogPost.Status.PUBLISHED).stream()
+            .map(BlogPostSummary::id)
+            .toList();
+    }
+
+    private BlogPost save(String title, BlogPost.Status status, Set<Tag> tags, Set<Category> categories) {
+        return blogPostRepository.save(BlogPost.builder()
+            .title(title)
+            .content("Body of " + title)
+            .authorId(1L)
+            .authorUsername("author")
+            .status(status)
+            .tags(tags)
+            .categories(categories)
+            .build());
+    }
+}
@@ -0,0 +1,140 @@
+package com.blognest.blogservice.service;
+
+import com.blognest.blogservice.entity.BlogPost;
+import com.blognest.blogservice.entity.SearchOutboxEvent;
+import com.blognest.blogservice.entity.Tag;
+import com.blognest.blogservice.repository.BlogPostRepository;
+import com.blognest.blogservice.repository.CategoryRepository;
+import com.blognest.blogservice.repository.SearchOutboxRepository;
+import com.blognest.blogservice.repository.TagRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ScheduledPublisherTest {
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private SearchOutboxRepository searchOutboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ScheduledPublisher publisher;
+    private Tag tag;
+
+    @BeforeEach
+    void setUp() {
+        TaxonomyCountService taxonomyCountService = new TaxonomyCountService(tagRepository, categoryRepository,
+            transactionManager, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+        publisher = new ScheduledPublisher(blogPostRepository, searchOutboxRepository, taxonomyCountService,
+            transactionManager, new SimpleMeterRegistry(), 2, Duration.ofMinutes(10), Duration.ZERO);
+        tag = tagRepository.save(Tag.builder().name("release").slug("release").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.stop();
+        searchOutboxRepository.deleteAll();
+        blogPostRepository.deleteAll();
+        tagRepository.deleteAll();
+    }
+
+    @Test
+    void publishDue_PublishesDuePostsInBatches() throws InterruptedException {
+        // Arrange
+        LocalDateTime dueAt = LocalDateTime.now().minusMinutes(1).truncatedTo(ChronoUnit.MILLIS);
+        for (int i = 0; i < 5; i++) {
+            scheduledDraft("Due post " + i, dueAt);
+        }
+        BlogPost later = scheduledDraft("Later post", LocalDateTime.now().plusHours(1));
+
+        // Act
+        int published = publisher.publishDue();
+
+        // Assert
+        assertEquals(5, published);
+        List<BlogPost> posts = blogPostRepository.findAll();
+        assertEquals(5, posts.stream().filter(post -> post.getStatus() == BlogPost.Status.PUBLISHED).count());
+        assertTrue(posts.stream()
+            .filter(post -> post.getStatus() == BlogPost.Status.PUBLISHED)
+            .allMatch(post -> dueAt.equals(post.getPublishedAt()) && post.getScheduledAt() == null));
+        assertEquals(BlogPost.Status.DRAFT, blogPostRepository.findById(later.getId()).orElseThrow().getStatus());
+        assertEquals(5, tagRepository.findById(tag.getId()).orElseThrow().getPublishedPostCount());
+        assertEquals(5, searchOutboxRepository.findAll().stream()
+            .filter(event -> event.getOperation() == SearchOutboxEvent.Operation.UPSERT).count());
+    }
+
+    @Test
+    void scheduledPost_IsPublishedWhenDue() throws InterruptedException {
+        // Arrange
+        BlogPost post = scheduledDraft("Soon post", LocalDateTime.now().plusSeconds(1));
+        publisher.start();
+
+        // Act
+        publisher.schedule(post.getId(), post.getScheduledAt());
+        BlogPost.Status status = BlogPost.Status.DRAFT;
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (status == BlogPost.Status.DRAFT && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            status = blogPostRepository.findById(post.getId()).orElseThrow().getStatus();
+        }
+
+        // Assert
+        assertEquals(BlogPost.Status.PUBLISHED, status);
+    }
+
+    @Test
+    void clearedSchedule_IsNotPublished() throws InterruptedException {
+        // Arrange
+        BlogPost post = scheduledDraft("Cancelled post", LocalDateTime.now().plusNanos(300_000_000));
+        publisher.start();
+        publisher.schedule(post.getId(), post.getScheduledAt());
+
+        // Act
+        post.setScheduledAt(null);
+        blogPostRepository.save(post);
+        publisher.schedule(post.getId(), null);
+        Thread.sleep(600);
+
+        // Assert
+        assertEquals(BlogPost.Status.DRAFT, blogPostRepository.findById(post.getId()).orElseThrow().getStatus());
+    }
+
+    private BlogPost scheduledDraft(String title, LocalDateTime scheduledAt) {
+        return blogPostRepository.save(BlogPost.builder()
+            .title(title)
+            .content("Content of " + title)
+            .authorId(1L)
+            .authorUsername("author")
+            .status(BlogPost.Status.DRAFT)
+            .scheduledAt(scheduledAt)
+            .tags(new HashSet<>(Set.of(tag)))
+            .build());
+    }
+}
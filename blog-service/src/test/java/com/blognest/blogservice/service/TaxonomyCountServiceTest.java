@@ -0,0 +1,169 @@
+package com.blognest.blogservice.service;
+
+import com.blognest.blogservice.dto.BlogPostDetail;
+import com.blognest.blogservice.dto.BlogPostRequest;
+import com.blognest.blogservice.dto.TermCount;
+import com.blognest.blogservice.entity.BlogPost;
+import com.blognest.blogservice.entity.Category;
+import com.blognest.blogservice.entity.Tag;
+import com.blognest.blogservice.repository.BlogPostRepository;
+import com.blognest.blogservice.repository.CategoryRepository;
+import com.blognest.blogservice.repository.SearchOutboxRepository;
+import com.blognest.blogservice.repository.TagRepository;
+import com.blognest.common.security.JwtUserPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class TaxonomyCountServiceTest {
+
+    private static final JwtUserPrincipal AUTHOR = new JwtUserPrincipal(1L, "author", "USER");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private SearchOutboxRepository searchOutboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TaxonomyCountService taxonomyCountService;
+    private BlogPostService blogPostService;
+    private Category backend;
+    private Tag java;
+    private Tag spring;
+    private Tag kafka;
+
+    @BeforeEach
+    void setUp() {
+        taxonomyCountService = new TaxonomyCountService(tagRepository, categoryRepository, transactionManager,
+            new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+        blogPostService = new BlogPostService(blogPostRepository, categoryRepository, tagRepository,
+            searchOutboxRepository, taxonomyCountService, mock(ScheduledPublisher.class),
+            mock(PostBodyCache.class), new PostBodyRenderer(), mock(ViewCounter.class),
+            mock(TrendingService.class));
+
+        backend = entityManager.persist(Category.builder().name("Backend").slug("backend").build());
+        java = entityManager.persist(Tag.builder().name("java").slug("java").build());
+        spring = entityManager.persist(Tag.builder().name("spring").slug("spring").build());
+        kafka = entityManager.persist(Tag.builder().name("kafka").slug("kafka").build());
+    }
+
+    @Test
+    void postChanges_AdjustCountersIncrementally() {
+        // Act
+        BlogPostDetail post = blogPostService.createPost(
+            request(BlogPost.Status.PUBLISHED, Set.of(java.getId(), spring.getId())), AUTHOR).getData();
+        long[] published = {count("categories", backend.getId()), count("tags", java.getId()), count("tags", spring.getId())};
+
+        blogPostService.updatePost(post.id(),
+            request(BlogPost.Status.PUBLISHED, Set.of(spring.getId(), kafka.getId())), AUTHOR, false);
+        long[] retagged = {count("tags", java.getId()), count("tags", spring.getId()), count("tags", kafka.getId())};
+
+        blogPostService.updatePost(post.id(),
+            request(BlogPost.Status.DRAFT, Set.of(spring.getId(), kafka.getId())), AUTHOR, false);
+        long[] unpublished = {count("categories", backend.getId()), count("tags", spring.getId()), count("tags", kafka.getId())};
+
+        // Assert
+        assertArrayEquals(new long[]{1, 1, 1}, published);
+        assertArrayEquals(new long[]{0, 1, 1}, retagged);
+        assertArrayEquals(new long[]{0, 0, 0}, unpublished);
+    }
+
+    @Test
+    void deletingPublishedPost_ReleasesItsCounts() {
+        // Arrange
+        BlogPostDetail post = blogPostService.createPost(
+            request(BlogPost.Status.PUBLISHED, Set.of(java.getId())), AUTHOR).getData();
+
+        // Act
+        blogPostService.deletePost(post.id(), AUTHOR, false);
+
+        // Assert
+        assertEquals(0, count("tags", java.getId()));
+        assertEquals(0, count("categories", backend.getId()));
+    }
+
+    @Test
+    void reconcile_CorrectsDrift() {
+        // Arrange
+        blogPostService.createPost(request(BlogPost.Status.PUBLISHED, Set.of(java.getId())), AUTHOR);
+        blogPostService.createPost(request(BlogPost.Status.DRAFT, Set.of(java.getId(), spring.getId())), AUTHOR);
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE tags SET published_post_count = 7 WHERE id = ?", java.getId());
+        jdbcTemplate.update("UPDATE tags SET published_post_count = 3 WHERE id = ?", spring.getId());
+
+        // Act
+        int corrected = taxonomyCountService.reconcile();
+
+        // Assert
+        assertEquals(2, corrected);
+        assertEquals(1, count("tags", java.getId()));
+        assertEquals(0, count("tags", spring.getId()));
+        assertEquals(1, count("categories", backend.getId()));
+        assertEquals(0, taxonomyCountService.reconcile());
+    }
+
+    @Test
+    void tagCloud_IsServedFromCacheUntilCountsAreCorrected() {
+        // Arrange
+        blogPostService.createPost(request(BlogPost.Status.PUBLISHED, Set.of(java.getId(), spring.getId())), AUTHOR);
+        blogPostService.createPost(request(BlogPost.Status.PUBLISHED, Set.of(java.getId())), AUTHOR);
+        entityManager.flush();
+
+        // Act
+        List<TermCount> first = taxonomyCountService.getTagCloud();
+        jdbcTemplate.update("UPDATE tags SET published_post_count = 9 WHERE id = ?", kafka.getId());
+        List<TermCount> cached = taxonomyCountService.getTagCloud();
+        taxonomyCountService.reconcile();
+        List<TermCount> refreshed = taxonomyCountService.getTagCloud();
+
+        // Assert
+        assertEquals(List.of("java", "spring"), first.stream().map(TermCount::name).toList());
+        assertEquals(2, first.get(0).postCount());
+        assertSame(first, cached);
+        assertNotSame(first, refreshed);
+        assertEquals(first, refreshed);
+    }
+
+    private long count(String table, Long id) {
+        entityManager.flush();
+        return jdbcTemplate.queryForObject("SELECT published_post_count FROM " + table + " WHERE id = ?", Long.class, id);
+    }
+
+    private BlogPostRequest request(BlogPost.Status status, Set<Long> tagIds) {
+        return BlogPostRequest.builder()
+            .title("Counting post")
+            .content("Content")
+            .status(status)
+            .categoryIds(Set.of(backend.getId()))
+            .tagIds(tagIds)
+            .build();
+    }
+}
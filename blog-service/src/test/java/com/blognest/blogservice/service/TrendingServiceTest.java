@@ -0,0 +1,191 @@
+package com.blognest.blogservice.service;
+
+import com.blognest.blogservice.dto.BlogPostSummary;
+import com.blognest.blogservice.dto.TrendingPost;
+import com.blognest.blogservice.entity.BlogPost;
+import com.blognest.blogservice.repository.BlogPostRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingServiceTest {
+
+    private static final Duration HALF_LIFE = Duration.ofHours(1);
+
+    @Mock
+    private BlogPostRepository blogPostRepository;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-05-01T00:00:00Z"));
+    private final Set<Long> published = new HashSet<>();
+    private TrendingProperties properties;
+    private TrendingService trendingService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        properties = new TrendingProperties();
+        properties.setHalfLife(HALF_LIFE);
+        properties.setSize(20);
+        lenient().when(blogPostRepository.findSummariesByIdIn(eq(BlogPost.Status.PUBLISHED), anyCollection()))
+            .thenAnswer(invocation -> ((Collection<Long>) invocation.getArgument(1)).stream()
+                .filter(published::contains)
+                .map(TrendingServiceTest::summary)
+                .toList());
+        trendingService = new TrendingService(blogPostRepository, properties, new SimpleMeterRegistry(), clock);
+    }
+
+    @Test
+    void refresh_MatchesDecayedSumsOfReplayedEngagement() {
+        // Arrange
+        // Nothing is pruned, so every score must match the replay exactly
+        properties.setMinScore(0);
+        trendingService = new TrendingService(blogPostRepository, properties, new SimpleMeterRegistry(), clock);
+        Random random = new Random(42);
+        Map<Long, List<Event>> history = new HashMap<>();
+        for (long id = 1; id <= 20; id++) {
+            published.add(id);
+        }
+        // Three days of engagement at one hour half-life, long enough to move the landmark forward
+        Instant end = clock.instant().plus(Duration.ofDays(3));
+        while (clock.instant().isBefore(end)) {
+            clock.advance(Duration.ofSeconds(1 + random.nextInt(600)));
+            long postId = 1 + random.nextInt(20);
+            TrendingService.Signal signal = TrendingService.Signal.values()[random.nextInt(3)];
+            trendingService.record(postId, signal);
+            history.computeIfAbsent(postId, id -> new ArrayList<>()).add(new Event(clock.instant(), signal));
+            if (random.nextInt(10) == 0) {
+                trendingService.refresh();
+            }
+        }
+
+        // Act
+        trendingService.refresh();
+        List<TrendingPost> trending = trendingService.getTrending(20);
+
+        // Assert
+        Map<Long, Double> expected = new HashMap<>();
+        history.forEach((postId, events) -> expected.put(postId, events.stream()
+            .mapToDouble(event -> weightOf(event.signal())
+                * Math.pow(0.5, Duration.between(event.at(), clock.instant()).toMillis() / (double) HALF_LIFE.toMillis()))
+            .sum()));
+        List<Long> expectedOrder = expected.entrySet().stream()
+            .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+            .map(Map.Entry::getKey)
+            .toList();
+        assertEquals(expectedOrder, trending.stream().map(post -> post.post().id()).toList());
+        for (TrendingPost post : trending) {
+            double want = expected.get(post.post().id());
+            assertEquals(want, post.score(), want * 1e-9);
+        }
+    }
+
+    @Test
+    void getTrending_RanksRecentEngagementAboveOlderTotals() {
+        // Arrange
+        published.addAll(List.of(1L, 2L));
+        for (int i = 0; i < 100; i++) {
+            trendingService.record(1L, TrendingService.Signal.VIEW);
+        }
+        clock.advance(Duration.ofHours(3));
+        for (int i = 0; i < 2; i++) {
+            trendingService.record(2L, TrendingService.Signal.COMMENT);
+        }
+
+        // Act
+        trendingService.refresh();
+        List<TrendingPost> trending = trendingService.getTrending(10);
+
+        // Assert
+        assertEquals(List.of(2L, 1L), trending.stream().map(post -> post.post().id()).toList());
+        assertEquals(20.0, trending.get(0).score(), 1e-9);
+        assertEquals(12.5, trending.get(1).score(), 1e-9);
+        assertEquals(1, trendingService.getTrending(1).size());
+    }
+
+    @Test
+    void refresh_DropsPostsThatAreNotPublishedOrForgotten() {
+        // Arrange
+        published.addAll(List.of(1L, 2L));
+        trendingService.record(1L, TrendingService.Signal.LIKE);
+        trendingService.record(2L, TrendingService.Signal.LIKE);
+        trendingService.record(3L, TrendingService.Signal.COMMENT);
+        trendingService.refresh();
+        assertEquals(List.of(1L, 2L), trendingService.getTrending(10).stream().map(post -> post.post().id()).toList());
+
+        // Act
+        trendingService.forget(1L);
+        trendingService.refresh();
+
+        // Assert
+        assertEquals(List.of(2L), trendingService.getTrending(10).stream().map(post -> post.post().id()).toList());
+        clock.advance(Duration.ofMinutes(10));
+        trendingService.refresh();
+        verify(blogPostRepository, times(2)).findSummariesByIdIn(eq(BlogPost.Status.PUBLISHED), anyCollection());
+        assertTrue(trendingService.getTrending(10).get(0).score() < 5);
+    }
+
+    private double weightOf(TrendingService.Signal signal) {
+        return switch (signal) {
+            case VIEW -> properties.getWeights().getView();
+            case LIKE -> properties.getWeights().getLike();
+            case COMMENT -> properties.getWeights().getComment();
+        };
+    }
+
+    private static BlogPostSummary summary(long id) {
+        return new BlogPostSummary(id, "Post " + id, null, null, 1L, "author", 0L, 0L, 0L, null);
+    }
+
+    private record Event(Instant at, TrendingService.Signal signal) {
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
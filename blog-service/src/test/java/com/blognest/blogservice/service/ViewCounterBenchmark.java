@@ -0,0 +1,55 @@
+package com.blognest.blogservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Views of a single hot post recorded from 1, 4 and all available threads, against one shared
+ * {@link AtomicLong} as the contended baseline. Run with {@code mvn -Pbenchmark test -pl blog-service}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ViewCounterBenchmark {
+
+    private static final Long HOT_POST = 42L;
+
+    private ViewCounter viewCounter;
+    private AtomicLong atomicCounter;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        viewCounter = new ViewCounter(null, new SimpleMeterRegistry(), 500);
+        atomicCounter = new AtomicLong();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void hotPostOneThread() {
+        viewCounter.record(HOT_POST);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void hotPostFourThreads() {
+        viewCounter.record(HOT_POST);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void hotPostAllThreads() {
+        viewCounter.record(HOT_POST);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public long atomicBaselineAllThreads() {
+        return atomicCounter.incrementAndGet();
+    }
+}
@@ -0,0 +1,171 @@
+package com.blognest.blogservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCounterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Captor
+    private ArgumentCaptor<Collection<Map.Entry<Long, Long>>> batch;
+
+    private ViewCounter viewCounter;
+
+    @BeforeEach
+    void setUp() {
+        viewCounter = new ViewCounter(jdbcTemplate, new SimpleMeterRegistry(), 500);
+    }
+
+    @Test
+    void flush_WritesSummedDeltasFromConcurrentViews() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    viewCounter.record(1L);
+                }
+                viewCounter.record(2L);
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Act
+        viewCounter.flush();
+
+        // Assert
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture(), eq(500), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(List.of(Map.entry(1L, 80_000L), Map.entry(2L, 8L)), new ArrayList<>(batch.getValue()));
+        assertEquals(0, viewCounter.pendingViews(1L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_WritesEveryViewWhileIdleCountersAreDropped() throws Exception {
+        // Arrange
+        AtomicLong flushed = new AtomicLong();
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+            .thenAnswer(invocation -> {
+                ((Collection<Map.Entry<Long, Long>>) invocation.getArgument(1))
+                    .forEach(entry -> flushed.addAndGet(entry.getValue()));
+                return new int[0][];
+            });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++) {
+            executor.submit(() -> {
+                // Sparse views keep the counters idle between flushes, so they are dropped often
+                for (int i = 0; i < 250_000; i++) {
+                    viewCounter.record(1L + i % 1000);
+                    Thread.onSpinWait();
+                }
+            });
+        }
+        executor.shutdown();
+        while (!executor.isTerminated()) {
+            viewCounter.flush();
+        }
+
+        // Act
+        viewCounter.flush();
+
+        // Assert
+        assertEquals(1_000_000, flushed.get());
+    }
+
+    @Test
+    void flush_CountsViewRecordedBetweenIdleCheckAndRemoval() throws Exception {
+        // Arrange
+        CountDownLatch removing = new CountDownLatch(1);
+        CountDownLatch recorded = new CountDownLatch(1);
+        Map<Long, LongAdder> pending = new ConcurrentHashMap<>() {
+            @Override
+            public boolean remove(Object key, Object value) {
+                removing.countDown();
+                try {
+                    // Holds the flush after its idle check until the view has been recorded
+                    assertTrue(recorded.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException ex) {
+                    throw new IllegalStateException(ex);
+                }
+                return super.remove(key, value);
+            }
+        };
+        viewCounter = new ViewCounter(jdbcTemplate, new SimpleMeterRegistry(), 500, pending);
+        viewCounter.record(1L);
+        viewCounter.flush();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.submit(() -> {
+            removing.await();
+            viewCounter.record(1L);
+            recorded.countDown();
+            return null;
+        });
+
+        // Act
+        viewCounter.flush();
+
+        // Assert
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), batch.capture(), eq(500), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(List.of(Map.entry(1L, 1L)), new ArrayList<>(batch.getAllValues().get(1)));
+        assertFalse(pending.containsKey(1L));
+    }
+
+    @Test
+    void flush_RequeuesOnFailure() {
+        // Arrange
+        viewCounter.record(1L);
+        viewCounter.record(1L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("database down"));
+
+        // Act
+        viewCounter.flush();
+
+        // Assert
+        assertEquals(2, viewCounter.pendingViews(1L));
+    }
+
+    @Test
+    void flush_IdleCountersAreNotWritten() {
+        // Arrange
+        viewCounter.record(1L);
+        viewCounter.flush();
+
+        // Act
+        viewCounter.flush();
+
+        // Assert
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+}
@@ -0,0 +1,76 @@
+package com.blognest.commentservice.controller;
+
+import com.blognest.commentservice.dto.CommentNode;
+import com.blognest.commentservice.dto.CommentRequest;
+import com.blognest.commentservice.service.CommentService;
+import com.blognest.common.dto.ApiResponse;
+import com.blognest.common.dto.CursorPage;
+import com.blognest.common.security.UserIdentity;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@Tag(name = "Comments", description = "Threaded comment APIs")
+public class CommentController {
+
+    private final CommentService commentService;
+
+    @GetMapping("/posts/{postId}/comments")
+    @Operation(summary = "Get comments", description = "Keyset-paginated top-level comments of a post, newest first, with their replies")
+    public ResponseEntity<ApiResponse<CursorPage<CommentNode>>> getComments(@PathVariable Long postId,
+                                                                          @RequestParam(required = false) String cursor,
+                                                                          @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(commentService.getComments(postId, cursor, limit));
+    }
+
+    @GetMapping("/posts/{postId}/comments/thread")
+    @Operation(summary = "Get comment thread", description = "Every comment of a post as a tree")
+    public ResponseEntity<ApiResponse<List<CommentNode>>> getThread(@PathVariable Long postId) {
+        return ResponseEntity.ok(commentService.getThread(postId));
+    }
+
+    @PostMapping("/posts/{postId}/comments")
+    @Operation(summary = "Create comment", description = "Comment on a post, or reply to one of its comments")
+    public ResponseEntity<ApiResponse<CommentNode>> createComment(@PathVariable Long postId,
+                                                                  @Valid @RequestBody CommentRequest request,
+                                                                  @AuthenticationPrincipal UserIdentity author) {
+        log.info("Creating comment on post {} for user: {}", postId, author.getUsername());
+        ApiResponse<CommentNode> response = commentService.createComment(postId, request, author);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @GetMapping("/comments/{id}/replies")
+    @Operation(summary = "Get replies", description = "A comment with every reply below it")
+    public ResponseEntity<ApiResponse<CommentNode>> getReplies(@PathVariable Long id) {
+        return ResponseEntity.ok(commentService.getReplies(id));
+    }
+
+    @DeleteMapping("/comments/{id}")
+    @Operation(summary = "Delete comment", description = "Delete a comment; only its author or an admin may do so")
+    public ResponseEntity<ApiResponse<Void>> deleteComment(@PathVariable Long id, Authentication authentication) {
+        log.info("Deleting comment with ID: {}", id);
+        return ResponseEntity.ok(commentService.deleteComment(id, identityOf(authentication), isAdmin(authentication)));
+    }
+
+    private static UserIdentity identityOf(Authentication authentication) {
+        return authentication != null && authentication.getPrincipal() instanceof UserIdentity identity ? identity : null;
+    }
+
+    private static boolean isAdmin(Authentication authentication) {
+        return authentication != null && authentication.getAuthorities().stream()
+            .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+    }
+}
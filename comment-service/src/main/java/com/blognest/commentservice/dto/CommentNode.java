@@ -0,0 +1,29 @@
+package com.blognest.commentservice.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A comment with its replies, oldest first. Deleted comments keep their place in the thread
+ * without their author or content.
+ */
+public record CommentNode(
+    Long id,
+    Long parentId,
+    int depth,
+    Long authorId,
+    String authorUsername,
+    String content,
+    boolean deleted,
+    LocalDateTime createdAt,
+    List<CommentNode> replies
+) {
+
+    public static CommentNode of(CommentRow row) {
+        return row.deleted()
+            ? new CommentNode(row.id(), row.parentId(), row.depth(), null, null, null, true, row.createdAt(), new ArrayList<>())
+            : new CommentNode(row.id(), row.parentId(), row.depth(), row.authorId(), row.authorUsername(), row.content(),
+                false, row.createdAt(), new ArrayList<>());
+    }
+}
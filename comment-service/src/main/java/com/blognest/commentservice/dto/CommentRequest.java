@@ -0,0 +1,22 @@
+package com.blognest.commentservice.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentRequest {
+
+    @NotBlank(message = "Content is required")
+    @Size(max = 10000, message = "Content must be at most 10000 characters")
+    private String content;
+
+    /** Comment this one replies to; absent for a top-level comment. */
+    private Long parentId;
+}
@@ -0,0 +1,19 @@
+package com.blognest.commentservice.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat projection of a comment, selected column by column so a whole thread is read without
+ * managing thousands of entities.
+ */
+public record CommentRow(
+    Long id,
+    Long parentId,
+    int depth,
+    Long authorId,
+    String authorUsername,
+    String content,
+    boolean deleted,
+    LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,100 @@
+package com.blognest.commentservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * A comment on a post, stored with a materialised path. {@code path} lists the ids of the
+ * comment's ancestors, root first, as {@code "/1/5/"} ({@code "/"} for a top-level comment), so
+ * every reply below a comment shares the prefix {@code path + id + "/"} and a subtree is one range
+ * scan of the {@code (post_id, path)} index. The range is bounded explicitly rather than with
+ * {@code LIKE}, and its bounds assume paths compare byte by byte, so the column is declared with
+ * the C collation whatever the database's default. {@code rootId} is the top-level comment of the
+ * thread, or null for a top-level comment itself.
+ */
+@Entity
+@Table(name = "comments", indexes = {
+    @Index(name = "idx_comments_post_id_path", columnList = "post_id, path"),
+    @Index(name = "idx_comments_post_id_depth_created_at_id", columnList = "post_id, depth, created_at, id"),
+    @Index(name = "idx_comments_root_id", columnList = "root_id")
+})
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Comment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    @Column(name = "root_id")
+    private Long rootId;
+
+    @Column(nullable = false, columnDefinition = "varchar(255) COLLATE \"C\"")
+    private String path;
+
+    @Column(nullable = false)
+    private int depth;
+
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+
+    @Column(name = "author_username", nullable = false)
+    private String authorUsername;
+
+    @ToString.Exclude
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String content;
+
+    /** Deleted comments keep their row, so their replies stay attached to the thread. */
+    @Column(nullable = false)
+    private boolean deleted;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * Path prefix shared by every reply below this comment.
+     */
+    public String descendantPath() {
+        return path + id + "/";
+    }
+
+    /**
+     * First path after every reply below this comment: {@code '0'} is the character after
+     * {@code '/'}, so no path of another comment falls between the two.
+     */
+    public String descendantPathEnd() {
+        return path + id + "0";
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
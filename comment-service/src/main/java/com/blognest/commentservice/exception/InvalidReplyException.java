@@ -0,0 +1,11 @@
+package com.blognest.commentservice.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidReplyException extends RuntimeException {
+    public InvalidReplyException(String message) {
+        super(message);
+    }
+}
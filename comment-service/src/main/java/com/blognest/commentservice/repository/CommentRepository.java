@@ -0,0 +1,41 @@
+package com.blognest.commentservice.repository;
+
+import com.blognest.commentservice.dto.CommentRow;
+import com.blognest.commentservice.entity.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    String ROW_SELECT =
+        "SELECT new com.blognest.commentservice.dto.CommentRow(c.id, c.parentId, c.depth, c.authorId, " +
+        "c.authorUsername, c.content, c.deleted, c.createdAt) FROM Comment c";
+
+    @Query(ROW_SELECT + " WHERE c.postId = :postId")
+    List<CommentRow> findThread(@Param("postId") Long postId);
+
+    @Query(ROW_SELECT + " WHERE c.postId = :postId AND c.path >= :from AND c.path < :to")
+    List<CommentRow> findSubtree(@Param("postId") Long postId, @Param("from") String from, @Param("to") String to);
+
+    @Query(ROW_SELECT + " WHERE c.rootId IN :rootIds")
+    List<CommentRow> findRepliesByRootIdIn(@Param("rootIds") Collection<Long> rootIds);
+
+    @Query(ROW_SELECT + " WHERE c.postId = :postId AND c.depth = 0 ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentRow> findTopLevel(@Param("postId") Long postId, Pageable pageable);
+
+    // The redundant createdAt <= bound keeps the seek an index range on (post_id, depth, created_at, id)
+    @Query(ROW_SELECT + " WHERE c.postId = :postId AND c.depth = 0 AND c.createdAt <= :createdAt " +
+           "AND (c.createdAt < :createdAt OR c.id < :id) ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentRow> findTopLevelAfter(@Param("postId") Long postId,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
+}
@@ -0,0 +1,178 @@
+package com.blognest.commentservice.service;
+
+import com.blognest.commentservice.dto.CommentNode;
+import com.blognest.commentservice.dto.CommentRequest;
+import com.blognest.commentservice.dto.CommentRow;
+import com.blognest.commentservice.entity.Comment;
+import com.blognest.commentservice.exception.CommentNotFoundException;
+import com.blognest.commentservice.exception.InvalidReplyException;
+import com.blognest.commentservice.repository.CommentRepository;
+import com.blognest.common.dto.ApiResponse;
+import com.blognest.common.dto.CursorPage;
+import com.blognest.common.dto.KeysetCursor;
+import com.blognest.common.security.UserIdentity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Threaded comments. A thread is read with one query and assembled into a tree in memory, so its
+ * cost does not grow with nesting. Top-level comments are paged newest first with a keyset
+ * cursor; replies are shown oldest first, nested at most {@code app.comments.max-depth} levels.
+ */
+@Slf4j
+@Service
+@Transactional
+public class CommentService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Comparator<CommentRow> OLDEST_FIRST =
+        Comparator.comparing(CommentRow::createdAt).thenComparing(CommentRow::id);
+
+    private final CommentRepository commentRepository;
+    private final int maxDepth;
+
+    public CommentService(CommentRepository commentRepository,
+                          @Value("${app.comments.max-depth:8}") int maxDepth) {
+        this.commentRepository = commentRepository;
+        this.maxDepth = maxDepth;
+    }
+
+    public ApiResponse<CommentNode> createComment(Long postId, CommentRequest request, UserIdentity author) {
+        Comment comment = Comment.builder()
+            .postId(postId)
+            .authorId(author.getId())
+            .authorUsername(author.getUsername())
+            .content(request.getContent())
+            .path("/")
+            .depth(0)
+            .build();
+        if (request.getParentId() != null) {
+            Comment parent = commentRepository.findById(request.getParentId())
+                .filter(found -> found.getPostId().equals(postId))
+                .orElseThrow(() -> new InvalidReplyException("No comment " + request.getParentId() + " on post " + postId));
+            if (parent.isDeleted()) {
+                throw new InvalidReplyException("Cannot reply to a deleted comment");
+            }
+            if (parent.getDepth() >= maxDepth) {
+                throw new InvalidReplyException("Replies can be nested at most " + maxDepth + " levels deep");
+            }
+            comment.setParentId(parent.getId());
+            comment.setRootId(parent.getRootId() != null ? parent.getRootId() : parent.getId());
+            comment.setPath(parent.descendantPath());
+            comment.setDepth(parent.getDepth() + 1);
+        }
+
+        Comment saved = commentRepository.save(comment);
+        log.info("Comment {} created on post {}", saved.getId(), postId);
+        return ApiResponse.success("Comment created successfully", CommentNode.of(toRow(saved)));
+    }
+
+    /**
+     * A page of top-level comments with all their replies: one query for the page and one for
+     * the replies of every comment on it.
+     */
+    @Transactional(readOnly = true)
+    public ApiResponse<CursorPage<CommentNode>> getComments(Long postId, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        PageRequest firstRows = PageRequest.of(0, pageSize + 1);
+        List<CommentRow> rows;
+        if (cursor == null) {
+            rows = commentRepository.findTopLevel(postId, firstRows);
+        } else {
+            KeysetCursor after = KeysetCursor.decodeTimestamped(cursor);
+            rows = commentRepository.findTopLevelAfter(postId, after.timestamp(), after.id(), firstRows);
+        }
+        CursorPage<CommentRow> page = CursorPage.of(rows, pageSize, row -> new KeysetCursor(row.createdAt(), row.id()));
+
+        List<CommentNode> topLevel = page.getItems().stream().map(CommentNode::of).toList();
+        if (!topLevel.isEmpty()) {
+            Map<Long, CommentNode> nodes = new HashMap<>();
+            topLevel.forEach(node -> nodes.put(node.id(), node));
+            attach(nodes, commentRepository.findRepliesByRootIdIn(List.copyOf(nodes.keySet())));
+        }
+        return ApiResponse.success(CursorPage.<CommentNode>builder()
+            .items(topLevel)
+            .nextCursor(page.getNextCursor())
+            .hasMore(page.isHasMore())
+            .build());
+    }
+
+    /**
+     * Every comment of a post as a tree, top-level comments newest first, in one query.
+     */
+    @Transactional(readOnly = true)
+    public ApiResponse<List<CommentNode>> getThread(Long postId) {
+        List<CommentNode> roots = attach(new HashMap<>(), commentRepository.findThread(postId));
+        return ApiResponse.success(roots.reversed());
+    }
+
+    /**
+     * A comment with every reply below it, read as one range of the path index.
+     */
+    @Transactional(readOnly = true)
+    public ApiResponse<CommentNode> getReplies(Long id) {
+        Comment comment = commentRepository.findById(id)
+            .orElseThrow(() -> new CommentNotFoundException("Comment not found with id: " + id));
+        CommentNode node = CommentNode.of(toRow(comment));
+        Map<Long, CommentNode> nodes = new HashMap<>();
+        nodes.put(node.id(), node);
+        attach(nodes, commentRepository.findSubtree(comment.getPostId(), comment.descendantPath(),
+            comment.descendantPathEnd()));
+        return ApiResponse.success(node);
+    }
+
+    /**
+     * Blanks a comment but keeps its place, so replies to it stay in the thread.
+     */
+    public ApiResponse<Void> deleteComment(Long id, UserIdentity user, boolean admin) {
+        Comment comment = commentRepository.findById(id)
+            .orElseThrow(() -> new CommentNotFoundException("Comment not found with id: " + id));
+        if (!admin && (user == null || !comment.getAuthorId().equals(user.getId()))) {
+            throw new AccessDeniedException("Only the author or an admin can delete this comment");
+        }
+        comment.setDeleted(true);
+        comment.setContent("");
+        log.info("Comment deleted: {}", id);
+        return ApiResponse.success("Comment deleted successfully", null);
+    }
+
+    /**
+     * Adds {@code rows} to {@code nodes} and links every node to its parent, keeping replies
+     * oldest first. Returns the new nodes whose parent is not among {@code nodes}, oldest first.
+     */
+    private static List<CommentNode> attach(Map<Long, CommentNode> nodes, List<CommentRow> rows) {
+        List<CommentRow> sorted = new ArrayList<>(rows);
+        sorted.sort(OLDEST_FIRST);
+        List<CommentNode> added = new ArrayList<>(sorted.size());
+        for (CommentRow row : sorted) {
+            CommentNode node = CommentNode.of(row);
+            nodes.put(node.id(), node);
+            added.add(node);
+        }
+        List<CommentNode> roots = new ArrayList<>();
+        for (CommentNode node : added) {
+            CommentNode parent = node.parentId() != null ? nodes.get(node.parentId()) : null;
+            if (parent != null) {
+                parent.replies().add(node);
+            } else {
+                roots.add(node);
+            }
+        }
+        return roots;
+    }
+
+    private static CommentRow toRow(Comment comment) {
+        return new CommentRow(comment.getId(), comment.getParentId(), comment.getDepth(), comment.getAuthorId(),
+            comment.getAuthorUsername(), comment.getContent(), comment.isDeleted(), comment.getCreatedAt());
+    }
+}
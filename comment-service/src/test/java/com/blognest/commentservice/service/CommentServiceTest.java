@@ -0,0 +1,229 @@
+package com.blognest.commentservice.service;
+
+import com.blognest.commentservice.dto.CommentNode;
+import com.blognest.commentservice.dto.CommentRequest;
+import com.blognest.commentservice.exception.InvalidReplyException;
+import com.blognest.commentservice.repository.CommentRepository;
+import com.blognest.common.dto.CursorPage;
+import com.blognest.common.dto.KeysetCursor;
+import com.blognest.common.exception.InvalidCursorException;
+import com.blognest.common.security.UserIdentity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.mapping-resources=META-INF/h2-orm.xml"
+})
+class CommentServiceTest {
+
+    private static final long POST_ID = 42L;
+    private static final int MAX_DEPTH = 8;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private CommentService commentService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        commentService = new CommentService(commentRepository, MAX_DEPTH);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getThread_LoadsTenThousandCommentsWithOneQuery() {
+        // Arrange
+        insertThread(10_000, 500);
+        statistics.clear();
+
+        // Act
+        List<CommentNode> roots = commentService.getThread(POST_ID).getData();
+
+        // Assert
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(500, roots.size());
+        assertEquals(10_000, count(roots));
+        assertTrue(roots.get(0).createdAt().isAfter(roots.get(roots.size() - 1).createdAt()));
+        assertTrue(maxDepth(roots, 0) <= MAX_DEPTH);
+    }
+
+    @Test
+    void createComment_NestsRepliesUpToTheMaximumDepth() {
+        // Arrange
+        CommentNode parent = commentService.createComment(POST_ID, request("Top-level comment", null), author(1L)).getData();
+        for (int depth = 1; depth <= MAX_DEPTH; depth++) {
+            parent = commentService.createComment(POST_ID, request("Reply " + depth, parent.id()), author(2L)).getData();
+        }
+        Long deepest = parent.id();
+
+        // Act
+        InvalidReplyException tooDeep = assertThrows(InvalidReplyException.class,
+            () -> commentService.createComment(POST_ID, request("One level too deep", deepest), author(1L)));
+
+        // Assert
+        assertTrue(tooDeep.getMessage().contains(String.valueOf(MAX_DEPTH)));
+        assertEquals(MAX_DEPTH, parent.depth());
+        assertThrows(InvalidReplyException.class,
+            () -> commentService.createComment(POST_ID + 1, request("Reply on another post", deepest), author(1L)));
+        List<CommentNode> thread = commentService.getThread(POST_ID).getData();
+        assertEquals(1, thread.size());
+        assertEquals(MAX_DEPTH, maxDepth(thread, 0));
+    }
+
+    @Test
+    void getComments_PagesTopLevelCommentsWithTheirReplies() {
+        // Arrange
+        List<Long> topLevel = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            CommentNode comment = commentService.createComment(POST_ID, request("Comment " + i, null), author(1L)).getData();
+            commentService.createComment(POST_ID, request("Reply to " + i, comment.id()), author(2L));
+            topLevel.add(0, comment.id());
+        }
+        commentRepository.flush();
+
+        // Act
+        CursorPage<CommentNode> first = commentService.getComments(POST_ID, null, 3).getData();
+        statistics.clear();
+        CursorPage<CommentNode> second = commentService.getComments(POST_ID, first.getNextCursor(), 3).getData();
+
+        // Assert
+        assertEquals(topLevel.subList(0, 3), first.getItems().stream().map(CommentNode::id).toList());
+        assertTrue(first.isHasMore());
+        assertEquals(topLevel.subList(3, 5), second.getItems().stream().map(CommentNode::id).toList());
+        assertFalse(second.isHasMore());
+        assertTrue(second.getItems().stream().allMatch(comment -> comment.replies().size() == 1));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getComments_RejectsCursorWithoutTimestamp() {
+        // Arrange
+        String cursor = KeysetCursor.ofId(1L).encode();
+
+        // Act & Assert
+        assertThrows(InvalidCursorException.class, () -> commentService.getComments(POST_ID, cursor, 3));
+    }
+
+    @Test
+    void deleteComment_KeepsItsRepliesInTheThread() {
+        // Arrange
+        CommentNode comment = commentService.createComment(POST_ID, request("To be deleted", null), author(1L)).getData();
+        CommentNode reply = commentService.createComment(POST_ID, request("A reply", comment.id()), author(2L)).getData();
+        commentService.createComment(POST_ID, request("A nested reply", reply.id()), author(1L));
+
+        // Act
+        commentService.deleteComment(comment.id(), author(1L), false);
+        commentRepository.flush();
+
+        // Assert
+        CommentNode deleted = commentService.getReplies(comment.id()).getData();
+        assertTrue(deleted.deleted());
+        assertNull(deleted.content());
+        assertEquals(1, deleted.replies().size());
+        assertEquals(1, deleted.replies().get(0).replies().size());
+        assertThrows(InvalidReplyException.class,
+            () -> commentService.createComment(POST_ID, request("Reply to deleted", comment.id()), author(2L)));
+    }
+
+    @Test
+    void getReplies_ReadsOnlyTheSubtreeOfTheComment() {
+        // Arrange
+        insertThread(1_000, 20);
+        CommentNode root = commentService.getThread(POST_ID).getData().stream()
+            .filter(node -> node.id() == 1L)
+            .findFirst()
+            .orElseThrow();
+
+        // Act
+        CommentNode subtree = commentService.getReplies(1L).getData();
+
+        // Assert
+        // Top-level comments 10 to 19 share the path prefix "/1" with comment 1
+        assertFalse(root.replies().isEmpty());
+        assertEquals(count(root.replies()), count(subtree.replies()));
+    }
+
+    /**
+     * Inserts {@code total} comments, {@code roots} of them top-level and the rest replies to
+     * random earlier comments, in one JDBC batch.
+     */
+    private void insertThread(int total, int roots) {
+        Random random = new Random(11);
+        List<Object[]> rows = new ArrayList<>(total);
+        String[] paths = new String[total];
+        int[] depths = new int[total];
+        long[] rootIds = new long[total];
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < total; i++) {
+            long id = i + 1;
+            Long parentId = null;
+            if (i < roots) {
+                paths[i] = "/";
+                rootIds[i] = id;
+            } else {
+                int parent = random.nextInt(i);
+                while (depths[parent] >= MAX_DEPTH) {
+                    parent = random.nextInt(i);
+                }
+                parentId = (long) parent + 1;
+                paths[i] = paths[parent] + parentId + "/";
+                depths[i] = depths[parent] + 1;
+                rootIds[i] = rootIds[parent];
+            }
+            rows.add(new Object[]{id, POST_ID, parentId, i < roots ? null : rootIds[i], paths[i], depths[i], 1L + i % 50,
+                "user" + i % 50, "Comment body " + i, Timestamp.valueOf(start.plusSeconds(i))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO comments (id, post_id, parent_id, root_id, path, depth, author_id, " +
+            "author_username, content, deleted, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, FALSE, ?)", rows);
+    }
+
+    private static int count(List<CommentNode> nodes) {
+        return nodes.stream().mapToInt(node -> 1 + count(node.replies())).sum();
+    }
+
+    private static int maxDepth(List<CommentNode> nodes, int depth) {
+        return nodes.stream().mapToInt(node -> node.replies().isEmpty() ? depth : maxDepth(node.replies(), depth + 1))
+            .max().orElse(depth);
+    }
+
+    private static CommentRequest request(String content, Long parentId) {
+        return CommentRequest.builder().content(content).parentId(parentId).build();
+    }
+
+    private static UserIdentity author(Long id) {
+        return new UserIdentity() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getUsername() {
+                return "user" + id;
+            }
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package com.blognest.commentservice.service;
+
+import com.blognest.commentservice.dto.CommentRow;
+import com.blognest.commentservice.repository.CommentRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Time to build the tree of a 10,000-comment thread, 500 of them top-level and the rest up to eight
+ * replies deep, from the rows of its one query (which {@code CommentServiceTest} checks) in the
+ * unordered way the database returns them. Run with
+ * {@code mvn -Pbenchmark test -pl comment-service -DskipTests -Djmh.include=CommentThreadBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommentThreadBenchmark {
+
+    private static final long POST_ID = 42L;
+    private static final int COMMENTS = 10_000;
+    private static final int ROOTS = 500;
+    private static final int MAX_DEPTH = 8;
+
+    private CommentService commentService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(11);
+        List<CommentRow> rows = new ArrayList<>(COMMENTS);
+        int[] depths = new int[COMMENTS];
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < COMMENTS; i++) {
+            Long parentId = null;
+            if (i >= ROOTS) {
+                int parent = random.nextInt(i);
+                while (depths[parent] >= MAX_DEPTH) {
+                    parent = random.nextInt(i);
+                }
+                parentId = (long) parent + 1;
+                depths[i] = depths[parent] + 1;
+            }
+            rows.add(new CommentRow(i + 1L, parentId, depths[i], 1L + i % 50, "user" + i % 50,
+                "Comment body " + i, false, start.plusSeconds(i)));
+        }
+        Collections.shuffle(rows, random);
+        CommentRepository commentRepository = mock(CommentRepository.class);
+        when(commentRepository.findThread(POST_ID)).thenReturn(rows);
+        commentService = new CommentService(commentRepository, MAX_DEPTH);
+    }
+
+    @Benchmark
+    public Object getThread() {
+        return commentService.getThread(POST_ID);
+    }
+}
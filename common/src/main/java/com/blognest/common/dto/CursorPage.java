@@ -0,0 +1,42 @@
+package com.blognest.common.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Keyset-paginated result")
+public class CursorPage<T> {
+
+    @Schema(description = "Items of this page")
+    private List<T> items;
+
+    @Schema(description = "Opaque cursor for the next page, absent on the last page")
+    private String nextCursor;
+
+    @Schema(description = "Whether more items follow this page")
+    private boolean hasMore;
+
+    /**
+     * Builds a page from a query that fetched {@code limit + 1} rows; the extra row only signals
+     * that another page exists.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, KeysetCursor> cursorOf) {
+        boolean hasMore = rows.size() > limit;
+        List<T> items = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? cursorOf.apply(items.get(items.size() - 1)).encode() : null;
+        return CursorPage.<T>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.blognest.common.dto;
+
+import com.blognest.common.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position after the last row of a keyset page: the sort timestamp (if the order has one) and the
+ * id used as tie-breaker. Encoded as an opaque URL-safe string.
+ */
+public record KeysetCursor(LocalDateTime timestamp, long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static KeysetCursor ofId(long id) {
+        return new KeysetCursor(null, id);
+    }
+
+    public String encode() {
+        String raw = (timestamp != null ? timestamp.toString() : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            String timestamp = raw.substring(0, separator);
+            long id = Long.parseLong(raw.substring(separator + 1));
+            return new KeysetCursor(timestamp.isEmpty() ? null : LocalDateTime.parse(timestamp), id);
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException("Invalid pagination cursor: " + cursor);
+        }
+    }
+
+    /**
+     * Decodes the cursor of a listing ordered by timestamp, where one without a timestamp (such as an
+     * {@link #ofId} cursor from another listing) has no position to seek from.
+     */
+    public static KeysetCursor decodeTimestamped(String cursor) {
+        KeysetCursor decoded = decode(cursor);
+        if (decoded.timestamp() == null) {
+            throw new InvalidCursorException("Pagination cursor has no timestamp: " + cursor);
+        }
+        return decoded;
+    }
+}
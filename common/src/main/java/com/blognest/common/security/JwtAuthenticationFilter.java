@@ -1,12 +1,14 @@
 package com.blognest.common.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -16,14 +18,26 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final UserDetailsService userDetailsService;
+    private final UserStatusChecker userStatusChecker;
+    private final boolean stateless;
+
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider,
+                                   ObjectProvider<UserDetailsService> userDetailsService,
+                                   ObjectProvider<UserStatusChecker> userStatusChecker,
+                                   JwtProperties jwtProperties) {
+        this.tokenProvider = tokenProvider;
+        this.userDetailsService = userDetailsService.getIfAvailable();
+        this.userStatusChecker = userStatusChecker.getIfAvailable();
+        this.stateless = jwtProperties.isStateless();
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
@@ -33,14 +47,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String jwt = getJwtFromRequest(request);
 
             if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                
-                UsernamePasswordAuthenticationToken authentication = 
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                Claims claims = tokenProvider.getClaimsFromToken(jwt);
+                UsernamePasswordAuthenticationToken authentication = stateless && claims.containsKey(JwtTokenProvider.CLAIM_ROLE)
+                    ? authenticationFromClaims(claims)
+                    : authenticationFromUserDetails(claims.getSubject());
+
+                if (authentication != null) {
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
         } catch (Exception ex) {
             log.error("Could not set user authentication in security context", ex);
@@ -49,6 +64,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private UsernamePasswordAuthenticationToken authenticationFromClaims(Claims claims) {
+        String username = claims.getSubject();
+        if (userStatusChecker != null && !userStatusChecker.isActive(username)) {
+            log.debug("Rejecting token for inactive user: {}", username);
+            return null;
+        }
+
+        String role = claims.get(JwtTokenProvider.CLAIM_ROLE, String.class);
+        JwtUserPrincipal principal = new JwtUserPrincipal(
+            claims.get(JwtTokenProvider.CLAIM_USER_ID, Long.class), username, role);
+        return new UsernamePasswordAuthenticationToken(
+            principal, null, List.of(new SimpleGrantedAuthority("ROLE_" + role)));
+    }
+
+    private UsernamePasswordAuthenticationToken authenticationFromUserDetails(String username) {
+        if (userDetailsService == null) {
+            log.debug("Token for {} carries no role claim and no UserDetailsService is available", username);
+            return null;
+        }
+
+        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -56,4 +95,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         return null;
     }
-} 
\ No newline at end of file
+}
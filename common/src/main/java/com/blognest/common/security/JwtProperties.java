@@ -0,0 +1,35 @@
+package com.blognest.common.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Token settings shared by every service. {@code secret} verifies tokens without a {@code kid}
+ * header; rotated keys live in {@code keys} and {@code activeKeyId} selects the one used to sign.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.jwt")
+public class JwtProperties {
+
+    private String secret = "your-secret-key-here-make-it-long-and-secure-for-production";
+
+    private long expiration = 86400000;
+
+    private boolean stateless = true;
+
+    private String activeKeyId;
+
+    private Map<String, String> keys = new LinkedHashMap<>();
+
+    private Cache cache = new Cache();
+
+    @Data
+    public static class Cache {
+        private long maxSize = 10000;
+    }
+}
@@ -1,62 +1,150 @@
 package com.blognest.common.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Issues and verifies JWTs for all services. Keys, the signature algorithm and the parser are
+ * built once at startup; the parser is immutable and shared across threads. Verified claims are
+ * cached by token digest until the token's {@code exp}, so each token pays for one HMAC check.
+ *
+ * <p>Tokens signed with a rotated key carry its id in the {@code kid} header; tokens without one
+ * are verified with {@code app.jwt.secret}.
+ */
 @Slf4j
 @Component
-public class JwtTokenProvider {
+public class JwtTokenProvider implements MeterBinder {
 
-    @Value("${app.jwt.secret:defaultSecretKeyForDevelopmentOnly}")
-    private String jwtSecret;
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
 
-    @Value("${app.jwt.expiration:86400000}")
-    private int jwtExpirationMs;
+    private static final String CLAIMS_CACHE_NAME = "jwt.claims";
+    private static final String ROLE_PREFIX = "ROLE_";
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    private final long jwtExpirationMs;
+    private final SecretKey defaultKey;
+    private final Map<String, SecretKey> keysById;
+    private final String activeKeyId;
+    private final SecretKey activeKey;
+    private final SignatureAlgorithm algorithm;
+    private final JwtParser parser;
+    private final Cache<String, Claims> claimsCache;
+
+    public JwtTokenProvider(JwtProperties properties) {
+        this.jwtExpirationMs = properties.getExpiration();
+        this.defaultKey = hmacKey(properties.getSecret());
+        this.keysById = new HashMap<>();
+        properties.getKeys().forEach((kid, secret) -> keysById.put(kid, hmacKey(secret)));
+
+        this.activeKeyId = StringUtils.hasText(properties.getActiveKeyId()) ? properties.getActiveKeyId() : null;
+        if (activeKeyId != null && !keysById.containsKey(activeKeyId)) {
+            throw new IllegalStateException("No JWT key configured for active key id: " + activeKeyId);
+        }
+        this.activeKey = activeKeyId != null ? keysById.get(activeKeyId) : defaultKey;
+        this.algorithm = SignatureAlgorithm.forSigningKey(activeKey);
+
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new KeyIdResolver())
+                .build();
+        long cacheMaxSize = properties.getCache().getMaxSize();
+        this.claimsCache = cacheMaxSize > 0
+                ? Caffeine.newBuilder()
+                    .maximumSize(cacheMaxSize)
+                    .expireAfter(new ClaimsExpiry())
+                    .recordStats()
+                    .build()
+                : null;
     }
 
     public String generateToken(Authentication authentication) {
-        UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
-        return generateTokenFromUsername(userPrincipal.getUsername());
+        Object principal = authentication.getPrincipal();
+        String username = principal instanceof UserDetails userDetails
+                ? userDetails.getUsername()
+                : authentication.getName();
+
+        Map<String, Object> claims = new HashMap<>();
+        if (principal instanceof UserIdentity identity && identity.getId() != null) {
+            claims.put(CLAIM_USER_ID, identity.getId());
+        }
+        authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority.startsWith(ROLE_PREFIX))
+                .findFirst()
+                .ifPresent(authority -> claims.put(CLAIM_ROLE, authority.substring(ROLE_PREFIX.length())));
+        return createToken(claims, username);
     }
 
     public String generateTokenFromUsername(String username) {
+        return createToken(Map.of(), username);
+    }
+
+    public String generateToken(String username, Long userId, String role) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_USER_ID, userId);
+        claims.put(CLAIM_ROLE, role);
+        return createToken(claims, username);
+    }
+
+    private String createToken(Map<String, Object> claims, String subject) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
 
-        return Jwts.builder()
-                .setSubject(username)
+        JwtBuilder builder = Jwts.builder()
+                .setClaims(claims)
+                .setSubject(subject)
                 .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .setExpiration(expiryDate);
+        if (activeKeyId != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, activeKeyId);
+        }
+        return builder
+                .signWith(activeKey, algorithm)
                 .compact();
     }
 
+    /**
+     * Returns the verified claims of the token, throwing a {@link JwtException} if the signature
+     * is invalid or the token has expired.
+     */
+    public Claims getClaimsFromToken(String token) {
+        if (claimsCache == null) {
+            return parseClaims(token);
+        }
+        return claimsCache.get(digest(token), key -> parseClaims(token));
+    }
+
     public String getUsernameFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return getClaimsFromToken(token).getSubject();
     }
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
+            getClaimsFromToken(token);
             return true;
         } catch (SecurityException ex) {
             log.error("Invalid JWT signature: {}", ex.getMessage());
@@ -73,16 +161,82 @@ public class JwtTokenProvider {
     }
 
     public Date getExpirationDateFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getExpiration();
+        return getClaimsFromToken(token).getExpiration();
     }
 
     public boolean isTokenExpired(String token) {
         Date expiration = getExpirationDateFromToken(token);
         return expiration.before(new Date());
     }
-} 
\ No newline at end of file
+
+    public CacheStats getClaimsCacheStats() {
+        return claimsCache != null ? claimsCache.stats() : CacheStats.empty();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (claimsCache != null) {
+            CaffeineCacheMetrics.monitor(registry, claimsCache, CLAIMS_CACHE_NAME);
+        }
+    }
+
+    private Claims parseClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    private static SecretKey hmacKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String digest(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("JWT token is empty");
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private final class KeyIdResolver extends SigningKeyResolverAdapter {
+
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            String keyId = header.getKeyId();
+            if (keyId == null) {
+                return defaultKey;
+            }
+            SecretKey key = keysById.get(keyId);
+            if (key == null) {
+                throw new UnsupportedJwtException("Unknown JWT key id: " + keyId);
+            }
+            return key;
+        }
+    }
+
+    private static final class ClaimsExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return Long.MAX_VALUE;
+            }
+            long remainingMs = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.blognest.common.security;
+
+import lombok.Value;
+
+import java.security.Principal;
+
+/**
+ * Principal rebuilt from the claims of a verified JWT, without a user store lookup.
+ */
+@Value
+public class JwtUserPrincipal implements Principal, UserIdentity {
+
+    Long id;
+    String username;
+    String role;
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
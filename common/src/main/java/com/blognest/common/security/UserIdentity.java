@@ -0,0 +1,11 @@
+package com.blognest.common.security;
+
+/**
+ * Principal that can contribute its user id to issued tokens.
+ */
+public interface UserIdentity {
+
+    Long getId();
+
+    String getUsername();
+}
@@ -0,0 +1,10 @@
+package com.blognest.common.security;
+
+/**
+ * Lets a service veto claims-based authentication for accounts that were disabled or locked
+ * after their token was issued.
+ */
+public interface UserStatusChecker {
+
+    boolean isActive(String username);
+}
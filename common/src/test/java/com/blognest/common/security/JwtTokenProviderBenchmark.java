@@ -0,0 +1,79 @@
+package com.blognest.common.security;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sign and verify throughput of the token engine, and the filter's validate-then-read path with
+ * and without the verified-claims cache. Run with {@code mvn -Pbenchmark test -pl common}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs512-signatures-0123456789";
+
+    @Param({"10000", "50000"})
+    private int distinctTokens;
+
+    private JwtTokenProvider cachedProvider;
+    private JwtTokenProvider uncachedProvider;
+    private String[] tokens;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cachedProvider = new JwtTokenProvider(properties(distinctTokens * 2L));
+        uncachedProvider = new JwtTokenProvider(properties(0));
+        tokens = new String[distinctTokens];
+        for (int i = 0; i < distinctTokens; i++) {
+            tokens[i] = cachedProvider.generateToken("user" + i, (long) i, "USER");
+        }
+    }
+
+    private static JwtProperties properties(long cacheMaxSize) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setExpiration(3_600_000);
+        properties.getCache().setMaxSize(cacheMaxSize);
+        return properties;
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        int next(int bound) {
+            int index = next;
+            next = index + 1 == bound ? 0 : index + 1;
+            return index;
+        }
+    }
+
+    @Benchmark
+    public String sign(Cursor cursor) {
+        int index = cursor.next(distinctTokens);
+        return uncachedProvider.generateToken("user" + index, (long) index, "USER");
+    }
+
+    @Benchmark
+    public Object verify(Cursor cursor) {
+        return uncachedProvider.getClaimsFromToken(tokens[cursor.next(distinctTokens)]);
+    }
+
+    @Benchmark
+    public String cached(Cursor cursor) {
+        String token = tokens[cursor.next(distinctTokens)];
+        return cachedProvider.validateToken(token) ? cachedProvider.getUsernameFromToken(token) : null;
+    }
+
+    @Benchmark
+    public String uncached(Cursor cursor) {
+        String token = tokens[cursor.next(distinctTokens)];
+        return uncachedProvider.validateToken(token) ? uncachedProvider.getUsernameFromToken(token) : null;
+    }
+}
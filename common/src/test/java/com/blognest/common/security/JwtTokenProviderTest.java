@@ -0,0 +1,147 @@
+package com.blognest.common.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hs512-signatures-0123456789";
+
+    private JwtTokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider(properties(100));
+    }
+
+    private static JwtProperties properties(long cacheMaxSize) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setExpiration(60_000);
+        properties.getCache().setMaxSize(cacheMaxSize);
+        return properties;
+    }
+
+    @Test
+    void validateToken_VerifiesOncePerToken() {
+        // Arrange
+        String token = tokenProvider.generateTokenFromUsername("testuser");
+
+        // Act
+        boolean valid = tokenProvider.validateToken(token);
+        String username = tokenProvider.getUsernameFromToken(token);
+        tokenProvider.getExpirationDateFromToken(token);
+
+        // Assert
+        assertTrue(valid);
+        assertEquals("testuser", username);
+        assertEquals(1, tokenProvider.getClaimsCacheStats().missCount());
+        assertEquals(2, tokenProvider.getClaimsCacheStats().hitCount());
+    }
+
+    @Test
+    void validateToken_TamperedSignature() {
+        // Arrange
+        String token = tokenProvider.generateTokenFromUsername("testuser");
+        tokenProvider.validateToken(token);
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        // Act & Assert
+        assertFalse(tokenProvider.validateToken(tampered));
+    }
+
+    @Test
+    void validateToken_Expired() {
+        // Arrange
+        String token = Jwts.builder()
+                .setSubject("testuser")
+                .setExpiration(new Date(System.currentTimeMillis() - 1_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS512)
+                .compact();
+
+        // Act & Assert
+        assertFalse(tokenProvider.validateToken(token));
+        assertThrows(ExpiredJwtException.class, () -> tokenProvider.getUsernameFromToken(token));
+        assertEquals(0, tokenProvider.getClaimsCacheStats().hitCount());
+    }
+
+    @Test
+    void claimsCache_IsBounded() {
+        // Act
+        for (int i = 0; i < 500; i++) {
+            tokenProvider.validateToken(tokenProvider.generateTokenFromUsername("user" + i));
+        }
+
+        // Assert
+        assertTrue(tokenProvider.getClaimsCacheStats().evictionCount() > 0);
+    }
+
+    @Test
+    void claimsCache_Disabled() {
+        // Arrange
+        JwtTokenProvider uncached = new JwtTokenProvider(properties(0));
+        String token = uncached.generateTokenFromUsername("testuser");
+
+        // Act & Assert
+        assertTrue(uncached.validateToken(token));
+        assertEquals("testuser", uncached.getUsernameFromToken(token));
+        assertEquals(0, uncached.getClaimsCacheStats().requestCount());
+    }
+
+    @Test
+    void generateToken_EmbedsIdentityClaims() {
+        // Arrange
+        JwtUserPrincipal principal = new JwtUserPrincipal(42L, "testuser", "ADMIN");
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                principal, null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+
+        // Act
+        Claims claims = tokenProvider.getClaimsFromToken(tokenProvider.generateToken(authentication));
+
+        // Assert
+        assertEquals("testuser", claims.getSubject());
+        assertEquals(42L, claims.get(JwtTokenProvider.CLAIM_USER_ID, Long.class));
+        assertEquals("ADMIN", claims.get(JwtTokenProvider.CLAIM_ROLE, String.class));
+    }
+
+    @Test
+    void keyRotation_VerifiesTokensFromPreviousAndCurrentKeys() {
+        // Arrange
+        JwtProperties before = properties(100);
+        before.getKeys().put("k1", SECRET + "-k1");
+        before.setActiveKeyId("k1");
+        JwtProperties after = properties(100);
+        after.getKeys().put("k1", SECRET + "-k1");
+        after.getKeys().put("k2", SECRET + "-k2");
+        after.setActiveKeyId("k2");
+        JwtTokenProvider oldIssuer = new JwtTokenProvider(before);
+        JwtTokenProvider newIssuer = new JwtTokenProvider(after);
+
+        String legacyToken = tokenProvider.generateTokenFromUsername("legacy");
+        String oldToken = oldIssuer.generateTokenFromUsername("old");
+        String newToken = newIssuer.generateTokenFromUsername("new");
+
+        // Act & Assert
+        assertEquals("k2", Jwts.parserBuilder().build()
+                .parseClaimsJwt(newToken.substring(0, newToken.lastIndexOf('.') + 1))
+                .getHeader().get("kid"));
+        assertTrue(newIssuer.validateToken(legacyToken));
+        assertTrue(newIssuer.validateToken(oldToken));
+        assertTrue(newIssuer.validateToken(newToken));
+        assertFalse(oldIssuer.validateToken(newToken));
+    }
+}
@@ -1,23 +1,63 @@
 package com.blognest.userservice.config;
 
+import com.blognest.common.security.JwtAuthenticationFilter;
+import com.blognest.userservice.security.BCryptWorkFactorCalibrator;
+import com.blognest.userservice.security.BoundedPasswordEncoder;
+import com.blognest.userservice.security.WorkFactorPasswordEncoder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import java.time.Duration;
 
 @Configuration
 @EnableWebSecurity
+@EnableMethodSecurity
 public class SecurityConfig {
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptWorkFactorCalibrator.Calibration passwordWorkFactor(MeterRegistry meterRegistry,
+                                                                     @Value("${app.security.password-hashing.strength:0}") int strength,
+                                                                     @Value("${app.security.password-hashing.target-verification-time:50ms}") Duration target,
+                                                                     @Value("${app.security.password-hashing.min-strength:10}") int minStrength,
+                                                                     @Value("${app.security.password-hashing.max-strength:16}") int maxStrength) {
+        BCryptWorkFactorCalibrator.Calibration calibration = strength > 0
+            ? new BCryptWorkFactorCalibrator.Calibration(strength, Duration.ZERO, target)
+            : new BCryptWorkFactorCalibrator(minStrength, maxStrength).calibrate(target);
+
+        Gauge.builder("password.bcrypt.strength", calibration, BCryptWorkFactorCalibrator.Calibration::strength)
+            .register(meterRegistry);
+        Gauge.builder("password.bcrypt.calibrated.verification", calibration, c -> c.verificationTime().toNanos() / 1e6)
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+        Gauge.builder("password.bcrypt.target.verification", calibration, c -> c.target().toNanos() / 1e6)
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+        return calibration;
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           BCryptWorkFactorCalibrator.Calibration passwordWorkFactor,
+                                           @Value("${app.security.password-hashing.threads:0}") int threads,
+                                           @Value("${app.security.password-hashing.queue-capacity:64}") int queueCapacity,
+                                           @Value("${app.security.password-hashing.timeout:5s}") Duration timeout) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new WorkFactorPasswordEncoder(passwordWorkFactor.strength()),
+            poolSize, queueCapacity, timeout, meterRegistry);
     }
 
     @Bean
@@ -26,13 +66,23 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration(JwtAuthenticationFilter filter) {
+        // Only run the filter inside the security chain, not a second time as a plain servlet filter
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthenticationFilter jwtAuthenticationFilter) throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable)
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers("/api/auth/**", "/actuator/**", "/health").permitAll()
+                .requestMatchers("/api/auth/**", "/api/v1/users/auth/**", "/actuator/**", "/health").permitAll()
                 .anyRequest().authenticated()
-            );
+            )
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
         
         return http.build();
     }
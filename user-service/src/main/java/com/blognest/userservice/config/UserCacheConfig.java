@@ -0,0 +1,32 @@
+package com.blognest.userservice.config;
+
+import com.blognest.userservice.service.UserViewCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+@Slf4j
+@Configuration
+public class UserCacheConfig {
+
+    @Bean
+    public RedisMessageListenerContainer userCacheInvalidationListener(RedisConnectionFactory connectionFactory,
+                                                                       UserViewCache userViewCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            try {
+                userViewCache.evictLocal(Long.valueOf(body));
+            } catch (NumberFormatException ex) {
+                log.warn("Ignoring malformed user cache invalidation: {}", body);
+            }
+        }, new ChannelTopic(userViewCache.getInvalidationChannel()));
+        return container;
+    }
+}
@@ -0,0 +1,46 @@
+package com.blognest.userservice.config;
+
+import com.blognest.userservice.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the trigram index backing user search. JPA cannot express an expression index with a
+ * custom operator class, so it is created here once the schema exists. Postgres only.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserSearchIndexInitializer implements ApplicationRunner {
+
+    static final String CREATE_EXTENSION_SQL = "CREATE EXTENSION IF NOT EXISTS pg_trgm";
+
+    static final String CREATE_INDEX_SQL =
+        "CREATE INDEX IF NOT EXISTS idx_users_search_trgm ON users USING gin ((" +
+        UserRepository.SEARCH_DOCUMENT + ") gin_trgm_ops)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+            connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equals(database)) {
+            log.info("Skipping user search index on {}", database);
+            return;
+        }
+        try {
+            jdbcTemplate.execute(CREATE_EXTENSION_SQL);
+            jdbcTemplate.execute(CREATE_INDEX_SQL);
+            log.info("User search trigram index is ready");
+        } catch (DataAccessException ex) {
+            log.warn("Could not create user search trigram index: {}", ex.getMessage());
+        }
+    }
+}
@@ -1,21 +1,28 @@
 package com.blognest.userservice.controller;
 
 import com.blognest.common.dto.ApiResponse;
+import com.blognest.common.dto.CursorPage;
 import com.blognest.userservice.dto.AuthRequest;
 import com.blognest.userservice.dto.AuthResponse;
 import com.blognest.userservice.dto.UserRegistrationRequest;
 import com.blognest.userservice.dto.UserUpdateRequest;
+import com.blognest.userservice.dto.UserView;
 import com.blognest.userservice.entity.User;
+import com.blognest.userservice.exception.PasswordHashingRejectedException;
+import com.blognest.userservice.service.UserExportService;
 import com.blognest.userservice.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -28,6 +35,7 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final UserExportService userExportService;
 
     @PostMapping("/auth/login")
     @Operation(summary = "Authenticate user", description = "Login with username and password")
@@ -39,46 +47,66 @@ public class UserController {
 
     @PostMapping("/auth/register")
     @Operation(summary = "Register new user", description = "Create a new user account")
-    public ResponseEntity<ApiResponse<User>> registerUser(@Valid @RequestBody UserRegistrationRequest request) {
+    public ResponseEntity<ApiResponse<UserView>> registerUser(@Valid @RequestBody UserRegistrationRequest request) {
         log.info("User registration attempt for username: {}", request.getUsername());
-        ApiResponse<User> response = userService.registerUser(request);
+        ApiResponse<UserView> response = userService.registerUser(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get user by ID", description = "Retrieve user information by ID")
     @PreAuthorize("hasRole('ADMIN') or #id == authentication.principal.id")
-    public ResponseEntity<ApiResponse<User>> getUserById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<UserView>> getUserById(@PathVariable Long id) {
         log.info("Fetching user with ID: {}", id);
-        ApiResponse<User> response = userService.getUserById(id);
+        ApiResponse<UserView> response = userService.getUserById(id);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/username/{username}")
     @Operation(summary = "Get user by username", description = "Retrieve user information by username")
     @PreAuthorize("hasRole('ADMIN') or #username == authentication.principal.username")
-    public ResponseEntity<ApiResponse<User>> getUserByUsername(@PathVariable String username) {
+    public ResponseEntity<ApiResponse<UserView>> getUserByUsername(@PathVariable String username) {
         log.info("Fetching user with username: {}", username);
-        ApiResponse<User> response = userService.getUserByUsername(username);
+        ApiResponse<UserView> response = userService.getUserByUsername(username);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping
     @Operation(summary = "Get all users", description = "Retrieve all users (Admin only)")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<List<User>>> getAllUsers() {
+    public ResponseEntity<ApiResponse<List<UserView>>> getAllUsers() {
         log.info("Fetching all users");
-        ApiResponse<List<User>> response = userService.getAllUsers();
+        ApiResponse<List<UserView>> response = userService.getAllUsers();
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/page")
+    @Operation(summary = "Get users page", description = "Keyset-paginated users ordered by ID (Admin only)")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<CursorPage<UserView>>> getUsersPage(@RequestParam(required = false) String cursor,
+                                                                     @RequestParam(defaultValue = "20") int limit) {
+        log.info("Fetching users page after cursor: {}", cursor);
+        ApiResponse<CursorPage<UserView>> response = userService.getUsersPage(cursor, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export users", description = "Stream all users as newline-delimited JSON (Admin only)")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        log.info("Exporting all users");
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(userExportService::exportNdjson);
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update user", description = "Update user information")
     @PreAuthorize("hasRole('ADMIN') or #id == authentication.principal.id")
-    public ResponseEntity<ApiResponse<User>> updateUser(@PathVariable Long id, 
+    public ResponseEntity<ApiResponse<UserView>> updateUser(@PathVariable Long id, 
                                                       @Valid @RequestBody UserUpdateRequest request) {
         log.info("Updating user with ID: {}", id);
-        ApiResponse<User> response = userService.updateUser(id, request);
+        ApiResponse<UserView> response = userService.updateUser(id, request);
         return ResponseEntity.ok(response);
     }
 
@@ -92,20 +120,33 @@ public class UserController {
     }
 
     @GetMapping("/search")
-    @Operation(summary = "Search users", description = "Search users by keyword")
+    @Operation(summary = "Search users", description = "Search users by keyword, most relevant first")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<List<User>>> searchUsers(@RequestParam String keyword) {
+    public ResponseEntity<ApiResponse<List<UserView>>> searchUsers(@RequestParam String keyword,
+                                                               @RequestParam(defaultValue = "0") int page,
+                                                               @RequestParam(defaultValue = "20") int size) {
         log.info("Searching users with keyword: {}", keyword);
-        ApiResponse<List<User>> response = userService.searchUsers(keyword);
+        ApiResponse<List<UserView>> response = userService.searchUsers(keyword, page, size);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/role/{role}")
     @Operation(summary = "Get users by role", description = "Retrieve users by role")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<List<User>>> getUsersByRole(@PathVariable User.Role role) {
+    public ResponseEntity<ApiResponse<List<UserView>>> getUsersByRole(@PathVariable User.Role role) {
         log.info("Fetching users with role: {}", role);
-        ApiResponse<List<User>> response = userService.getUsersByRole(role);
+        ApiResponse<List<UserView>> response = userService.getUsersByRole(role);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/role/{role}/page")
+    @Operation(summary = "Get users by role page", description = "Keyset-paginated users with the given role")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<CursorPage<UserView>>> getUsersByRolePage(@PathVariable User.Role role,
+                                                                           @RequestParam(required = false) String cursor,
+                                                                           @RequestParam(defaultValue = "20") int limit) {
+        log.info("Fetching users page with role: {}", role);
+        ApiResponse<CursorPage<UserView>> response = userService.getUsersByRolePage(role, cursor, limit);
         return ResponseEntity.ok(response);
     }
 
@@ -121,18 +162,39 @@ public class UserController {
     @GetMapping("/active")
     @Operation(summary = "Get active users", description = "Retrieve all active users")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<List<User>>> getActiveUsers() {
+    public ResponseEntity<ApiResponse<List<UserView>>> getActiveUsers() {
         log.info("Fetching active users");
-        ApiResponse<List<User>> response = userService.getActiveUsers();
+        ApiResponse<List<UserView>> response = userService.getActiveUsers();
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/active/page")
+    @Operation(summary = "Get active users page", description = "Keyset-paginated active users")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<CursorPage<UserView>>> getActiveUsersPage(@RequestParam(required = false) String cursor,
+                                                                           @RequestParam(defaultValue = "20") int limit) {
+        log.info("Fetching active users page after cursor: {}", cursor);
+        ApiResponse<CursorPage<UserView>> response = userService.getActiveUsersPage(cursor, limit);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/created-after")
     @Operation(summary = "Get users created after date", description = "Retrieve users created after specified date")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<List<User>>> getUsersCreatedAfter(@RequestParam LocalDateTime startDate) {
+    public ResponseEntity<ApiResponse<List<UserView>>> getUsersCreatedAfter(@RequestParam LocalDateTime startDate) {
         log.info("Fetching users created after: {}", startDate);
-        ApiResponse<List<User>> response = userService.getUsersCreatedAfter(startDate);
+        ApiResponse<List<UserView>> response = userService.getUsersCreatedAfter(startDate);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/created-after/page")
+    @Operation(summary = "Get users created after date page", description = "Keyset-paginated users created after the date, oldest first")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<CursorPage<UserView>>> getUsersCreatedAfterPage(@RequestParam LocalDateTime startDate,
+                                                                                 @RequestParam(required = false) String cursor,
+                                                                                 @RequestParam(defaultValue = "20") int limit) {
+        log.info("Fetching users page created after: {}", startDate);
+        ApiResponse<CursorPage<UserView>> response = userService.getUsersCreatedAfterPage(startDate, cursor, limit);
         return ResponseEntity.ok(response);
     }
 
@@ -148,10 +210,18 @@ public class UserController {
 
     @GetMapping("/auth/me")
     @Operation(summary = "Get current user", description = "Get current authenticated user information")
-    public ResponseEntity<ApiResponse<User>> getCurrentUser(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<ApiResponse<UserView>> getCurrentUser(@RequestHeader("Authorization") String token) {
         log.info("Fetching current user information");
         String username = userService.getUsernameFromToken(token.replace("Bearer ", ""));
-        ApiResponse<User> response = userService.getUserByUsername(username);
+        ApiResponse<UserView> response = userService.getUserByUsername(username);
         return ResponseEntity.ok(response);
     }
-} 
\ No newline at end of file
+
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<ApiResponse<Void>> handlePasswordHashingRejected(PasswordHashingRejectedException ex) {
+        log.warn("Rejecting request, password hashing pool is saturated");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(ApiResponse.error(ex.getMessage()));
+    }
+}
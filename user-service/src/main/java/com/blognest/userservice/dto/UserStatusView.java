@@ -0,0 +1,16 @@
+package com.blognest.userservice.dto;
+
+public interface UserStatusView {
+
+    boolean isEnabled();
+
+    boolean isAccountNonExpired();
+
+    boolean isAccountNonLocked();
+
+    boolean isCredentialsNonExpired();
+
+    default boolean isActive() {
+        return isEnabled() && isAccountNonExpired() && isAccountNonLocked() && isCredentialsNonExpired();
+    }
+}
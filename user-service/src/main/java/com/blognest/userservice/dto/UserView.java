@@ -0,0 +1,27 @@
+package com.blognest.userservice.dto;
+
+import com.blognest.userservice.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * Public read model of a user. Selected directly by the repository, so reads never load the
+ * password hash or the account flags and serialisation skips {@link User#getAuthorities()}.
+ */
+public record UserView(
+    Long id,
+    String username,
+    String email,
+    String firstName,
+    String lastName,
+    User.Role role,
+    boolean enabled,
+    LocalDateTime createdAt,
+    LocalDateTime lastLogin
+) {
+
+    public static UserView from(User user) {
+        return new UserView(user.getId(), user.getUsername(), user.getEmail(), user.getFirstName(),
+            user.getLastName(), user.getRole(), user.isEnabled(), user.getCreatedAt(), user.getLastLogin());
+    }
+}
@@ -1,5 +1,6 @@
 package com.blognest.userservice.entity;
 
+import com.blognest.common.security.UserIdentity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -17,12 +18,16 @@ import java.util.Collection;
 import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+    @Index(name = "idx_users_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_users_role_id", columnList = "role, id"),
+    @Index(name = "idx_users_enabled_id", columnList = "is_enabled, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class User implements UserDetails {
+public class User implements UserDetails, UserIdentity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,37 +1,84 @@
 package com.blognest.userservice.repository;
 
+import com.blognest.userservice.dto.UserStatusView;
+import com.blognest.userservice.dto.UserView;
 import com.blognest.userservice.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserSearchRepository {
+
+    /**
+     * Lower-cased text searched by {@link #searchByKeyword}; a trigram GIN index on exactly this
+     * expression is created at startup by {@code UserSearchIndexInitializer}.
+     */
+    String SEARCH_DOCUMENT =
+        "lower(username || ' ' || email || ' ' || coalesce(first_name, '') || ' ' || coalesce(last_name, ''))";
+
+    String VIEW_SELECT =
+        "SELECT new com.blognest.userservice.dto.UserView(u.id, u.username, u.email, u.firstName, u.lastName, " +
+        "u.role, u.enabled, u.createdAt, u.lastLogin) FROM User u";
 
     Optional<User> findByUsername(String username);
+
+    Optional<UserStatusView> findStatusByUsername(String username);
     
     Optional<User> findByEmail(String email);
     
     boolean existsByUsername(String username);
     
     boolean existsByEmail(String email);
-    
-    List<User> findByRole(User.Role role);
-    
-    List<User> findByEnabled(boolean enabled);
-    
-    @Query("SELECT u FROM User u WHERE u.username LIKE %:keyword% OR u.email LIKE %:keyword% OR u.firstName LIKE %:keyword% OR u.lastName LIKE %:keyword%")
-    List<User> findByKeyword(@Param("keyword") String keyword);
+
+    @Query(VIEW_SELECT + " WHERE u.id = :id")
+    Optional<UserView> findViewById(@Param("id") Long id);
+
+    @Query(VIEW_SELECT + " WHERE u.username = :username")
+    Optional<UserView> findViewByUsername(@Param("username") String username);
+
+    @Query(VIEW_SELECT)
+    List<UserView> findAllViews();
+
+    @Query(VIEW_SELECT + " WHERE u.role = :role")
+    List<UserView> findViewsByRole(@Param("role") User.Role role);
+
+    @Query(VIEW_SELECT + " WHERE u.enabled = :enabled")
+    List<UserView> findViewsByEnabled(@Param("enabled") boolean enabled);
     
     @Query("SELECT COUNT(u) FROM User u WHERE u.role = :role")
     long countByRole(@Param("role") User.Role role);
     
-    @Query("SELECT u FROM User u WHERE u.createdAt >= :startDate")
-    List<User> findUsersCreatedAfter(@Param("startDate") java.time.LocalDateTime startDate);
+    @Query(VIEW_SELECT + " WHERE u.createdAt >= :startDate")
+    List<UserView> findViewsCreatedAfter(@Param("startDate") LocalDateTime startDate);
+
+    @Query(VIEW_SELECT + " WHERE u.id > :afterId ORDER BY u.id")
+    List<UserView> findViewPage(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(VIEW_SELECT + " WHERE u.enabled = true AND u.id > :afterId ORDER BY u.id")
+    List<UserView> findActiveViewPage(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(VIEW_SELECT + " WHERE u.role = :role AND u.id > :afterId ORDER BY u.id")
+    List<UserView> findViewPageByRole(@Param("role") User.Role role, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(VIEW_SELECT + " WHERE u.createdAt >= :startDate " +
+           "AND (u.createdAt > :afterCreatedAt OR (u.createdAt = :afterCreatedAt AND u.id > :afterId)) " +
+           "ORDER BY u.createdAt, u.id")
+    List<UserView> findViewPageCreatedAfter(@Param("startDate") LocalDateTime startDate,
+                                            @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                            @Param("afterId") Long afterId,
+                                            Pageable pageable);
     
     Optional<User> findByUsernameOrEmail(String username, String email);
-} 
\ No newline at end of file
+
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
+}
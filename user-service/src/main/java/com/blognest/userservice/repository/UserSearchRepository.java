@@ -0,0 +1,14 @@
+package com.blognest.userservice.repository;
+
+import com.blognest.userservice.dto.UserView;
+
+import java.util.List;
+
+public interface UserSearchRepository {
+
+    /**
+     * Users whose search document matches the escaped LIKE {@code pattern}, most similar to
+     * {@code keyword} first.
+     */
+    List<UserView> searchByKeyword(String keyword, String pattern, int limit, int offset);
+}
@@ -0,0 +1,50 @@
+package com.blognest.userservice.repository;
+
+import com.blognest.userservice.dto.UserView;
+import com.blognest.userservice.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Runs the trigram search as plain SQL so the predicate matches the indexed expression exactly
+ * and rows map straight to {@link UserView}.
+ */
+@RequiredArgsConstructor
+public class UserSearchRepositoryImpl implements UserSearchRepository {
+
+    private static final String SEARCH_SQL =
+        "SELECT id, username, email, first_name, last_name, role, is_enabled, created_at, last_login " +
+        "FROM users WHERE " + UserRepository.SEARCH_DOCUMENT + " LIKE ? ESCAPE '\\' " +
+        "ORDER BY word_similarity(?, " + UserRepository.SEARCH_DOCUMENT + ") DESC, id " +
+        "LIMIT ? OFFSET ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<UserView> searchByKeyword(String keyword, String pattern, int limit, int offset) {
+        return jdbcTemplate.query(SEARCH_SQL, UserSearchRepositoryImpl::mapRow, pattern, keyword, limit, offset);
+    }
+
+    private static UserView mapRow(ResultSet resultSet, int rowNum) throws SQLException {
+        return new UserView(
+            resultSet.getLong("id"),
+            resultSet.getString("username"),
+            resultSet.getString("email"),
+            resultSet.getString("first_name"),
+            resultSet.getString("last_name"),
+            User.Role.valueOf(resultSet.getString("role")),
+            resultSet.getBoolean("is_enabled"),
+            toLocalDateTime(resultSet.getTimestamp("created_at")),
+            toLocalDateTime(resultSet.getTimestamp("last_login")));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
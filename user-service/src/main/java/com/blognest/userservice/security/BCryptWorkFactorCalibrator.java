@@ -0,0 +1,59 @@
+package com.blognest.userservice.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Picks the highest BCrypt cost whose verification time on this machine stays within a latency
+ * budget. Each cost step doubles the work, so costs are measured upwards from the minimum until
+ * the budget is exceeded.
+ */
+@Slf4j
+public class BCryptWorkFactorCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+    private static final int SAMPLES = 3;
+
+    private final int minStrength;
+    private final int maxStrength;
+
+    public BCryptWorkFactorCalibrator(int minStrength, int maxStrength) {
+        this.minStrength = minStrength;
+        this.maxStrength = maxStrength;
+    }
+
+    public Calibration calibrate(Duration target) {
+        int strength = minStrength;
+        Duration measured = measure(strength);
+        while (strength < maxStrength) {
+            Duration next = measure(strength + 1);
+            if (next.compareTo(target) > 0) {
+                break;
+            }
+            strength++;
+            measured = next;
+        }
+        log.info("Calibrated BCrypt strength {} ({} ms per verification, target {} ms)",
+            strength, measured.toMillis(), target.toMillis());
+        return new Calibration(strength, measured, target);
+    }
+
+    private static Duration measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        String hash = encoder.encode(SAMPLE_PASSWORD);
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.matches(SAMPLE_PASSWORD, hash);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return Duration.ofNanos(samples[SAMPLES / 2]);
+    }
+
+    public record Calibration(int strength, Duration verificationTime, Duration target) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.blognest.userservice.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+
+/**
+ * Delegating encoder that writes {@code {bcrypt}}-prefixed hashes at the configured cost and
+ * still verifies the unprefixed hashes stored before. Any hash that is unprefixed or uses a
+ * lower cost reports {@link #upgradeEncoding(String)} so it is rehashed on the next successful
+ * login. Hashes at a higher cost are kept: replicas calibrated on different hardware would
+ * otherwise rehash the same users up and down on every login.
+ */
+public class WorkFactorPasswordEncoder implements PasswordEncoder {
+
+    private static final String BCRYPT_ID = "bcrypt";
+    private static final String BCRYPT_PREFIX = "{" + BCRYPT_ID + "}";
+
+    private final int strength;
+    private final DelegatingPasswordEncoder delegate;
+
+    public WorkFactorPasswordEncoder(int strength) {
+        this.strength = strength;
+        this.delegate = new DelegatingPasswordEncoder(BCRYPT_ID,
+            Map.of(BCRYPT_ID, new BCryptPasswordEncoder(strength)));
+        this.delegate.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || !encodedPassword.startsWith(BCRYPT_PREFIX)) {
+            return true;
+        }
+        return costOf(encodedPassword.substring(BCRYPT_PREFIX.length())) < strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    private static int costOf(String bcryptHash) {
+        // $2a$10$<salt+hash>
+        int costStart = bcryptHash.indexOf('$', 1) + 1;
+        try {
+            return Integer.parseInt(bcryptHash.substring(costStart, costStart + 2));
+        } catch (RuntimeException ex) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.blognest.userservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind buffer for last-login timestamps. Logins only record the timestamp in memory;
+ * repeated logins by the same user coalesce to the latest value, and pending updates are written
+ * periodically as one JDBC batch and once more on shutdown. Written users are invalidated in the
+ * {@link UserViewCache}, whose views carry the last login.
+ */
+@Slf4j
+@Component
+public class LastLoginBuffer {
+
+    private static final String UPDATE_SQL =
+        "UPDATE users SET last_login = ? WHERE id = ? AND (last_login IS NULL OR last_login < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserViewCache userViewCache;
+    private final int batchSize;
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final Counter flushedCounter;
+    private final Counter failedCounter;
+
+    public LastLoginBuffer(JdbcTemplate jdbcTemplate,
+                           UserViewCache userViewCache,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.last-login.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userViewCache = userViewCache;
+        this.batchSize = batchSize;
+        this.flushedCounter = meterRegistry.counter("user.last_login.flushed");
+        this.failedCounter = meterRegistry.counter("user.last_login.flush.failures");
+        meterRegistry.gaugeMapSize("user.last_login.pending", List.of(), pending);
+    }
+
+    public void record(Long userId, LocalDateTime loginAt) {
+        pending.merge(userId, loginAt, (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.last-login.flush-interval:5000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, LocalDateTime>> batch = new ArrayList<>(pending.size());
+        for (Long userId : pending.keySet()) {
+            LocalDateTime loginAt = pending.remove(userId);
+            if (loginAt != null) {
+                batch.add(Map.entry(userId, loginAt));
+            }
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch, batchSize, (ps, entry) -> {
+                Timestamp loginAt = Timestamp.valueOf(entry.getValue());
+                ps.setTimestamp(1, loginAt);
+                ps.setLong(2, entry.getKey());
+                ps.setTimestamp(3, loginAt);
+            });
+            flushedCounter.increment(batch.size());
+            log.debug("Flushed {} last-login updates", batch.size());
+        } catch (DataAccessException ex) {
+            failedCounter.increment();
+            log.error("Failed to flush {} last-login updates, will retry", batch.size(), ex);
+            batch.forEach(entry -> record(entry.getKey(), entry.getValue()));
+            return;
+        }
+        batch.forEach(entry -> userViewCache.invalidate(entry.getKey()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,86 @@
+package com.blognest.userservice.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Streams the users table as NDJSON. Rows are read through a server-side cursor (a fetch size
+ * inside a read-only transaction) and written to the response one by one, so memory stays flat
+ * regardless of table size.
+ */
+@Slf4j
+@Service
+public class UserExportService {
+
+    private static final String EXPORT_SQL =
+        "SELECT id, username, email, first_name, last_name, role, is_enabled, created_at, last_login " +
+        "FROM users ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    public UserExportService(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper,
+                             @Value("${app.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    public void exportNdjson(OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.setRootValueSeparator(null);
+            long[] rows = {0};
+            transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.query(EXPORT_SQL, resultSet -> {
+                    writeRow(generator, resultSet);
+                    rows[0]++;
+                }));
+            generator.flush();
+            log.info("Exported {} users", rows[0]);
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private static void writeRow(JsonGenerator generator, ResultSet resultSet) throws SQLException {
+        try {
+            generator.writeStartObject();
+            generator.writeNumberField("id", resultSet.getLong("id"));
+            generator.writeStringField("username", resultSet.getString("username"));
+            generator.writeStringField("email", resultSet.getString("email"));
+            generator.writeStringField("firstName", resultSet.getString("first_name"));
+            generator.writeStringField("lastName", resultSet.getString("last_name"));
+            generator.writeStringField("role", resultSet.getString("role"));
+            generator.writeBooleanField("enabled", resultSet.getBoolean("is_enabled"));
+            generator.writeStringField("createdAt", toIsoString(resultSet.getTimestamp("created_at")));
+            generator.writeStringField("lastLogin", toIsoString(resultSet.getTimestamp("last_login")));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String toIsoString(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime().toString() : null;
+    }
+}
@@ -1,17 +1,23 @@
 package com.blognest.userservice.service;
 
 import com.blognest.common.dto.ApiResponse;
-import com.blognest.userservice.config.JwtConfig;
+import com.blognest.common.dto.CursorPage;
+import com.blognest.common.dto.KeysetCursor;
+import com.blognest.common.security.JwtTokenProvider;
 import com.blognest.userservice.dto.AuthRequest;
 import com.blognest.userservice.dto.AuthResponse;
 import com.blognest.userservice.dto.UserRegistrationRequest;
 import com.blognest.userservice.dto.UserUpdateRequest;
+import com.blognest.userservice.dto.UserView;
 import com.blognest.userservice.entity.User;
+import com.blognest.userservice.exception.PasswordHashingRejectedException;
 import com.blognest.userservice.exception.UserAlreadyExistsException;
 import com.blognest.userservice.exception.UserNotFoundException;
 import com.blognest.userservice.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -22,6 +28,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 @Slf4j
@@ -30,11 +37,17 @@ import java.util.Optional;
 @Transactional
 public class UserService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final JwtConfig jwtConfig;
+    private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
+    private final UserStatusCache userStatusCache;
+    private final LastLoginBuffer lastLoginBuffer;
+    private final UserViewCache userViewCache;
 
+    @Transactional(readOnly = true)
     public ApiResponse<AuthResponse> authenticate(AuthRequest authRequest) {
         try {
             Authentication authentication = authenticationManager.authenticate(
@@ -42,14 +55,14 @@ public class UserService {
             );
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
-            String jwt = jwtConfig.generateToken(authRequest.getUsername());
+            String jwt = jwtTokenProvider.generateToken(authentication);
 
-            User user = userRepository.findByUsername(authRequest.getUsername())
-                .orElseThrow(() -> new UserNotFoundException("User not found"));
+            User user = authentication.getPrincipal() instanceof User principal
+                ? principal
+                : userRepository.findByUsername(authRequest.getUsername())
+                    .orElseThrow(() -> new UserNotFoundException("User not found"));
 
-            // Update last login
-            user.setLastLogin(LocalDateTime.now());
-            userRepository.save(user);
+            lastLoginBuffer.record(user.getId(), LocalDateTime.now());
 
             AuthResponse authResponse = AuthResponse.builder()
                 .token(jwt)
@@ -59,13 +72,15 @@ public class UserService {
                 .build();
 
             return ApiResponse.success("Authentication successful", authResponse);
+        } catch (PasswordHashingRejectedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Authentication failed for user: {}", authRequest.getUsername(), e);
             return ApiResponse.error("Invalid username or password");
         }
     }
 
-    public ApiResponse<User> registerUser(UserRegistrationRequest request) {
+    public ApiResponse<UserView> registerUser(UserRegistrationRequest request) {
         if (userRepository.existsByUsername(request.getUsername())) {
             throw new UserAlreadyExistsException("Username already exists");
         }
@@ -87,27 +102,38 @@ public class UserService {
         User savedUser = userRepository.save(user);
         log.info("User registered successfully: {}", savedUser.getUsername());
         
-        return ApiResponse.success("User registered successfully", savedUser);
+        return ApiResponse.success("User registered successfully", UserView.from(savedUser));
     }
 
-    public ApiResponse<User> getUserById(Long id) {
-        User user = userRepository.findById(id)
-            .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
+    @Transactional(readOnly = true)
+    public ApiResponse<UserView> getUserById(Long id) {
+        UserView user = userViewCache.getById(id).orElseGet(() -> {
+            UserView loaded = userRepository.findViewById(id)
+                .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
+            userViewCache.put(loaded);
+            return loaded;
+        });
         return ApiResponse.success(user);
     }
 
-    public ApiResponse<User> getUserByUsername(String username) {
-        User user = userRepository.findByUsername(username)
-            .orElseThrow(() -> new UserNotFoundException("User not found with username: " + username));
+    @Transactional(readOnly = true)
+    public ApiResponse<UserView> getUserByUsername(String username) {
+        UserView user = userViewCache.getByUsername(username).orElseGet(() -> {
+            UserView loaded = userRepository.findViewByUsername(username)
+                .orElseThrow(() -> new UserNotFoundException("User not found with username: " + username));
+            userViewCache.put(loaded);
+            return loaded;
+        });
         return ApiResponse.success(user);
     }
 
-    public ApiResponse<List<User>> getAllUsers() {
-        List<User> users = userRepository.findAll();
+    @Transactional(readOnly = true)
+    public ApiResponse<List<UserView>> getAllUsers() {
+        List<UserView> users = userRepository.findAllViews();
         return ApiResponse.success(users);
     }
 
-    public ApiResponse<User> updateUser(Long id, UserUpdateRequest request) {
+    public ApiResponse<UserView> updateUser(Long id, UserUpdateRequest request) {
         User user = userRepository.findById(id)
             .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
 
@@ -125,9 +151,11 @@ public class UserService {
         }
 
         User updatedUser = userRepository.save(user);
+        userStatusCache.evict(updatedUser.getUsername());
+        userViewCache.invalidate(updatedUser.getId());
         log.info("User updated successfully: {}", updatedUser.getUsername());
         
-        return ApiResponse.success("User updated successfully", updatedUser);
+        return ApiResponse.success("User updated successfully", UserView.from(updatedUser));
     }
 
     public ApiResponse<Void> deleteUser(Long id) {
@@ -136,18 +164,32 @@ public class UserService {
         }
         
         userRepository.deleteById(id);
+        userStatusCache.evictAll();
+        userViewCache.invalidate(id);
         log.info("User deleted successfully with id: {}", id);
         
         return ApiResponse.success("User deleted successfully", null);
     }
 
-    public ApiResponse<List<User>> searchUsers(String keyword) {
-        List<User> users = userRepository.findByKeyword(keyword);
+    @Transactional(readOnly = true)
+    public ApiResponse<List<UserView>> searchUsers(String keyword, int page, int size) {
+        String normalized = keyword == null ? "" : keyword.trim().toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty()) {
+            return ApiResponse.success(List.of());
+        }
+        int limit = pageSize(size);
+        int offset = Math.max(page, 0) * limit;
+        List<UserView> users = userRepository.searchByKeyword(normalized, "%" + escapeLike(normalized) + "%", limit, offset);
         return ApiResponse.success(users);
     }
 
-    public ApiResponse<List<User>> getUsersByRole(User.Role role) {
-        List<User> users = userRepository.findByRole(role);
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    @Transactional(readOnly = true)
+    public ApiResponse<List<UserView>> getUsersByRole(User.Role role) {
+        List<UserView> users = userRepository.findViewsByRole(role);
         return ApiResponse.success(users);
     }
 
@@ -156,21 +198,66 @@ public class UserService {
         return ApiResponse.success(count);
     }
 
-    public ApiResponse<List<User>> getActiveUsers() {
-        List<User> users = userRepository.findByEnabled(true);
+    @Transactional(readOnly = true)
+    public ApiResponse<List<UserView>> getActiveUsers() {
+        List<UserView> users = userRepository.findViewsByEnabled(true);
         return ApiResponse.success(users);
     }
 
-    public ApiResponse<List<User>> getUsersCreatedAfter(LocalDateTime startDate) {
-        List<User> users = userRepository.findUsersCreatedAfter(startDate);
+    @Transactional(readOnly = true)
+    public ApiResponse<List<UserView>> getUsersCreatedAfter(LocalDateTime startDate) {
+        List<UserView> users = userRepository.findViewsCreatedAfter(startDate);
         return ApiResponse.success(users);
     }
 
+    @Transactional(readOnly = true)
+    public ApiResponse<CursorPage<UserView>> getUsersPage(String cursor, int limit) {
+        int pageSize = pageSize(limit);
+        List<UserView> rows = userRepository.findViewPage(afterId(cursor), firstRows(pageSize));
+        return ApiResponse.success(CursorPage.of(rows, pageSize, user -> KeysetCursor.ofId(user.id())));
+    }
+
+    @Transactional(readOnly = true)
+    public ApiResponse<CursorPage<UserView>> getActiveUsersPage(String cursor, int limit) {
+        int pageSize = pageSize(limit);
+        List<UserView> rows = userRepository.findActiveViewPage(afterId(cursor), firstRows(pageSize));
+        return ApiResponse.success(CursorPage.of(rows, pageSize, user -> KeysetCursor.ofId(user.id())));
+    }
+
+    @Transactional(readOnly = true)
+    public ApiResponse<CursorPage<UserView>> getUsersByRolePage(User.Role role, String cursor, int limit) {
+        int pageSize = pageSize(limit);
+        List<UserView> rows = userRepository.findViewPageByRole(role, afterId(cursor), firstRows(pageSize));
+        return ApiResponse.success(CursorPage.of(rows, pageSize, user -> KeysetCursor.ofId(user.id())));
+    }
+
+    @Transactional(readOnly = true)
+    public ApiResponse<CursorPage<UserView>> getUsersCreatedAfterPage(LocalDateTime startDate, String cursor, int limit) {
+        int pageSize = pageSize(limit);
+        KeysetCursor after = cursor != null ? KeysetCursor.decode(cursor) : new KeysetCursor(startDate, 0L);
+        LocalDateTime afterCreatedAt = after.timestamp() != null ? after.timestamp() : startDate;
+        List<UserView> rows = userRepository.findViewPageCreatedAfter(startDate, afterCreatedAt, after.id(), firstRows(pageSize));
+        return ApiResponse.success(CursorPage.of(rows, pageSize,
+            user -> new KeysetCursor(user.createdAt(), user.id())));
+    }
+
+    private static int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    private static Pageable firstRows(int pageSize) {
+        return PageRequest.of(0, pageSize + 1);
+    }
+
+    private static long afterId(String cursor) {
+        return cursor != null ? KeysetCursor.decode(cursor).id() : 0L;
+    }
+
     public boolean validateToken(String token, String username) {
-        return jwtConfig.validateToken(token, username);
+        return jwtTokenProvider.validateToken(token) && username.equals(jwtTokenProvider.getUsernameFromToken(token));
     }
 
     public String getUsernameFromToken(String token) {
-        return jwtConfig.extractUsername(token);
+        return jwtTokenProvider.getUsernameFromToken(token);
     }
 } 
\ No newline at end of file
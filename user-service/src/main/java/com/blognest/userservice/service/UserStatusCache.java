@@ -0,0 +1,54 @@
+package com.blognest.userservice.service;
+
+import com.blognest.common.security.UserStatusChecker;
+import com.blognest.userservice.dto.UserStatusView;
+import com.blognest.userservice.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * Short-lived view of account status used by claims-based authentication, so a disabled or
+ * locked account is rejected within one TTL without a database read per request.
+ */
+@Service
+public class UserStatusCache implements UserStatusChecker, MeterBinder {
+
+    private final LoadingCache<String, Boolean> activeByUsername;
+
+    public UserStatusCache(UserRepository userRepository,
+                           @Value("${app.security.user-status.ttl:30s}") Duration ttl,
+                           @Value("${app.security.user-status.max-size:10000}") long maxSize) {
+        this.activeByUsername = Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maxSize)
+            .recordStats()
+            .build(username -> userRepository.findStatusByUsername(username)
+                .map(UserStatusView::isActive)
+                .orElse(false));
+    }
+
+    @Override
+    public boolean isActive(String username) {
+        return activeByUsername.get(username);
+    }
+
+    public void evict(String username) {
+        activeByUsername.invalidate(username);
+    }
+
+    public void evictAll() {
+        activeByUsername.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, activeByUsername, "user.status");
+    }
+}
@@ -0,0 +1,205 @@
+package com.blognest.userservice.service;
+
+import com.blognest.userservice.dto.UserView;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Two-tier cache of {@link UserView}s: a bounded local near cache in front of Redis. Lookups
+ * return empty on a miss in both tiers and callers load from the database and {@link #put} the
+ * result. Invalidations are applied after commit and broadcast on a Redis channel so every
+ * replica drops its near copy. Redis errors are treated as misses.
+ *
+ * <p>An invalidation leaves a short-lived tombstone in place of the Redis entry, and {@link #put}
+ * only writes where there is no entry. A lookup that missed and read the row before an update
+ * committed therefore cannot put the old view back once the update has invalidated it.
+ */
+@Slf4j
+@Service
+public class UserViewCache implements MeterBinder {
+
+    private static final String VIEW_KEY_PREFIX = "user:view:";
+    private static final String USERNAME_KEY_PREFIX = "user:username:";
+    private static final String TOMBSTONE = "-";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+    private final Duration invalidationHold;
+    private final String invalidationChannel;
+    private final Cache<Long, UserView> nearViews;
+    private final Cache<String, Long> nearIdsByUsername;
+
+    private final Timer nearLatency;
+    private final Timer redisLatency;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter redisErrors;
+
+    public UserViewCache(StringRedisTemplate redisTemplate,
+                         ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry,
+                         @Value("${app.cache.users.near.ttl:30s}") Duration nearTtl,
+                         @Value("${app.cache.users.near.max-size:10000}") long nearMaxSize,
+                         @Value("${app.cache.users.redis.ttl:10m}") Duration redisTtl,
+                         @Value("${app.cache.users.invalidation-hold:5s}") Duration invalidationHold,
+                         @Value("${app.cache.users.invalidation-channel:user-cache-invalidation}") String invalidationChannel) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtl = redisTtl;
+        this.invalidationHold = invalidationHold;
+        this.invalidationChannel = invalidationChannel;
+        this.nearViews = Caffeine.newBuilder()
+            .expireAfterWrite(nearTtl)
+            .maximumSize(nearMaxSize)
+            .recordStats()
+            .build();
+        this.nearIdsByUsername = Caffeine.newBuilder()
+            .expireAfterWrite(nearTtl)
+            .maximumSize(nearMaxSize)
+            .build();
+        this.nearLatency = Timer.builder("user.view.cache.latency").tag("tier", "near").register(meterRegistry);
+        this.redisLatency = Timer.builder("user.view.cache.latency").tag("tier", "redis").register(meterRegistry);
+        this.redisHits = Counter.builder("user.view.cache.gets").tag("tier", "redis").tag("result", "hit").register(meterRegistry);
+        this.redisMisses = Counter.builder("user.view.cache.gets").tag("tier", "redis").tag("result", "miss").register(meterRegistry);
+        this.redisErrors = Counter.builder("user.view.cache.errors").tag("tier", "redis").register(meterRegistry);
+    }
+
+    public String getInvalidationChannel() {
+        return invalidationChannel;
+    }
+
+    public Optional<UserView> getById(Long id) {
+        UserView view = nearLatency.record(() -> nearViews.getIfPresent(id));
+        if (view != null) {
+            return Optional.of(view);
+        }
+        view = fromRedis(() -> readView(id));
+        if (view != null) {
+            putNear(view);
+        }
+        return Optional.ofNullable(view);
+    }
+
+    public Optional<UserView> getByUsername(String username) {
+        Long id = nearIdsByUsername.getIfPresent(username);
+        if (id == null) {
+            id = fromRedis(() -> {
+                String value = redisTemplate.opsForValue().get(USERNAME_KEY_PREFIX + username);
+                return value != null ? Long.valueOf(value) : null;
+            });
+        }
+        if (id == null) {
+            return Optional.empty();
+        }
+        // The mapping outlives the view if the user was deleted and the name reused
+        return getById(id).filter(view -> view.username().equals(username));
+    }
+
+    /**
+     * Caches a view loaded after a miss, unless the user was invalidated within the last
+     * {@code invalidation-hold} or another lookup has cached it meanwhile.
+     */
+    public void put(UserView view) {
+        try {
+            Boolean stored = redisTemplate.opsForValue()
+                .setIfAbsent(VIEW_KEY_PREFIX + view.id(), objectMapper.writeValueAsString(view), redisTtl);
+            if (!Boolean.TRUE.equals(stored)) {
+                return;
+            }
+            redisTemplate.opsForValue().set(USERNAME_KEY_PREFIX + view.username(), view.id().toString(), redisTtl);
+        } catch (JsonProcessingException | DataAccessException ex) {
+            log.debug("Could not write user {} to Redis: {}", view.id(), ex.getMessage());
+            redisErrors.increment();
+        }
+        putNear(view);
+    }
+
+    /**
+     * Drops the user from both tiers on every replica. Inside a transaction this happens after
+     * commit, so a concurrent read cannot re-cache the pre-update row.
+     */
+    public void invalidate(Long id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doInvalidate(id);
+                }
+            });
+        } else {
+            doInvalidate(id);
+        }
+    }
+
+    /**
+     * Drops the near copy only; called for invalidations received from other replicas.
+     */
+    public void evictLocal(Long id) {
+        nearViews.invalidate(id);
+    }
+
+    private void doInvalidate(Long id) {
+        evictLocal(id);
+        try {
+            redisTemplate.opsForValue().set(VIEW_KEY_PREFIX + id, TOMBSTONE, invalidationHold);
+            redisTemplate.convertAndSend(invalidationChannel, id.toString());
+        } catch (DataAccessException ex) {
+            log.warn("Could not broadcast invalidation for user {}: {}", id, ex.getMessage());
+            redisErrors.increment();
+        }
+    }
+
+    private void putNear(UserView view) {
+        nearViews.put(view.id(), view);
+        nearIdsByUsername.put(view.username(), view.id());
+    }
+
+    private UserView readView(Long id) {
+        String json = redisTemplate.opsForValue().get(VIEW_KEY_PREFIX + id);
+        if (json == null || json.equals(TOMBSTONE)) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, UserView.class);
+        } catch (JsonProcessingException ex) {
+            log.warn("Discarding unreadable cached user {}: {}", id, ex.getMessage());
+            return null;
+        }
+    }
+
+    private <T> T fromRedis(Supplier<T> lookup) {
+        try {
+            T value = redisLatency.record(lookup);
+            (value != null ? redisHits : redisMisses).increment();
+            return value;
+        } catch (DataAccessException ex) {
+            log.debug("Redis lookup failed, falling back to the database: {}", ex.getMessage());
+            redisErrors.increment();
+            return null;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, nearViews, "user.view.near");
+    }
+}
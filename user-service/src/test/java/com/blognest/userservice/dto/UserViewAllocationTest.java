@@ -0,0 +1,89 @@
+package com.blognest.userservice.dto;
+
+import com.blognest.userservice.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserViewAllocationTest {
+
+    private static final int USERS = 10_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private List<User> users;
+    private List<UserView> views;
+
+    @BeforeEach
+    void setUp() {
+        users = new ArrayList<>(USERS);
+        views = new ArrayList<>(USERS);
+        LocalDateTime now = LocalDateTime.now();
+        for (long i = 0; i < USERS; i++) {
+            User user = User.builder()
+                    .id(i)
+                    .username("user" + i)
+                    .email("user" + i + "@example.com")
+                    .password("$2a$10$abcdefghijklmnopqrstuuJ1Zx4dWq9y3yD6xvQkq0V3yS0n5b6e")
+                    .firstName("First")
+                    .lastName("Last")
+                    .role(User.Role.USER)
+                    .enabled(true)
+                    .accountNonExpired(true)
+                    .accountNonLocked(true)
+                    .credentialsNonExpired(true)
+                    .createdAt(now)
+                    .lastLogin(now)
+                    .build();
+            users.add(user);
+            views.add(UserView.from(user));
+        }
+    }
+
+    @Test
+    void serialisingViewsAllocatesLessThanEntities() throws Exception {
+        // Arrange
+        assertTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        for (int i = 0; i < 3; i++) {
+            objectMapper.writeValueAsBytes(users);
+            objectMapper.writeValueAsBytes(views);
+        }
+
+        // Act
+        long entityBytes = allocatedBytes(users);
+        long viewBytes = allocatedBytes(views);
+
+        // Assert
+        assertTrue(viewBytes < entityBytes,
+                "view serialisation allocated " + viewBytes + " bytes, entity serialisation " + entityBytes);
+    }
+
+    @Test
+    void viewOmitsCredentialsAndAuthorities() throws Exception {
+        // Act
+        String json = objectMapper.writeValueAsString(views.get(0));
+
+        // Assert
+        assertFalse(json.contains("password"));
+        assertFalse(json.contains("authorities"));
+        assertTrue(json.contains("\"username\":\"user0\""));
+    }
+
+    private long allocatedBytes(Object value) throws Exception {
+        long threadId = Thread.currentThread().threadId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        objectMapper.writeValueAsBytes(value);
+        return threadMXBean.getThreadAllocatedBytes(threadId) - before;
+    }
+}
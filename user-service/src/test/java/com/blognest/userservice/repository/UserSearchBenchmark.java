@@ -0,0 +1,117 @@
+package com.blognest.userservice.repository;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the four-way LIKE scan that user search used to run against the trigram-indexed
+ * query, over a million seeded users. Both match case-insensitively and return the 20 most
+ * similar matches, so the figures differ by the index alone. Needs a Postgres database with
+ * pg_trgm available; run with
+ * {@code BENCHMARK_JDBC_URL=jdbc:postgresql://... mvn -Pbenchmark test -pl user-service -DskipTests -Djmh.skip=false}
+ * ({@code BENCHMARK_JDBC_USER} and {@code BENCHMARK_JDBC_PASSWORD} default to postgres/password).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserSearchBenchmark {
+
+    private static final String TABLE = "users_search_benchmark";
+    private static final int USERS = 1_000_000;
+
+    private static final String ORDER_BY =
+        " ORDER BY word_similarity(?, " + UserRepository.SEARCH_DOCUMENT + ") DESC, id LIMIT 20";
+
+    private static final String LEGACY_SQL =
+        "SELECT * FROM " + TABLE + " WHERE lower(username) LIKE ? ESCAPE '\\' OR lower(email) LIKE ? ESCAPE '\\' " +
+        "OR lower(first_name) LIKE ? ESCAPE '\\' OR lower(last_name) LIKE ? ESCAPE '\\'" + ORDER_BY;
+
+    private static final String TRIGRAM_SQL =
+        "SELECT * FROM " + TABLE + " WHERE " + UserRepository.SEARCH_DOCUMENT + " LIKE ? ESCAPE '\\'" + ORDER_BY;
+
+    @Param({"user424242", "garcia"})
+    private String keyword;
+
+    private Connection connection;
+    private PreparedStatement legacy;
+    private PreparedStatement trigram;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getenv("BENCHMARK_JDBC_URL");
+        if (url == null) {
+            throw new IllegalStateException("Set BENCHMARK_JDBC_URL to a Postgres database to run the search benchmark");
+        }
+        connection = DriverManager.getConnection(url,
+            System.getenv().getOrDefault("BENCHMARK_JDBC_USER", "postgres"),
+            System.getenv().getOrDefault("BENCHMARK_JDBC_PASSWORD", "password"));
+        seed();
+        legacy = connection.prepareStatement(LEGACY_SQL);
+        trigram = connection.prepareStatement(TRIGRAM_SQL);
+    }
+
+    private void seed() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            statement.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " (id bigint PRIMARY KEY, " +
+                "username varchar(50) NOT NULL, email varchar(255) NOT NULL, " +
+                "first_name varchar(255), last_name varchar(255))");
+            try (ResultSet count = statement.executeQuery("SELECT count(*) FROM " + TABLE)) {
+                count.next();
+                if (count.getLong(1) == USERS) {
+                    return;
+                }
+            }
+            statement.execute("TRUNCATE " + TABLE);
+            statement.execute("INSERT INTO " + TABLE + " SELECT i, 'user' || i, 'user' || i || '@example.com', " +
+                "(ARRAY['anna','ben','chen','dara','emil','fatima','goran','hana'])[1 + i % 8], " +
+                "(ARRAY['smith','garcia','kowalski','nguyen','okafor','rossi','tanaka','weber'])[1 + (i / 8) % 8] " +
+                "FROM generate_series(1, " + USERS + ") AS i");
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_" + TABLE + "_trgm ON " + TABLE +
+                " USING gin ((" + UserRepository.SEARCH_DOCUMENT + ") gin_trgm_ops)");
+            statement.execute("ANALYZE " + TABLE);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int legacyLike() throws SQLException {
+        String pattern = "%" + keyword + "%";
+        for (int i = 1; i <= 4; i++) {
+            legacy.setString(i, pattern);
+        }
+        legacy.setString(5, keyword);
+        return drain(legacy);
+    }
+
+    @Benchmark
+    public int trigramIndex() throws SQLException {
+        trigram.setString(1, "%" + keyword + "%");
+        trigram.setString(2, keyword);
+        return drain(trigram);
+    }
+
+    private static int drain(PreparedStatement statement) throws SQLException {
+        int rows = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,104 @@
+package com.blognest.userservice.security;
+
+import com.blognest.userservice.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (encoder != null) {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    void matches_DelegatesOnPool() {
+        // Arrange
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(new CountDownLatch(0)), 2, 4,
+                Duration.ofSeconds(5), meterRegistry);
+
+        // Act & Assert
+        assertTrue(encoder.matches("secret", "hashed:secret"));
+        assertEquals("hashed:secret", encoder.encode("secret"));
+        assertEquals(1, meterRegistry.get("password.hash.duration").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void matches_RejectsWhenQueueIsFull() throws Exception {
+        // Arrange
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(release), 1, 1,
+                Duration.ofSeconds(5), meterRegistry);
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("a", "hashed:a"));
+        waitUntil(() -> meterRegistry.get("password.hash.active").gauge().value() == 1);
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("b", "hashed:b"));
+        waitUntil(() -> encoder.getQueueDepth() == 1);
+
+        // Act & Assert
+        assertThrows(PasswordHashingRejectedException.class, () -> encoder.matches("c", "hashed:c"));
+        assertEquals(1.0, meterRegistry.get("password.hash.rejected").counter().count());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void matches_RejectsWhenResultTakesTooLong() {
+        // Arrange
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(release), 1, 1,
+                Duration.ofMillis(50), meterRegistry);
+
+        // Act & Assert
+        assertThrows(PasswordHashingRejectedException.class, () -> encoder.matches("a", "hashed:a"));
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not reached in time");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private record BlockingEncoder(CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return encodedPassword.equals("hashed:" + rawPassword);
+        }
+
+        private void await() {
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
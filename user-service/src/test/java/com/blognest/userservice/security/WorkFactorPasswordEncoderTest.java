@@ -0,0 +1,58 @@
+package com.blognest.userservice.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkFactorPasswordEncoderTest {
+
+    private final WorkFactorPasswordEncoder encoder = new WorkFactorPasswordEncoder(5);
+
+    @Test
+    void matches_LegacyUnprefixedHash() {
+        // Arrange
+        String legacyHash = new BCryptPasswordEncoder(4).encode("password");
+
+        // Act & Assert
+        assertTrue(encoder.matches("password", legacyHash));
+        assertFalse(encoder.matches("wrong", legacyHash));
+        assertTrue(encoder.upgradeEncoding(legacyHash));
+    }
+
+    @Test
+    void encode_UsesConfiguredCost() {
+        // Act
+        String hash = encoder.encode("password");
+
+        // Assert
+        assertTrue(hash.startsWith("{bcrypt}$2a$05$"));
+        assertTrue(encoder.matches("password", hash));
+        assertFalse(encoder.upgradeEncoding(hash));
+    }
+
+    @Test
+    void upgradeEncoding_OnlyWhenStoredCostIsLower() {
+        // Arrange
+        String lowerCost = new WorkFactorPasswordEncoder(4).encode("password");
+        String higherCost = new WorkFactorPasswordEncoder(6).encode("password");
+
+        // Act & Assert
+        assertTrue(encoder.upgradeEncoding(lowerCost));
+        assertFalse(encoder.upgradeEncoding(higherCost));
+        assertTrue(encoder.matches("password", higherCost));
+    }
+
+    @Test
+    void calibrate_StaysWithinBounds() {
+        // Act
+        BCryptWorkFactorCalibrator.Calibration calibration =
+                new BCryptWorkFactorCalibrator(4, 6).calibrate(Duration.ofMillis(50));
+
+        // Assert
+        assertTrue(calibration.strength() >= 4 && calibration.strength() <= 6);
+        assertTrue(calibration.verificationTime().compareTo(Duration.ZERO) > 0);
+    }
+}
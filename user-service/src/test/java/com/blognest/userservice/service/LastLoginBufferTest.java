@@ -0,0 +1,99 @@
+package com.blognest.userservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LastLoginBufferTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private UserViewCache userViewCache;
+
+    @Captor
+    private ArgumentCaptor<Collection<Map.Entry<Long, LocalDateTime>>> batch;
+
+    private LastLoginBuffer lastLoginBuffer;
+
+    @BeforeEach
+    void setUp() {
+        lastLoginBuffer = new LastLoginBuffer(jdbcTemplate, userViewCache, new SimpleMeterRegistry(), 500);
+    }
+
+    @Test
+    void flush_CoalescesLoginsIntoOneBatch() {
+        // Arrange
+        LocalDateTime first = LocalDateTime.now().minusMinutes(5);
+        LocalDateTime latest = LocalDateTime.now();
+        lastLoginBuffer.record(1L, first);
+        lastLoginBuffer.record(1L, latest);
+        lastLoginBuffer.record(1L, first);
+        lastLoginBuffer.record(2L, first);
+
+        // Act
+        lastLoginBuffer.flush();
+
+        // Assert
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture(), eq(500), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(2, batch.getValue().size());
+        assertTrue(batch.getValue().contains(Map.entry(1L, latest)));
+        assertEquals(0, lastLoginBuffer.pendingCount());
+        verify(userViewCache).invalidate(1L);
+        verify(userViewCache).invalidate(2L);
+    }
+
+    @Test
+    void flush_RequeuesOnFailure() {
+        // Arrange
+        lastLoginBuffer.record(1L, LocalDateTime.now());
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("database down"));
+
+        // Act
+        lastLoginBuffer.flush();
+
+        // Assert
+        assertEquals(1, lastLoginBuffer.pendingCount());
+        verifyNoInteractions(userViewCache);
+    }
+
+    @Test
+    void shutdown_FlushesPendingUpdates() {
+        // Arrange
+        lastLoginBuffer.record(1L, LocalDateTime.now());
+
+        // Act
+        lastLoginBuffer.shutdown();
+
+        // Assert
+        verify(jdbcTemplate).batchUpdate(anyString(), anyCollection(), eq(500), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    void flush_NothingPending() {
+        // Act
+        lastLoginBuffer.flush();
+
+        // Assert
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
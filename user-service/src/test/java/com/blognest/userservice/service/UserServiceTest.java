@@ -1,12 +1,16 @@
 package com.blognest.userservice.service;
 
 import com.blognest.common.dto.ApiResponse;
+import com.blognest.common.dto.CursorPage;
+import com.blognest.common.dto.KeysetCursor;
 import com.blognest.common.security.JwtTokenProvider;
 import com.blognest.userservice.dto.AuthRequest;
 import com.blognest.userservice.dto.AuthResponse;
 import com.blognest.userservice.dto.UserRegistrationRequest;
 import com.blognest.userservice.dto.UserUpdateRequest;
+import com.blognest.userservice.dto.UserView;
 import com.blognest.userservice.entity.User;
+import com.blognest.userservice.exception.PasswordHashingRejectedException;
 import com.blognest.userservice.exception.UserAlreadyExistsException;
 import com.blognest.userservice.exception.UserNotFoundException;
 import com.blognest.userservice.repository.UserRepository;
@@ -16,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -47,6 +52,15 @@ class UserServiceTest {
     @Mock
     private AuthenticationManager authenticationManager;
 
+    @Mock
+    private UserStatusCache userStatusCache;
+
+    @Mock
+    private LastLoginBuffer lastLoginBuffer;
+
+    @Mock
+    private UserViewCache userViewCache;
+
     @Mock
     private Authentication authentication;
 
@@ -57,6 +71,7 @@ class UserServiceTest {
     private UserService userService;
 
     private User testUser;
+    private UserView testView;
     private AuthRequest authRequest;
     private UserRegistrationRequest registrationRequest;
 
@@ -73,6 +88,7 @@ class UserServiceTest {
                 .enabled(true)
                 .createdAt(LocalDateTime.now())
                 .build();
+        testView = UserView.from(testUser);
 
         authRequest = new AuthRequest("testuser", "password");
         registrationRequest = UserRegistrationRequest.builder()
@@ -91,10 +107,8 @@ class UserServiceTest {
         // Arrange
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(authentication);
-        when(securityContext.getAuthentication()).thenReturn(authentication);
         when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
         when(jwtTokenProvider.generateToken(authentication)).thenReturn("jwt-token");
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
 
         // Act
         ApiResponse<AuthResponse> response = userService.authenticate(authRequest);
@@ -109,7 +123,8 @@ class UserServiceTest {
         assertEquals("test@example.com", response.getData().getEmail());
         assertEquals("USER", response.getData().getRole());
 
-        verify(userRepository).save(any(User.class));
+        verify(lastLoginBuffer).record(eq(1L), any(LocalDateTime.class));
+        verify(userRepository, never()).save(any(User.class));
     }
 
     @Test
@@ -128,6 +143,18 @@ class UserServiceTest {
         assertNull(response.getData());
     }
 
+    @Test
+    void authenticate_PasswordHashingRejected() {
+        // Arrange
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenThrow(new PasswordHashingRejectedException("busy"));
+
+        // Act & Assert
+        assertThrows(PasswordHashingRejectedException.class, () -> {
+            userService.authenticate(authRequest);
+        });
+    }
+
     @Test
     void registerUser_Success() {
         // Arrange
@@ -137,14 +164,14 @@ class UserServiceTest {
         when(userRepository.save(any(User.class))).thenReturn(testUser);
 
         // Act
-        ApiResponse<User> response = userService.registerUser(registrationRequest);
+        ApiResponse<UserView> response = userService.registerUser(registrationRequest);
 
         // Assert
         assertNotNull(response);
         assertEquals("SUCCESS", response.getStatus());
         assertEquals("User registered successfully", response.getMessage());
         assertNotNull(response.getData());
-        assertEquals("testuser", response.getData().getUsername());
+        assertEquals("testuser", response.getData().username());
 
         verify(userRepository).save(any(User.class));
     }
@@ -175,22 +202,36 @@ class UserServiceTest {
     @Test
     void getUserById_Success() {
         // Arrange
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(userRepository.findViewById(1L)).thenReturn(Optional.of(testView));
 
         // Act
-        ApiResponse<User> response = userService.getUserById(1L);
+        ApiResponse<UserView> response = userService.getUserById(1L);
 
         // Assert
         assertNotNull(response);
         assertEquals("SUCCESS", response.getStatus());
         assertNotNull(response.getData());
-        assertEquals(1L, response.getData().getId());
+        assertEquals(1L, response.getData().id());
+        verify(userViewCache).put(testView);
+    }
+
+    @Test
+    void getUserById_CacheHit() {
+        // Arrange
+        when(userViewCache.getById(1L)).thenReturn(Optional.of(testView));
+
+        // Act
+        ApiResponse<UserView> response = userService.getUserById(1L);
+
+        // Assert
+        assertEquals(testView, response.getData());
+        verify(userRepository, never()).findViewById(any());
     }
 
     @Test
     void getUserById_NotFound() {
         // Arrange
-        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+        when(userRepository.findViewById(1L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(UserNotFoundException.class, () -> {
@@ -201,22 +242,22 @@ class UserServiceTest {
     @Test
     void getUserByUsername_Success() {
         // Arrange
-        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(userRepository.findViewByUsername("testuser")).thenReturn(Optional.of(testView));
 
         // Act
-        ApiResponse<User> response = userService.getUserByUsername("testuser");
+        ApiResponse<UserView> response = userService.getUserByUsername("testuser");
 
         // Assert
         assertNotNull(response);
         assertEquals("SUCCESS", response.getStatus());
         assertNotNull(response.getData());
-        assertEquals("testuser", response.getData().getUsername());
+        assertEquals("testuser", response.getData().username());
     }
 
     @Test
     void getUserByUsername_NotFound() {
         // Arrange
-        when(userRepository.findByUsername("testuser")).thenReturn(Optional.empty());
+        when(userRepository.findViewByUsername("testuser")).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(UserNotFoundException.class, () -> {
@@ -227,11 +268,11 @@ class UserServiceTest {
     @Test
     void getAllUsers_Success() {
         // Arrange
-        List<User> users = Arrays.asList(testUser);
-        when(userRepository.findAll()).thenReturn(users);
+        List<UserView> users = Arrays.asList(testView);
+        when(userRepository.findAllViews()).thenReturn(users);
 
         // Act
-        ApiResponse<List<User>> response = userService.getAllUsers();
+        ApiResponse<List<UserView>> response = userService.getAllUsers();
 
         // Assert
         assertNotNull(response);
@@ -240,6 +281,41 @@ class UserServiceTest {
         assertEquals(1, response.getData().size());
     }
 
+    @Test
+    void getUsersPage_HasMore() {
+        // Arrange
+        UserView second = UserView.from(User.builder().id(2L).username("second").role(User.Role.USER).build());
+        UserView third = UserView.from(User.builder().id(3L).username("third").role(User.Role.USER).build());
+        when(userRepository.findViewPage(eq(0L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(testView, second, third));
+
+        // Act
+        ApiResponse<CursorPage<UserView>> response = userService.getUsersPage(null, 2);
+
+        // Assert
+        assertEquals("SUCCESS", response.getStatus());
+        assertEquals(2, response.getData().getItems().size());
+        assertTrue(response.getData().isHasMore());
+        assertEquals(2L, KeysetCursor.decode(response.getData().getNextCursor()).id());
+    }
+
+    @Test
+    void getUsersCreatedAfterPage_LastPage() {
+        // Arrange
+        LocalDateTime startDate = LocalDateTime.now().minusDays(7);
+        String cursor = new KeysetCursor(startDate.plusDays(1), 5L).encode();
+        when(userRepository.findViewPageCreatedAfter(eq(startDate), eq(startDate.plusDays(1)), eq(5L), any(Pageable.class)))
+                .thenReturn(List.of(testView));
+
+        // Act
+        ApiResponse<CursorPage<UserView>> response = userService.getUsersCreatedAfterPage(startDate, cursor, 20);
+
+        // Assert
+        assertEquals(1, response.getData().getItems().size());
+        assertFalse(response.getData().isHasMore());
+        assertNull(response.getData().getNextCursor());
+    }
+
     @Test
     void updateUser_Success() {
         // Arrange
@@ -254,7 +330,7 @@ class UserServiceTest {
         when(userRepository.save(any(User.class))).thenReturn(testUser);
 
         // Act
-        ApiResponse<User> response = userService.updateUser(1L, updateRequest);
+        ApiResponse<UserView> response = userService.updateUser(1L, updateRequest);
 
         // Assert
         assertNotNull(response);
@@ -291,6 +367,7 @@ class UserServiceTest {
         assertEquals("User deleted successfully", response.getMessage());
 
         verify(userRepository).deleteById(1L);
+        verify(userViewCache).invalidate(1L);
     }
 
     @Test
@@ -307,11 +384,11 @@ class UserServiceTest {
     @Test
     void searchUsers_Success() {
         // Arrange
-        List<User> users = Arrays.asList(testUser);
-        when(userRepository.findByKeyword("test")).thenReturn(users);
+        List<UserView> users = Arrays.asList(testView);
+        when(userRepository.searchByKeyword("test", "%test%", 20, 0)).thenReturn(users);
 
         // Act
-        ApiResponse<List<User>> response = userService.searchUsers("test");
+        ApiResponse<List<UserView>> response = userService.searchUsers(" Test ", 0, 20);
 
         // Assert
         assertNotNull(response);
@@ -320,14 +397,37 @@ class UserServiceTest {
         assertEquals(1, response.getData().size());
     }
 
+    @Test
+    void searchUsers_EscapesWildcardsAndPages() {
+        // Arrange
+        when(userRepository.searchByKeyword("50%_off", "%50\\%\\_off%", 10, 20)).thenReturn(List.of());
+
+        // Act
+        ApiResponse<List<UserView>> response = userService.searchUsers("50%_off", 2, 10);
+
+        // Assert
+        assertEquals("SUCCESS", response.getStatus());
+        assertTrue(response.getData().isEmpty());
+    }
+
+    @Test
+    void searchUsers_BlankKeyword() {
+        // Act
+        ApiResponse<List<UserView>> response = userService.searchUsers("  ", 0, 20);
+
+        // Assert
+        assertTrue(response.getData().isEmpty());
+        verifyNoInteractions(userRepository);
+    }
+
     @Test
     void getUsersByRole_Success() {
         // Arrange
-        List<User> users = Arrays.asList(testUser);
-        when(userRepository.findByRole(User.Role.USER)).thenReturn(users);
+        List<UserView> users = Arrays.asList(testView);
+        when(userRepository.findViewsByRole(User.Role.USER)).thenReturn(users);
 
         // Act
-        ApiResponse<List<User>> response = userService.getUsersByRole(User.Role.USER);
+        ApiResponse<List<UserView>> response = userService.getUsersByRole(User.Role.USER);
 
         // Assert
         assertNotNull(response);
@@ -353,11 +453,11 @@ class UserServiceTest {
     @Test
     void getActiveUsers_Success() {
         // Arrange
-        List<User> users = Arrays.asList(testUser);
-        when(userRepository.findByEnabled(true)).thenReturn(users);
+        List<UserView> users = Arrays.asList(testView);
+        when(userRepository.findViewsByEnabled(true)).thenReturn(users);
 
         // Act
-        ApiResponse<List<User>> response = userService.getActiveUsers();
+        ApiResponse<List<UserView>> response = userService.getActiveUsers();
 
         // Assert
         assertNotNull(response);
@@ -370,11 +470,11 @@ class UserServiceTest {
     void getUsersCreatedAfter_Success() {
         // Arrange
         LocalDateTime startDate = LocalDateTime.now().minusDays(7);
-        List<User> users = Arrays.asList(testUser);
-        when(userRepository.findUsersCreatedAfter(startDate)).thenReturn(users);
+        List<UserView> users = Arrays.asList(testView);
+        when(userRepository.findViewsCreatedAfter(startDate)).thenReturn(users);
 
         // Act
-        ApiResponse<List<User>> response = userService.getUsersCreatedAfter(startDate);
+        ApiResponse<List<UserView>> response = userService.getUsersCreatedAfter(startDate);
 
         // Assert
         assertNotNull(response);
@@ -389,6 +489,7 @@ class UserServiceTest {
         String token = "valid-token";
         String username = "testuser";
         when(jwtTokenProvider.validateToken(token)).thenReturn(true);
+        when(jwtTokenProvider.getUsernameFromToken(token)).thenReturn(username);
 
         // Act
         boolean result = userService.validateToken(token, username);
@@ -397,6 +498,20 @@ class UserServiceTest {
         assertTrue(result);
     }
 
+    @Test
+    void validateToken_SubjectMismatch() {
+        // Arrange
+        String token = "valid-token";
+        when(jwtTokenProvider.validateToken(token)).thenReturn(true);
+        when(jwtTokenProvider.getUsernameFromToken(token)).thenReturn("otheruser");
+
+        // Act
+        boolean result = userService.validateToken(token, "testuser");
+
+        // Assert
+        assertFalse(result);
+    }
+
     @Test
     void validateToken_Failure() {
         // Arrange
@@ -0,0 +1,122 @@
+package com.blognest.userservice.service;
+
+import com.blognest.userservice.dto.UserView;
+import com.blognest.userservice.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserViewCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private SimpleMeterRegistry meterRegistry;
+    private UserViewCache userViewCache;
+    private UserView view;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userViewCache = new UserViewCache(redisTemplate, objectMapper, meterRegistry,
+                Duration.ofMinutes(1), 100, Duration.ofMinutes(10), Duration.ofSeconds(5), "user-cache-invalidation");
+        view = new UserView(1L, "testuser", "test@example.com", "Test", "User",
+                User.Role.USER, true, LocalDateTime.now().withNano(0), null);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    void getById_RedisHitIsPromotedToNearCache() throws Exception {
+        // Arrange
+        when(valueOperations.get("user:view:1")).thenReturn(objectMapper.writeValueAsString(view));
+
+        // Act
+        Optional<UserView> first = userViewCache.getById(1L);
+        Optional<UserView> second = userViewCache.getById(1L);
+
+        // Assert
+        assertEquals(Optional.of(view), first);
+        assertEquals(Optional.of(view), second);
+        verify(valueOperations, times(1)).get("user:view:1");
+        assertEquals(1.0, meterRegistry.get("user.view.cache.gets").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    void getByUsername_UsesNearIndexAfterPut() {
+        // Arrange
+        when(valueOperations.setIfAbsent(eq("user:view:1"), anyString(), any(Duration.class))).thenReturn(true);
+
+        // Act
+        userViewCache.put(view);
+        Optional<UserView> cached = userViewCache.getByUsername("testuser");
+
+        // Assert
+        assertEquals(Optional.of(view), cached);
+        verify(valueOperations, never()).get(anyString());
+        verify(valueOperations).set(eq("user:username:testuser"), eq("1"), any(Duration.class));
+    }
+
+    @Test
+    void getById_RedisFailureIsAMiss() {
+        // Arrange
+        when(valueOperations.get("user:view:1")).thenThrow(new RedisConnectionFailureException("down"));
+
+        // Act
+        Optional<UserView> cached = userViewCache.getById(1L);
+
+        // Assert
+        assertTrue(cached.isEmpty());
+        assertEquals(1.0, meterRegistry.get("user.view.cache.errors").counter().count());
+    }
+
+    @Test
+    void invalidate_EvictsBothTiersAndBroadcasts() {
+        // Arrange
+        when(valueOperations.setIfAbsent(eq("user:view:1"), anyString(), any(Duration.class))).thenReturn(true);
+        userViewCache.put(view);
+
+        // Act
+        userViewCache.invalidate(1L);
+
+        // Assert
+        verify(valueOperations).set("user:view:1", "-", Duration.ofSeconds(5));
+        verify(redisTemplate).convertAndSend("user-cache-invalidation", "1");
+        when(valueOperations.get("user:view:1")).thenReturn("-");
+        assertTrue(userViewCache.getById(1L).isEmpty());
+    }
+
+    @Test
+    void put_SkipsViewLoadedBeforeAConcurrentInvalidation() {
+        // Arrange
+        when(valueOperations.setIfAbsent(eq("user:view:1"), anyString(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get("user:view:1")).thenReturn("-");
+
+        // Act
+        userViewCache.put(view);
+
+        // Assert
+        assertTrue(userViewCache.getById(1L).isEmpty());
+        verify(valueOperations, never()).set(eq("user:username:testuser"), anyString(), any(Duration.class));
+    }
+}